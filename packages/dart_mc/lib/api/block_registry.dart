@@ -56,15 +56,16 @@ class BlockRegistry {
     final path = parts[1];
 
     // Create the proxy block in Java
-    // JNI signature: (FFZ I DDD ZZZ Z)J
+    // JNI signature: (FFZ I DDD ZZZ Z I)J
     // float hardness, float resistance, boolean requiresTool,
     // int luminance, double slipperiness, double velocityMultiplier, double jumpVelocityMultiplier,
-    // boolean ticksRandomly, boolean collidable, boolean replaceable, boolean burnable
+    // boolean ticksRandomly, boolean collidable, boolean replaceable, boolean burnable,
+    // int hooks
     // returns long
     final handlerId = GenericJniBridge.callStaticLongMethod(
       'com/redstone/proxy/ProxyRegistry',
       'createBlock',
-      '(FFZIDDDZZZ Z)J'.replaceAll(' ', ''),
+      '(FFZIDDDZZZ Z I)J'.replaceAll(' ', ''),
       [
         block.settings.hardness,
         block.settings.resistance,
@@ -77,6 +78,7 @@ class BlockRegistry {
         block.settings.collidable,
         block.settings.replaceable,
         block.settings.burnable,
+        BlockHook.mask(block.hooks),
       ],
     );
 
@@ -25,13 +25,15 @@
 /// ```
 library;
 
+import 'dart:async';
 import 'dart:convert';
 import 'dart:ffi';
-
-import 'package:ffi/ffi.dart';
+import 'dart:typed_data';
 
 import '../src/bridge.dart';
+import '../src/events.dart';
 import '../src/jni/generic_bridge.dart';
+import '../src/types.dart';
 import 'player.dart';
 
 /// The type of a command argument.
@@ -51,7 +53,7 @@ enum ArgumentType {
   /// A player selector argument (returns Player).
   player,
 
-  /// A block position argument (x, y, z).
+  /// A block position argument (returns BlockPos).
   position,
 
   /// A block type argument.
@@ -62,6 +64,9 @@ enum ArgumentType {
 
   /// A greedy string (consumes all remaining input).
   greedyString,
+
+  /// An entity selector argument (returns a `List<int>` of entity IDs).
+  entities,
 }
 
 /// Represents a command argument definition.
@@ -101,6 +106,11 @@ class CommandContext {
   final Player source;
 
   /// The parsed arguments as a map.
+  ///
+  /// Values are typed by [ArgumentType]: `String` for string, block, item
+  /// and greedy string arguments, `int`, `double` and `bool` for numbers and
+  /// booleans, the entity ID (`int`) for player, [BlockPos] for position and
+  /// `List<int>` of entity IDs for entities.
   final Map<String, dynamic> arguments;
 
   /// Internal handler for sending feedback.
@@ -134,11 +144,21 @@ class CommandContext {
     }
     return value as T;
   }
+
+  /// Completes at the start of the next server tick.
+  ///
+  /// Async command handlers can await this between chunks of work to spread
+  /// a long job over several ticks instead of stalling one.
+  Future<void> nextTick() => Commands._nextTick();
 }
 
 /// Callback type for command execution.
 typedef CommandExecuteCallback = int Function(CommandContext context);
 
+/// Callback type for async command execution.
+typedef AsyncCommandExecuteCallback = Future<int> Function(
+    CommandContext context);
+
 /// Registry for custom Minecraft commands.
 ///
 /// Commands must be registered during mod initialization.
@@ -146,6 +166,8 @@ class Commands {
   static final Map<int, _RegisteredCommand> _commands = {};
   static int _nextCommandId = 1;
   static bool _handlersRegistered = false;
+  static final List<Completer<void>> _tickWaiters = [];
+  static bool _tickListenerAdded = false;
 
   Commands._();
 
@@ -165,6 +187,39 @@ class Commands {
     List<CommandArgument>? arguments,
     int permission = 0,
   }) {
+    return _register(name, execute, null, description, arguments, permission);
+  }
+
+  /// Register a custom command whose handler runs asynchronously.
+  ///
+  /// The command returns to Minecraft as soon as [execute] starts. The
+  /// handler runs on the server thread like any other Dart code, so the work
+  /// it does before its first `await` still runs in the tick the command was
+  /// issued in; a long handler should await [CommandContext.nextTick] between
+  /// chunks of work to spread it across ticks. Its result and any feedback
+  /// are delivered to the command source (player, command block or console)
+  /// at the start of the next tick. A handler that hasn't completed after 60
+  /// seconds fails with a timeout message.
+  ///
+  /// Takes the same parameters as [register]. Returns the command ID.
+  static int registerAsync(
+    String name, {
+    required AsyncCommandExecuteCallback execute,
+    String? description,
+    List<CommandArgument>? arguments,
+    int permission = 0,
+  }) {
+    return _register(name, null, execute, description, arguments, permission);
+  }
+
+  static int _register(
+    String name,
+    CommandExecuteCallback? execute,
+    AsyncCommandExecuteCallback? executeAsync,
+    String? description,
+    List<CommandArgument>? arguments,
+    int permission,
+  ) {
     // Ensure handlers are registered
     _ensureHandlersRegistered();
 
@@ -175,6 +230,7 @@ class Commands {
       id: commandId,
       name: name,
       execute: execute,
+      executeAsync: executeAsync,
       description: description,
       arguments: arguments ?? [],
       permission: permission,
@@ -189,8 +245,15 @@ class Commands {
     final success = GenericJniBridge.callStaticBoolMethod(
       'com/redstone/proxy/CommandRegistry',
       'registerCommand',
-      '(JLjava/lang/String;Ljava/lang/String;Ljava/lang/String;I)Z',
-      [commandId, name, description ?? '', argsJson, permission],
+      '(JLjava/lang/String;Ljava/lang/String;Ljava/lang/String;IZ)Z',
+      [
+        commandId,
+        name,
+        description ?? '',
+        argsJson,
+        permission,
+        executeAsync != null,
+      ],
     );
 
     if (!success) {
@@ -224,7 +287,7 @@ class Commands {
   static int _onCommandExecute(
     int commandId,
     int playerId,
-    Pointer<Utf8> argsJson,
+    int frameBytes,
   ) {
     final command = _commands[commandId];
     if (command == null) {
@@ -233,10 +296,13 @@ class Commands {
     }
 
     try {
-      // Parse the arguments JSON
-      final argsString = argsJson.toDartString();
-      final Map<String, dynamic> args =
-          argsString.isEmpty ? {} : jsonDecode(argsString);
+      // Decode the typed argument frame
+      final args = _ArgumentFrame.decode(command.arguments);
+
+      final executeAsync = command.executeAsync;
+      if (executeAsync != null) {
+        return _startAsync(command, executeAsync, playerId, args);
+      }
 
       // Create the context
       final context = CommandContext._(
@@ -247,7 +313,7 @@ class Commands {
       );
 
       // Execute the command
-      return command.execute(context);
+      return command.execute!(context);
     } catch (e) {
       print('Commands: Error executing ${command.name}: $e');
       _sendError(playerId, 'Command error: $e');
@@ -255,6 +321,70 @@ class Commands {
     }
   }
 
+  /// Start an async command. Returns 1 once the handler is running; the
+  /// result is reported to Java when its future completes.
+  static int _startAsync(
+    _RegisteredCommand command,
+    AsyncCommandExecuteCallback executeAsync,
+    int playerId,
+    Map<String, dynamic> args,
+  ) {
+    final executionId = _ArgumentFrame.executionId;
+    final context = CommandContext._(
+      source: Player(playerId),
+      arguments: args,
+      sendFeedback: (msg) => _sendAsyncFeedback(executionId, msg, false),
+      sendError: (msg) => _sendAsyncFeedback(executionId, msg, true),
+    );
+
+    executeAsync(context).then(
+      (result) => _completeAsync(executionId, result),
+      onError: (Object e) {
+        print('Commands: Error executing ${command.name}: $e');
+        _sendAsyncFeedback(executionId, 'Command error: $e', true);
+        _completeAsync(executionId, 0);
+      },
+    );
+    return 1;
+  }
+
+  /// Report the result of an async command execution.
+  static void _completeAsync(int executionId, int result) {
+    GenericJniBridge.callStaticVoidMethod(
+      'com/redstone/proxy/CommandRegistry',
+      'completeAsync',
+      '(JI)V',
+      [executionId, result],
+    );
+  }
+
+  /// Send feedback for an async command execution to its source.
+  static void _sendAsyncFeedback(int executionId, String message, bool error) {
+    GenericJniBridge.callStaticVoidMethod(
+      'com/redstone/proxy/CommandRegistry',
+      'sendAsyncFeedback',
+      '(JLjava/lang/String;Z)V',
+      [executionId, message, error],
+    );
+  }
+
+  static Future<void> _nextTick() {
+    if (!_tickListenerAdded) {
+      _tickListenerAdded = true;
+      Events.addTickListener((_) {
+        if (_tickWaiters.isEmpty) return;
+        final waiters = List.of(_tickWaiters);
+        _tickWaiters.clear();
+        for (final waiter in waiters) {
+          waiter.complete();
+        }
+      });
+    }
+    final completer = Completer<void>();
+    _tickWaiters.add(completer);
+    return completer.future;
+  }
+
   /// Send feedback to a player.
   static void _sendFeedback(int playerId, String message) {
     GenericJniBridge.callStaticVoidMethod(
@@ -289,7 +419,8 @@ class Commands {
 class _RegisteredCommand {
   final int id;
   final String name;
-  final CommandExecuteCallback execute;
+  final CommandExecuteCallback? execute;
+  final AsyncCommandExecuteCallback? executeAsync;
   final String? description;
   final List<CommandArgument> arguments;
   final int permission;
@@ -297,20 +428,81 @@ class _RegisteredCommand {
   _RegisteredCommand({
     required this.id,
     required this.name,
-    required this.execute,
+    this.execute,
+    this.executeAsync,
     this.description,
     required this.arguments,
     required this.permission,
   });
 }
 
+/// Reader for the argument frame Java writes before each command execution.
+///
+/// Layout (see CommandRegistry.java):
+/// - int32 presence mask (bit i = argument i provided), int32 frame length,
+///   int64 async execution ID (0 for synchronous commands)
+/// - one [slotBytes] slot per argument, in definition order
+/// - variable data (UTF-8 strings, entity ID lists) referenced from slots
+class _ArgumentFrame {
+  static const int headerBytes = 16;
+  static const int slotBytes = 16;
+
+  static final ByteData? _frame = GenericJniBridge.staticBufferData(
+      'com/redstone/proxy/CommandRegistry', 'getArgumentFrame');
+
+  /// Async execution ID of the command being executed (0 if synchronous).
+  static int get executionId => _frame?.getInt64(8, Endian.host) ?? 0;
+
+  static Map<String, dynamic> decode(List<CommandArgument> arguments) {
+    final args = <String, dynamic>{};
+    final frame = _frame;
+    if (frame == null || arguments.isEmpty) return args;
+
+    final mask = frame.getInt32(0, Endian.host);
+    for (var i = 0; i < arguments.length; i++) {
+      if (mask & (1 << i) == 0) continue;
+      final offset = headerBytes + i * slotBytes;
+      args[arguments[i].name] = switch (arguments[i].type) {
+        ArgumentType.integer ||
+        ArgumentType.player =>
+          frame.getInt32(offset, Endian.host),
+        ArgumentType.double_ => frame.getFloat64(offset, Endian.host),
+        ArgumentType.bool_ => frame.getInt32(offset, Endian.host) != 0,
+        ArgumentType.position => BlockPos(
+            frame.getInt32(offset, Endian.host),
+            frame.getInt32(offset + 4, Endian.host),
+            frame.getInt32(offset + 8, Endian.host),
+          ),
+        ArgumentType.entities => List<int>.generate(
+            frame.getInt32(offset + 4, Endian.host),
+            (n) => frame.getInt32(
+                frame.getInt32(offset, Endian.host) + n * 4, Endian.host),
+          ),
+        ArgumentType.string ||
+        ArgumentType.block ||
+        ArgumentType.item ||
+        ArgumentType.greedyString =>
+          utf8.decode(Uint8List.sublistView(
+            frame,
+            frame.getInt32(offset, Endian.host),
+            frame.getInt32(offset, Endian.host) +
+                frame.getInt32(offset + 4, Endian.host),
+          )),
+      };
+    }
+    return args;
+  }
+}
+
 // =============================================================================
 // FFI Callback Type Definitions
 // =============================================================================
 
 /// Native callback type for command execution.
+///
+/// Arguments are in the shared argument frame; [frameBytes] is its used length.
 typedef CommandExecuteCallbackNative = Int32 Function(
   Int64 commandId,
   Int32 playerId,
-  Pointer<Utf8> argsJson,
+  Int32 frameBytes,
 );
@@ -12,6 +12,34 @@ enum ActionResult {
   fail, // 4 - Interaction failed
 }
 
+/// Optional [CustomBlock] callbacks that Java only forwards when declared.
+///
+/// The bit order must match the HOOK_* constants in ProxyRegistry.java.
+enum BlockHook {
+  steppedOn, // onSteppedOn
+  fallenUpon, // onFallenUpon
+  randomTick, // randomTick
+  placed, // onPlaced
+  removed, // onRemoved
+  neighborChanged, // neighborChanged
+  entityInside; // entityInside
+
+  int get bit => 1 << index;
+
+  /// Bitmask with every hook set.
+  static int get allBits => (1 << values.length) - 1;
+
+  /// Bitmask for [hooks]; null means every hook.
+  static int mask(Set<BlockHook>? hooks) {
+    if (hooks == null) return allBits;
+    var mask = 0;
+    for (final hook in hooks) {
+      mask |= hook.bit;
+    }
+    return mask;
+  }
+}
+
 /// Settings for creating a block.
 class BlockSettings {
   final double hardness;
@@ -90,6 +118,13 @@ abstract class CustomBlock {
   /// If null, drops itself (as a BlockItem).
   final String? drops;
 
+  /// The optional callbacks this block overrides.
+  ///
+  /// Java skips the bridge call entirely for hooks not in this set, which
+  /// matters for [entityInside] and [neighborChanged] as they fire constantly.
+  /// If null (the default), every hook is forwarded.
+  final Set<BlockHook>? hooks;
+
   /// Internal handler ID assigned during registration.
   int? _handlerId;
 
@@ -98,6 +133,7 @@ abstract class CustomBlock {
     required this.settings,
     this.model,
     this.drops,
+    this.hooks,
   });
 
   /// Get the handler ID (only available after registration).
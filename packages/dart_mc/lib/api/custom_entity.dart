@@ -28,6 +28,37 @@ enum EntityBaseType {
   projectile,
 }
 
+/// Controls how often [CustomEntity.onTick] is called.
+///
+/// Due entities are collected during the server tick and delivered to Dart
+/// in one batch, so a throttled policy keeps large numbers of entities cheap.
+class EntityTickPolicy {
+  /// Tick mode (matches EntityProxyRegistry.TICK_* on the Java side).
+  final int mode;
+
+  /// Call onTick every [interval] server ticks.
+  final int interval;
+
+  /// For [EntityTickPolicy.nearPlayers], the player proximity radius in blocks.
+  final double radius;
+
+  const EntityTickPolicy._(this.mode, this.interval, this.radius);
+
+  /// Never call onTick.
+  static const never = EntityTickPolicy._(0, 1, 0);
+
+  /// Call onTick every server tick (20 times per second).
+  static const everyTick = EntityTickPolicy._(1, 1, 0);
+
+  /// Call onTick every [interval] server ticks.
+  const EntityTickPolicy.every(int interval) : this._(1, interval, 0);
+
+  /// Call onTick only while a player is within [radius] blocks,
+  /// every [interval] server ticks.
+  const EntityTickPolicy.nearPlayers(double radius, {int interval = 1})
+      : this._(2, interval, radius);
+}
+
 /// Settings for creating a custom entity.
 class EntitySettings {
   /// The entity's collision box width.
@@ -53,6 +84,14 @@ class EntitySettings {
   /// Tick callbacks are expensive (20 times/second per entity).
   final bool needsTickCallback;
 
+  /// How often onTick is called. Overrides [needsTickCallback] when set.
+  final EntityTickPolicy? tickPolicy;
+
+  /// The effective tick policy for this entity.
+  EntityTickPolicy get effectiveTickPolicy =>
+      tickPolicy ??
+      (needsTickCallback ? EntityTickPolicy.everyTick : EntityTickPolicy.never);
+
   /// The entity model for rendering.
   /// If null, a default model will be used.
   final EntityModel? model;
@@ -68,6 +107,7 @@ class EntitySettings {
     this.attackDamage = 2.0,
     this.spawnGroup = SpawnGroup.creature,
     this.needsTickCallback = false,
+    this.tickPolicy,
     this.model,
   });
 }
@@ -98,6 +138,7 @@ class MonsterSettings extends EntitySettings {
     this.goals,
     this.targetGoals,
     super.needsTickCallback = false,
+    super.tickPolicy,
     super.model,
   }) : super(spawnGroup: SpawnGroup.monster);
 
@@ -132,6 +173,7 @@ class AnimalSettings extends EntitySettings {
     this.goals,
     this.targetGoals,
     super.needsTickCallback = false,
+    super.tickPolicy,
     super.model,
   }) : super(spawnGroup: SpawnGroup.creature);
 
@@ -156,6 +198,7 @@ class ProjectileSettings extends EntitySettings {
     this.gravity = 0.03,
     this.noClip = false,
     super.needsTickCallback = false,
+    super.tickPolicy,
     super.model,
   }) : super(
           maxHealth: 1,
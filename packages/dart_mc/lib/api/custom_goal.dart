@@ -4,6 +4,10 @@
 /// entity goals that control AI behavior through Dart callbacks.
 library;
 
+import 'dart:ffi';
+
+import '../src/jni/generic_bridge.dart';
+
 /// Flags that indicate what controls a goal uses.
 /// Goals with conflicting flags cannot run simultaneously.
 enum GoalFlag {
@@ -48,11 +52,22 @@ abstract class CustomGoal {
   /// Set to false if the goal only needs occasional updates.
   final bool requiresUpdateEveryTick;
 
+  /// Whether to evaluate this goal for all mobs in one batch per tick.
+  ///
+  /// By default canUse, canContinueToUse and tick are called when the mob's
+  /// goal selector asks. A batched goal is evaluated for every mob in one
+  /// call at the end of each server tick instead, which is much cheaper with
+  /// many mobs, but its answers take effect one tick late: the goal starts
+  /// a tick after canUse first returns true and runs a tick after
+  /// canContinueToUse returns false.
+  final bool batched;
+
   const CustomGoal({
     required this.id,
     required this.priority,
     this.flags = const {},
     this.requiresUpdateEveryTick = true,
+    this.batched = false,
   });
 
   /// Called to check if this goal can start.
@@ -79,6 +94,7 @@ abstract class CustomGoal {
         'priority': priority,
         'flags': flags.map((f) => f.name).toList(),
         'requiresUpdateEveryTick': requiresUpdateEveryTick,
+        'batched': batched,
       };
 }
 
@@ -87,12 +103,31 @@ abstract class CustomGoal {
 class CustomGoalRegistry {
   static final Map<String, CustomGoal> _goals = {};
 
+  /// Goals indexed by the int ID Java interned for them (GoalScheduler).
+  static final List<CustomGoal?> _goalsByIndex = [];
+
+  // Batch record kinds - must match GoalScheduler.java
+  static const int _kindCanUse = 0;
+  static const int _kindCanContinue = 1;
+  static const int _kindTick = 2;
+
   /// Register a custom goal type.
   static void register(CustomGoal goal) {
     if (_goals.containsKey(goal.id)) {
       throw StateError('Goal ${goal.id} is already registered');
     }
     _goals[goal.id] = goal;
+
+    final index = GenericJniBridge.callStaticIntMethod(
+      'com/redstone/proxy/GoalScheduler',
+      'intern',
+      '(Ljava/lang/String;)I',
+      [goal.id],
+    );
+    while (_goalsByIndex.length <= index) {
+      _goalsByIndex.add(null);
+    }
+    _goalsByIndex[index] = goal;
     print('CustomGoalRegistry: Registered goal ${goal.id}');
   }
 
@@ -139,4 +174,40 @@ class CustomGoalRegistry {
   static void dispatchStop(String goalId, int entityId) {
     _goals[goalId]?.stop(entityId);
   }
+
+  /// Dispatch a tick's worth of queued canUse/canContinueToUse checks and
+  /// ticks from every mob of [CustomGoal.batched] goals. Called by native
+  /// bridge once per server tick.
+  ///
+  /// Each record is (kind, goalIndex, entityId, result); the answer to a
+  /// query is written back into its result slot. A goal that throws leaves
+  /// its record's result at false and does not affect the other records.
+  /// The time each record took goes into [elapsedNanos] for the dispatch
+  /// profiler (left at -1 for unknown goals).
+  static void dispatchBatch(Pointer<Int32> records, int count, Pointer<Int64> elapsedNanos) {
+    final stopwatch = Stopwatch()..start();
+    for (var i = 0; i < count; i++) {
+      final record = records + i * 4;
+      final index = record[1];
+      final goal = index >= 0 && index < _goalsByIndex.length
+          ? _goalsByIndex[index]
+          : null;
+      if (goal == null) continue;
+
+      final start = stopwatch.elapsedTicks;
+      try {
+        switch (record[0]) {
+          case _kindCanUse:
+            record[3] = goal.canUse(record[2]) ? 1 : 0;
+          case _kindCanContinue:
+            record[3] = goal.canContinueToUse(record[2]) ? 1 : 0;
+          case _kindTick:
+            goal.tick(record[2]);
+        }
+      } catch (e) {
+        print('CustomGoalRegistry: Error in goal ${goal.id} for entity ${record[2]}: $e');
+      }
+      elapsedNanos[i] = (stopwatch.elapsedTicks - start) * 1000000000 ~/ Stopwatch.frequency;
+    }
+  }
 }
@@ -1,6 +1,8 @@
 /// Entity API for interacting with Minecraft entities.
 library;
 
+import 'dart:typed_data';
+
 import '../src/jni/generic_bridge.dart';
 import '../src/types.dart';
 import 'entity_registry.dart';
@@ -797,27 +799,7 @@ class Entities {
 
   /// Get entities in an axis-aligned bounding box.
   static List<Entity> getEntitiesInBox(World world, Vec3 min, Vec3 max, {String? type}) {
-    final entityIdsStr = GenericJniBridge.callStaticStringMethod(
-      _dartBridge,
-      'getEntitiesInBox',
-      '(Ljava/lang/String;DDDDDD)Ljava/lang/String;',
-      [world.dimensionId, min.x, min.y, min.z, max.x, max.y, max.z],
-    );
-    if (entityIdsStr == null || entityIdsStr.isEmpty) return [];
-
-    final entities = <Entity>[];
-    for (final idStr in entityIdsStr.split(',')) {
-      final id = int.tryParse(idStr);
-      if (id != null) {
-        final entity = getTypedEntity(id);
-        if (entity != null) {
-          if (type == null || entity.type == type) {
-            entities.add(entity);
-          }
-        }
-      }
-    }
-    return entities;
+    return _toEntities(getEntityIdsInBox(world, min, max, type: type));
   }
 
   /// Get entities in a radius around a point.
@@ -827,27 +809,7 @@ class Entities {
     double radius, {
     String? type,
   }) {
-    final entityIdsStr = GenericJniBridge.callStaticStringMethod(
-      _dartBridge,
-      'getEntitiesInRadius',
-      '(Ljava/lang/String;DDDD)Ljava/lang/String;',
-      [world.dimensionId, center.x, center.y, center.z, radius],
-    );
-    if (entityIdsStr == null || entityIdsStr.isEmpty) return [];
-
-    final entities = <Entity>[];
-    for (final idStr in entityIdsStr.split(',')) {
-      final id = int.tryParse(idStr);
-      if (id != null) {
-        final entity = getTypedEntity(id);
-        if (entity != null) {
-          if (type == null || entity.type == type) {
-            entities.add(entity);
-          }
-        }
-      }
-    }
-    return entities;
+    return _toEntities(getEntityIdsInRadius(world, center, radius, type: type));
   }
 
   /// Get the nearest entity to a position.
@@ -877,30 +839,242 @@ class Entities {
     return nearest;
   }
 
+  /// Read the state of many entities in a single bridge call.
+  ///
+  /// Much cheaper than reading [Entity] getters one at a time when
+  /// processing many entities per tick. Entities that no longer exist are
+  /// omitted from the result.
+  static List<EntitySnapshot> snapshot(List<int> ids) {
+    if (ids.isEmpty) return const [];
+
+    final data = _SnapshotBuffer.acquire(ids.length);
+    if (data == null) return const [];
+
+    for (var i = 0; i < ids.length; i++) {
+      data.setInt32(i * EntitySnapshot.stride, ids[i], Endian.host);
+    }
+
+    final found = GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'snapshotEntities',
+      '(Ljava/nio/ByteBuffer;I)I',
+      [_SnapshotBuffer._handle, ids.length],
+    );
+    if (found <= 0) return const [];
+
+    final result = <EntitySnapshot>[];
+    for (var i = 0; i < ids.length; i++) {
+      final base = i * EntitySnapshot.stride;
+      if (data.getInt32(base + 4, Endian.host) & EntitySnapshot._found == 0) {
+        continue;
+      }
+      result.add(EntitySnapshot._read(data, base));
+    }
+    return result;
+  }
+
   /// Get all entities of a specific type in a world.
   static List<Entity> getEntitiesByType(World world, String type) {
-    final entityIdsStr = GenericJniBridge.callStaticStringMethod(
+    return _toEntities(getEntityIdsByType(world, type));
+  }
+
+  // ==========================================================================
+  // ID queries
+  // ==========================================================================
+  //
+  // These return raw entity IDs without creating Entity wrappers. Java writes
+  // the IDs into a shared direct buffer, so no strings are built or parsed.
+
+  /// Only match living entities.
+  static const int livingOnly = 1;
+
+  /// Only match mobs (entities with AI).
+  static const int mobsOnly = 1 << 1;
+
+  /// Skip players.
+  static const int excludePlayers = 1 << 2;
+
+  /// Skip dead or removed entities.
+  static const int excludeDead = 1 << 3;
+
+  /// Get IDs of entities in an axis-aligned bounding box.
+  ///
+  /// [flags] is a combination of [livingOnly], [mobsOnly], [excludePlayers]
+  /// and [excludeDead].
+  static Int32List getEntityIdsInBox(World world, Vec3 min, Vec3 max,
+      {String? type, int flags = 0}) {
+    final count = GenericJniBridge.callStaticIntMethod(
       _dartBridge,
-      'getEntitiesByType',
-      '(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;',
-      [world.dimensionId, type],
+      'queryEntitiesInBox',
+      '(Ljava/lang/String;DDDDDDLjava/lang/String;I)I',
+      [world.dimensionId, min.x, min.y, min.z, max.x, max.y, max.z, type ?? '', flags],
     );
-    if (entityIdsStr == null || entityIdsStr.isEmpty) return [];
+    return _QueryBuffer.read(count);
+  }
 
+  /// Get IDs of entities within [radius] blocks of [center].
+  static Int32List getEntityIdsInRadius(World world, Vec3 center, double radius,
+      {String? type, int flags = 0}) {
+    final count = GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'queryEntitiesInRadius',
+      '(Ljava/lang/String;DDDDLjava/lang/String;I)I',
+      [world.dimensionId, center.x, center.y, center.z, radius, type ?? '', flags],
+    );
+    return _QueryBuffer.read(count);
+  }
+
+  /// Get IDs of all entities of a specific type in a world.
+  static Int32List getEntityIdsByType(World world, String type, {int flags = 0}) {
+    final count = GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'queryEntitiesByType',
+      '(Ljava/lang/String;Ljava/lang/String;I)I',
+      [world.dimensionId, type, flags],
+    );
+    return _QueryBuffer.read(count);
+  }
+
+  static List<Entity> _toEntities(Int32List ids) {
     final entities = <Entity>[];
-    for (final idStr in entityIdsStr.split(',')) {
-      final id = int.tryParse(idStr);
-      if (id != null) {
-        final entity = getTypedEntity(id);
-        if (entity != null) {
-          entities.add(entity);
-        }
+    for (final id in ids) {
+      final entity = getTypedEntity(id);
+      if (entity != null) {
+        entities.add(entity);
       }
     }
     return entities;
   }
 }
 
+/// A point-in-time copy of an entity's state, read in bulk via
+/// [Entities.snapshot].
+class EntitySnapshot {
+  /// Size in bytes of one record in the shared buffer (matches Java's
+  /// `DartBridge.ENTITY_SNAPSHOT_STRIDE`).
+  static const int stride = 80;
+
+  static const int _found = 1;
+  static const int _living = 1 << 1;
+  static const int _mob = 1 << 2;
+  static const int _player = 1 << 3;
+  static const int _onGround = 1 << 4;
+  static const int _inWater = 1 << 5;
+  static const int _onFire = 1 << 6;
+  static const int _sneaking = 1 << 7;
+  static const int _sprinting = 1 << 8;
+  static const int _invisible = 1 << 9;
+  static const int _glowing = 1 << 10;
+  static const int _noGravity = 1 << 11;
+  static const int _dead = 1 << 12;
+
+  final int id;
+  final int flags;
+  final Vec3 position;
+  final Vec3 velocity;
+  final double yaw;
+  final double pitch;
+  final double health;
+  final double maxHealth;
+  final int ticksExisted;
+
+  /// ID of the mob's current target, or -1 if none.
+  final int targetId;
+
+  const EntitySnapshot({
+    required this.id,
+    required this.flags,
+    required this.position,
+    required this.velocity,
+    required this.yaw,
+    required this.pitch,
+    required this.health,
+    required this.maxHealth,
+    required this.ticksExisted,
+    required this.targetId,
+  });
+
+  factory EntitySnapshot._read(ByteData data, int base) {
+    return EntitySnapshot(
+      id: data.getInt32(base, Endian.host),
+      flags: data.getInt32(base + 4, Endian.host),
+      position: Vec3(
+        data.getFloat64(base + 8, Endian.host),
+        data.getFloat64(base + 16, Endian.host),
+        data.getFloat64(base + 24, Endian.host),
+      ),
+      velocity: Vec3(
+        data.getFloat64(base + 32, Endian.host),
+        data.getFloat64(base + 40, Endian.host),
+        data.getFloat64(base + 48, Endian.host),
+      ),
+      yaw: data.getFloat32(base + 56, Endian.host),
+      pitch: data.getFloat32(base + 60, Endian.host),
+      health: data.getFloat32(base + 64, Endian.host),
+      maxHealth: data.getFloat32(base + 68, Endian.host),
+      ticksExisted: data.getInt32(base + 72, Endian.host),
+      targetId: data.getInt32(base + 76, Endian.host),
+    );
+  }
+
+  bool get isLiving => flags & _living != 0;
+  bool get isMob => flags & _mob != 0;
+  bool get isPlayer => flags & _player != 0;
+  bool get isOnGround => flags & _onGround != 0;
+  bool get isInWater => flags & _inWater != 0;
+  bool get isOnFire => flags & _onFire != 0;
+  bool get isSneaking => flags & _sneaking != 0;
+  bool get isSprinting => flags & _sprinting != 0;
+  bool get isInvisible => flags & _invisible != 0;
+  bool get isGlowing => flags & _glowing != 0;
+  bool get hasNoGravity => flags & _noGravity != 0;
+  bool get isDead => flags & _dead != 0;
+}
+
+/// Reusable direct buffer shared with Java for entity snapshots.
+class _SnapshotBuffer {
+  static int _handle = 0;
+  static ByteData? _data;
+
+  static ByteData? acquire(int records) {
+    final bytes = records * EntitySnapshot.stride;
+    final current = _data;
+    if (current != null && current.lengthInBytes >= bytes) return current;
+
+    // Grow geometrically so repeated calls with a few more entities
+    // don't reallocate every time.
+    var capacity = 64 * EntitySnapshot.stride;
+    while (capacity < bytes) {
+      capacity *= 2;
+    }
+
+    final buffer = GenericJniBridge.allocateDirectBuffer(capacity, release: _handle);
+    _handle = buffer.handle;
+    return _data = buffer.data;
+  }
+}
+
+/// View of the bridge-owned buffer that entity ID queries write into.
+class _QueryBuffer {
+  static Int32List? _ids;
+
+  /// Copy the first [count] IDs out of the query buffer.
+  static Int32List read(int count) {
+    if (count <= 0) return Int32List(0);
+
+    var ids = _ids;
+    if (ids == null || ids.length < count) {
+      // Java grew (replaced) the buffer, or this is the first query
+      final data = GenericJniBridge.staticBufferData(_dartBridge, 'getEntityQueryBuffer',
+          refresh: ids != null);
+      ids = data != null ? Int32List.sublistView(data) : null;
+      _ids = ids;
+      if (ids == null || ids.length < count) return Int32List(0);
+    }
+    return ids.sublist(0, count);
+  }
+}
+
 /// Axis-Aligned Bounding Box for spatial queries.
 class AABB {
   /// Minimum corner of the box.
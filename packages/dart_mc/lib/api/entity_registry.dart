@@ -101,6 +101,16 @@ class EntityRegistry {
       throw StateError('Failed to create proxy entity for: ${entity.id}');
     }
 
+    final tickPolicy = entity.settings.effectiveTickPolicy;
+    if (tickPolicy.mode != EntityTickPolicy.never.mode) {
+      GenericJniBridge.callStaticVoidMethod(
+        'com/redstone/proxy/EntityProxyRegistry',
+        'setTickPolicy',
+        '(JIID)V',
+        [handlerId, tickPolicy.mode, tickPolicy.interval, tickPolicy.radius],
+      );
+    }
+
     // Register model config BEFORE registering entity with Minecraft.
     // This is important because registerEntity() triggers a callback that
     // checks for model config to decide which renderer to use.
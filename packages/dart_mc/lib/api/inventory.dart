@@ -1,6 +1,7 @@
 /// Inventory API for interacting with Minecraft player inventories.
 library;
 
+import '../src/item_codec.dart';
 import '../src/jni/generic_bridge.dart';
 import '../src/types.dart';
 import 'entity.dart';
@@ -68,27 +69,93 @@ class PlayerInventory {
       throw RangeError.range(slot, 0, 40, 'slot');
     }
 
-    final result = GenericJniBridge.callStaticStringMethod(
+    final packed = GenericJniBridge.callStaticLongMethod(
       _dartBridge,
-      'getPlayerInventoryItem',
-      '(II)Ljava/lang/String;',
+      'getPlayerInventoryItemPacked',
+      '(II)J',
       [player.id, slot],
     );
+    return _decode(packed, slot);
+  }
 
-    if (result == null || result.isEmpty) {
-      return ItemStack.empty;
-    }
+  ItemStack _decode(int packed, int slot, [int componentsHash = 0]) {
+    if (ItemCodec.isEmpty(packed)) return ItemStack.empty;
+    return ItemStack.withContext(Item(ItemCodec.itemId(packed)),
+        ItemCodec.count(packed), null, player.id, slot, componentsHash);
+  }
 
-    // Parse "itemId:count" format
-    final parts = result.split(':');
-    if (parts.length >= 3) {
-      // Format: "minecraft:item_name:count"
-      final itemId = '${parts[0]}:${parts[1]}';
-      final count = int.tryParse(parts[2]) ?? 1;
-      return ItemStack.withContext(Item(itemId), count, null, player.id, slot);
+  /// Get the items in all 41 slots with a single bridge call.
+  List<ItemStack> readAll() {
+    final handle = ItemRecordBuffer.acquire(size);
+    if (handle == 0) return const [];
+
+    final count = GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'readPlayerInventory',
+      '(ILjava/nio/ByteBuffer;)I',
+      [player.id, handle],
+    );
+    return [
+      for (var i = 0; i < count; i++)
+        _decode(ItemRecordBuffer.packed(i), i, ItemRecordBuffer.componentsHash(i)),
+    ];
+  }
+
+  /// Get the slots that changed since [sinceVersion] with a single bridge call.
+  ///
+  /// Pass 0 to get every slot, then pass the returned version on the next
+  /// call to get only what changed in between. Returns null if the player is
+  /// gone.
+  ({int version, Map<int, ItemStack> slots})? readChanges(int sinceVersion) {
+    final handle = ItemRecordBuffer.acquireChanges(size);
+    if (handle == 0) return null;
+
+    final count = GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'readPlayerInventoryChanges',
+      '(IJLjava/nio/ByteBuffer;)I',
+      [player.id, sinceVersion, handle],
+    );
+    if (count < 0) return null;
+
+    final slots = <int, ItemStack>{};
+    for (var i = 0; i < count; i++) {
+      final slot = ItemRecordBuffer.changeSlot(i);
+      slots[slot] = _decode(ItemRecordBuffer.changePacked(i), slot,
+          ItemRecordBuffer.changeComponentsHash(i));
     }
+    return (version: ItemRecordBuffer.changeVersion, slots: slots);
+  }
 
-    return ItemStack.empty;
+  /// Set slots 0 to `stacks.length - 1` with a single bridge call.
+  ///
+  /// Null entries and slots already holding the same item and count are left
+  /// alone. Stacks read with [readAll] or [readChanges] keep their damage and
+  /// data components wherever they are written, so stacks can be moved or
+  /// swapped between slots; other stacks are written as plain stacks.
+  /// Returns the number of slots changed, or -1 on failure (also if a read
+  /// stack is no longer in any of the written slots).
+  int writeAll(List<ItemStack?> stacks) {
+    if (stacks.length > size) {
+      throw RangeError.range(stacks.length, 0, size, 'stacks.length');
+    }
+    final handle = ItemRecordBuffer.acquire(stacks.length);
+    if (handle == 0) return -1;
+
+    for (var i = 0; i < stacks.length; i++) {
+      final stack = stacks[i];
+      ItemRecordBuffer.setPacked(
+        i,
+        stack == null ? ItemCodec.skip : ItemCodec.pack(stack.item.id, stack.count),
+      );
+      ItemRecordBuffer.setComponentsHash(i, stack?.componentsHash ?? 0);
+    }
+    return GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'writePlayerInventory',
+      '(ILjava/nio/ByteBuffer;I)I',
+      [player.id, handle, stacks.length],
+    );
   }
 
   /// Set item in slot.
@@ -108,6 +175,20 @@ class PlayerInventory {
   /// Clear a slot.
   void clearSlot(int slot) => setSlot(slot, ItemStack.empty);
 
+  /// Set the custom name of the stack in a slot (null clears it).
+  void setCustomName(int slot, String? name) {
+    if (slot < 0 || slot > 40) {
+      throw RangeError.range(slot, 0, 40, 'slot');
+    }
+
+    GenericJniBridge.callStaticVoidMethod(
+      _dartBridge,
+      'setItemStackCustomName',
+      '(IILjava/lang/String;)V',
+      [player.id, slot, name],
+    );
+  }
+
   // ==========================================================================
   // Equipment Shortcuts
   // ==========================================================================
@@ -233,17 +314,18 @@ class PlayerInventory {
 
   /// Iterate all slots.
   Iterable<(int slot, ItemStack stack)> get slots sync* {
-    for (var i = 0; i <= 40; i++) {
-      yield (i, getSlot(i));
+    final stacks = readAll();
+    for (var i = 0; i < stacks.length; i++) {
+      yield (i, stacks[i]);
     }
   }
 
   /// Iterate only non-empty slots.
   Iterable<(int slot, ItemStack stack)> get nonEmptySlots sync* {
-    for (var i = 0; i <= 40; i++) {
-      final stack = getSlot(i);
-      if (stack.isNotEmpty) {
-        yield (i, stack);
+    final stacks = readAll();
+    for (var i = 0; i < stacks.length; i++) {
+      if (stacks[i].isNotEmpty) {
+        yield (i, stacks[i]);
       }
     }
   }
@@ -8,8 +8,12 @@ import 'dart:ffi';
 import 'package:ffi/ffi.dart';
 
 import '../../src/bridge.dart';
+import '../../src/item_codec.dart';
+import '../../src/jni/generic_bridge.dart';
 import 'item_stack.dart';
 
+const _dartContainerMenu = 'com/redstone/DartContainerMenu';
+
 // =============================================================================
 // Click Type Enumeration
 // =============================================================================
@@ -111,12 +115,10 @@ ContainerMayPickupHandler? _mayPickupHandler;
 /// Native callback for slot click events.
 @pragma('vm:entry-point')
 int _onSlotClick(
-    int menuId, int slotIndex, int button, int clickType, Pointer<Utf8> carriedItemPtr) {
+    int menuId, int slotIndex, int button, int clickType, int carriedItemPacked) {
   if (_slotClickHandler == null) return 0; // Continue with default
 
-  final carriedItem = carriedItemPtr != nullptr
-      ? ItemStack.fromString(carriedItemPtr.toDartString())
-      : ItemStack.empty;
+  final carriedItem = _decode(carriedItemPacked);
 
   final clickTypeEnum = clickType >= 0 && clickType < ClickType.values.length
       ? ClickType.values[clickType]
@@ -140,16 +142,26 @@ Pointer<Utf8> _onQuickMove(int menuId, int slotIndex) {
 
 /// Native callback for may-place validation.
 @pragma('vm:entry-point')
-bool _onMayPlace(int menuId, int slotIndex, Pointer<Utf8> itemDataPtr) {
+bool _onMayPlace(int menuId, int slotIndex, int itemPacked) {
   if (_mayPlaceHandler == null) return true; // Allow by default
 
-  final item = itemDataPtr != nullptr
-      ? ItemStack.fromString(itemDataPtr.toDartString())
-      : ItemStack.empty;
+  final item = _decode(itemPacked);
 
   return _mayPlaceHandler!(menuId, slotIndex, item);
 }
 
+/// Decode a stack packed by ItemCodec.
+ItemStack _decode(int packed, [int? maxDamage, int componentsHash = 0]) {
+  if (ItemCodec.isEmpty(packed)) return ItemStack.empty;
+  return ItemStack(
+    itemId: ItemCodec.itemId(packed),
+    count: ItemCodec.count(packed),
+    damage: ItemCodec.damage(packed),
+    maxDamage: maxDamage ?? ItemCodec.maxDamage(packed),
+    componentsHash: componentsHash,
+  );
+}
+
 /// Native callback for may-pickup validation.
 @pragma('vm:entry-point')
 bool _onMayPickup(int menuId, int slotIndex) {
@@ -254,6 +266,81 @@ void setContainerItem(int menuId, int slotIndex, ItemStack item) {
   }
 }
 
+/// Get the items in every slot of a container menu in a single bridge call.
+///
+/// Returns an empty list if the menu doesn't exist.
+List<ItemStack> getContainerItems(int menuId) {
+  final handle = ItemRecordBuffer.acquire(getContainerSlotCount(menuId));
+  if (handle == 0) return const [];
+
+  final count = GenericJniBridge.callStaticIntMethod(
+    _dartContainerMenu,
+    'readContainerItems',
+    '(JLjava/nio/ByteBuffer;)I',
+    [menuId, handle],
+  );
+  return [
+    for (var i = 0; i < count; i++)
+      _decode(ItemRecordBuffer.packed(i), ItemRecordBuffer.maxDamage(i),
+          ItemRecordBuffer.componentsHash(i)),
+  ];
+}
+
+/// Get the container slots that changed since [sinceVersion] in a single bridge call.
+///
+/// Pass 0 to get every slot, then pass the returned version on the next call
+/// to get only what changed in between. Returns null if the menu doesn't exist.
+({int version, Map<int, ItemStack> slots})? getContainerChanges(
+    int menuId, int sinceVersion) {
+  final handle = ItemRecordBuffer.acquireChanges(getContainerSlotCount(menuId));
+  if (handle == 0) return null;
+
+  final count = GenericJniBridge.callStaticIntMethod(
+    _dartContainerMenu,
+    'readContainerChanges',
+    '(JJLjava/nio/ByteBuffer;)I',
+    [menuId, sinceVersion, handle],
+  );
+  if (count < 0) return null;
+
+  final slots = <int, ItemStack>{};
+  for (var i = 0; i < count; i++) {
+    slots[ItemRecordBuffer.changeSlot(i)] = _decode(ItemRecordBuffer.changePacked(i),
+        ItemRecordBuffer.changeMaxDamage(i), ItemRecordBuffer.changeComponentsHash(i));
+  }
+  return (version: ItemRecordBuffer.changeVersion, slots: slots);
+}
+
+/// Set the items of slots 0 to `items.length - 1` in a single bridge call.
+///
+/// Slots whose item is unchanged are left alone; null entries are skipped.
+/// Stacks read with [getContainerItems] or [getContainerChanges] keep their
+/// data components wherever they are written, so stacks can be moved or
+/// swapped between slots; other stacks are written as plain stacks.
+/// Returns the number of slots changed, or -1 on failure (also if a read
+/// stack is no longer in any of the written slots).
+int setContainerItems(int menuId, List<ItemStack?> items) {
+  final handle = ItemRecordBuffer.acquire(items.length);
+  if (handle == 0) return -1;
+
+  for (var i = 0; i < items.length; i++) {
+    final item = items[i];
+    ItemRecordBuffer.setPacked(
+      i,
+      item == null
+          ? ItemCodec.skip
+          : ItemCodec.pack(item.itemId, item.count, item.damage),
+    );
+    ItemRecordBuffer.setComponentsHash(i, item?.componentsHash ?? 0);
+  }
+  return GenericJniBridge.callStaticIntMethod(
+    _dartContainerMenu,
+    'writeContainerItems',
+    '(JLjava/nio/ByteBuffer;I)I',
+    [menuId, handle, items.length],
+  );
+}
+
 /// Get the total number of slots in a container menu.
 int getContainerSlotCount(int menuId) {
   return Bridge.getContainerSlotCount(menuId);
@@ -72,6 +72,21 @@ abstract class DartContainer {
     Bridge.clearContainerSlot(menuId, slotIndex);
   }
 
+  /// Get the items in every slot with a single bridge call.
+  List<ItemStack> getAllItems() => getContainerItems(menuId);
+
+  /// Get the slots that changed since [sinceVersion] (0 for all slots).
+  ///
+  /// Pass the returned version on the next call to get only newer changes.
+  ({int version, Map<int, ItemStack> slots})? getChangedItems(int sinceVersion) =>
+      getContainerChanges(menuId, sinceVersion);
+
+  /// Set slots 0 to `items.length - 1` with a single bridge call.
+  ///
+  /// Unchanged slots and null entries are left alone.
+  /// Returns the number of slots changed, or -1 on failure.
+  int setAllItems(List<ItemStack?> items) => setContainerItems(menuId, items);
+
   /// Get total number of slots in this container.
   int get slotCount => Bridge.getContainerSlotCount(menuId);
 
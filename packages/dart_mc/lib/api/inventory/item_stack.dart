@@ -24,12 +24,19 @@ class ItemStack {
   /// Optional custom name for the item.
   final String? customName;
 
+  /// Hash of the stack's data components as read from Java (0 if none).
+  ///
+  /// Writing the stack back with setContainerItems copies the stack with this
+  /// hash, so moved stacks keep their enchantments and names.
+  final int componentsHash;
+
   const ItemStack({
     required this.itemId,
     this.count = 1,
     this.damage = 0,
     this.maxDamage = 0,
     this.customName,
+    this.componentsHash = 0,
   });
 
   /// Empty/air item.
@@ -133,6 +140,7 @@ class ItemStack {
         damage: damage,
         maxDamage: maxDamage,
         customName: customName,
+        componentsHash: componentsHash,
       );
 
   /// Create a copy with different damage.
@@ -142,6 +150,7 @@ class ItemStack {
         damage: newDamage,
         maxDamage: maxDamage,
         customName: customName,
+        componentsHash: componentsHash,
       );
 
   /// Create a copy with a custom name.
@@ -260,9 +260,16 @@ class ItemStack {
   /// Internal: slot index for querying stack properties.
   final int? slot;
 
+  /// Hash of the stack's data components as read from Java (0 if none).
+  ///
+  /// Writing the stack back with [PlayerInventory.writeAll] copies the stack
+  /// with this hash, so moved stacks keep their enchantments and names.
+  final int componentsHash;
+
   const ItemStack(this.item, [this.count = 1, this.nbt])
       : playerId = null,
-        slot = null;
+        slot = null,
+        componentsHash = 0;
 
   /// Constructor with player/slot context for property queries.
   /// Used internally by PlayerInventory to provide full ItemStack info.
@@ -271,8 +278,9 @@ class ItemStack {
     this.count,
     this.nbt,
     this.playerId,
-    this.slot,
-  );
+    this.slot, [
+    this.componentsHash = 0,
+  ]);
 
   /// Empty/air stack.
   static const ItemStack empty = ItemStack(Item.air, 0);
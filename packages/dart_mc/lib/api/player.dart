@@ -1,7 +1,10 @@
 /// Player API for interacting with Minecraft players.
 library;
 
+import 'dart:typed_data';
+
 import '../src/jni/generic_bridge.dart';
+import '../src/player_snapshot.dart';
 import '../src/types.dart';
 
 /// The Java class name for DartBridge.
@@ -425,18 +428,46 @@ class Players {
   /// Get a player by their UUID.
   /// Returns null if no player with that UUID is online.
   static Player? getPlayerByUuid(String uuid) {
+    // Parsed here so Java can look up the two halves directly
+    final hex = uuid.replaceAll('-', '');
+    if (hex.length != 32) return null;
+    final parts = [
+      for (var i = 0; i < 4; i++) int.tryParse(hex.substring(i * 8, i * 8 + 8), radix: 16),
+    ];
+    if (parts.contains(null)) return null;
+
     final id = GenericJniBridge.callStaticIntMethod(
       _dartBridge,
-      'getPlayerIdByUuid',
-      '(Ljava/lang/String;)I',
-      [uuid],
+      'getPlayerIdByUuidBits',
+      '(JJ)I',
+      [parts[0]! << 32 | parts[1]!, parts[2]! << 32 | parts[3]!],
     );
     if (id < 0) return null;
     return Player(id);
   }
 
+  // Online player IDs, kept up to date by Java's PlayerIndex
+  static final ByteData? _idBuffer =
+      GenericJniBridge.staticBufferData('com/redstone/PlayerIndex', 'getIdBuffer');
+
+  /// Get the entity IDs of all online players, in join order, without a
+  /// JNI call per player.
+  static List<int> getAllPlayerIds() {
+    final data = _idBuffer;
+    if (data == null) {
+      return [for (final player in _getAllPlayersByIndex()) player.id];
+    }
+    final count = data.getInt32(0, Endian.host);
+    return [for (var i = 0; i < count; i++) data.getInt32(16 + i * 4, Endian.host)];
+  }
+
   /// Get all online players.
   static List<Player> getAllPlayers() {
+    if (_idBuffer == null) return _getAllPlayersByIndex();
+    return [for (final id in getAllPlayerIds()) Player(id)];
+  }
+
+  static List<Player> _getAllPlayersByIndex() {
     final count = playerCount;
     final players = <Player>[];
 
@@ -456,6 +487,17 @@ class Players {
     return players;
   }
 
+  /// Get a snapshot of every online player's state in one call.
+  ///
+  /// The snapshot is taken once per tick and shared by all callers in that
+  /// tick, so reading every player's state each tick costs one JNI call
+  /// instead of one per attribute. Pass [refresh] to capture again within
+  /// the same tick (e.g. after teleporting a player).
+  static List<PlayerInfo> snapshot({bool refresh = false}) {
+    final count = PlayerSnapshotTable.capture(force: refresh);
+    return [for (var i = 0; i < count; i++) PlayerInfo._fromSnapshot(i)];
+  }
+
   /// Get the number of online players.
   static int get playerCount {
     return GenericJniBridge.callStaticIntMethod(
@@ -482,6 +524,12 @@ class PlayerInfo {
   final bool isOnGround;
   final bool isSneaking;
   final bool isSprinting;
+  final String uuid;
+  final double yaw;
+  final double pitch;
+  final int totalExperience;
+  final bool isSwimming;
+  final bool isFlying;
 
   const PlayerInfo({
     required this.player,
@@ -497,10 +545,22 @@ class PlayerInfo {
     required this.isOnGround,
     required this.isSneaking,
     required this.isSprinting,
+    this.uuid = '',
+    this.yaw = 0.0,
+    this.pitch = 0.0,
+    this.totalExperience = 0,
+    this.isSwimming = false,
+    this.isFlying = false,
   });
 
   /// Create a PlayerInfo snapshot from a Player.
+  ///
+  /// Reads all fields with one JNI call; falls back to the per-field getters
+  /// if the player is not in the player index.
   factory PlayerInfo.fromPlayer(Player player) {
+    if (PlayerSnapshotTable.captureOne(player.id)) {
+      return PlayerInfo._fromSnapshot(PlayerSnapshotTable.singleRecord);
+    }
     return PlayerInfo(
       player: player,
       name: player.name,
@@ -515,6 +575,41 @@ class PlayerInfo {
       isOnGround: player.isOnGround,
       isSneaking: player.isSneaking,
       isSprinting: player.isSprinting,
+      uuid: player.uuid,
+      yaw: player.yaw,
+      pitch: player.pitch,
+      totalExperience: player.totalExperience,
+      isSwimming: player.isSwimming,
+      isFlying: player.isFlying,
+    );
+  }
+
+  /// Read record [i] of the current per-tick snapshot (see [Players.snapshot]).
+  factory PlayerInfo._fromSnapshot(int i) {
+    final x = PlayerSnapshotTable.x(i);
+    final y = PlayerSnapshotTable.y(i);
+    final z = PlayerSnapshotTable.z(i);
+    final flags = PlayerSnapshotTable.flags(i);
+    return PlayerInfo(
+      player: Player(PlayerSnapshotTable.id(i)),
+      name: PlayerSnapshotTable.name(i),
+      position: BlockPos(x.floor(), y.floor(), z.floor()),
+      precisePosition: Vec3(x, y, z),
+      health: PlayerSnapshotTable.health(i),
+      maxHealth: PlayerSnapshotTable.maxHealth(i),
+      foodLevel: PlayerSnapshotTable.foodLevel(i),
+      saturation: PlayerSnapshotTable.saturation(i),
+      gameMode: GameMode.fromValue(PlayerSnapshotTable.gameMode(i)),
+      experienceLevel: PlayerSnapshotTable.experienceLevel(i),
+      isOnGround: flags & PlayerSnapshotTable.flagOnGround != 0,
+      isSneaking: flags & PlayerSnapshotTable.flagSneaking != 0,
+      isSprinting: flags & PlayerSnapshotTable.flagSprinting != 0,
+      uuid: PlayerSnapshotTable.uuid(i),
+      yaw: PlayerSnapshotTable.yaw(i),
+      pitch: PlayerSnapshotTable.pitch(i),
+      totalExperience: PlayerSnapshotTable.totalExperience(i),
+      isSwimming: flags & PlayerSnapshotTable.flagSwimming != 0,
+      isFlying: flags & PlayerSnapshotTable.flagFlying != 0,
     );
   }
 
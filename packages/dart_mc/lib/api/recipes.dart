@@ -449,6 +449,24 @@ class Recipes {
     print('Recipes: Removed recipes producing $itemId');
   }
 
+  /// Get the IDs of all loaded recipes that produce an item.
+  ///
+  /// Covers vanilla, data pack and Dart recipes, looked up in an index built
+  /// when recipes are loaded. Returns an empty list before the server has
+  /// loaded recipes or if nothing produces [itemId].
+  static List<String> getRecipesByOutput(String itemId) {
+    if (Bridge.isDatagenMode) return const [];
+
+    final result = GenericJniBridge.callStaticStringMethod(
+      'com/redstone/proxy/RecipeRegistry',
+      'getLoadedRecipesByOutput',
+      '(Ljava/lang/String;)Ljava/lang/String;',
+      [itemId],
+    );
+    if (result == null || result.isEmpty) return const [];
+    return result.split(',');
+  }
+
   /// Register a recipe with the Java side.
   static void _registerRecipe(_RecipeData recipe) {
     if (Bridge.isDatagenMode) return;
@@ -1,6 +1,9 @@
 /// World API for interacting with the Minecraft world.
 library;
 
+import 'dart:typed_data';
+
+import '../src/effect_batch.dart';
 import '../src/jni/generic_bridge.dart';
 import '../src/types.dart';
 import 'block.dart';
@@ -129,6 +132,65 @@ class Particles {
   static const String scrape = 'minecraft:scrape';
 }
 
+/// A cuboid of blocks stored as palette indices.
+///
+/// Indices are ordered with X fastest, then Z, then Y:
+/// `index = (dy * sizeZ + dz) * sizeX + dx`.
+class BlockRegion {
+  /// Index value that leaves the position unchanged when written.
+  static const int skip = 0xFFFF;
+
+  final int sizeX;
+  final int sizeY;
+  final int sizeZ;
+
+  /// Distinct block states referenced by [indices].
+  ///
+  /// Read regions hold full block states with their properties (e.g.
+  /// `minecraft:oak_stairs[facing=east,half=bottom,shape=straight,waterlogged=false]`),
+  /// so copies keep facing, slab type, power and so on. A plain block ID
+  /// written back stands for that block's default state.
+  final List<Block> palette;
+
+  /// One palette index per position.
+  final Uint16List indices;
+
+  BlockRegion(this.sizeX, this.sizeY, this.sizeZ, this.palette, this.indices);
+
+  int _index(int dx, int dy, int dz) => (dy * sizeZ + dz) * sizeX + dx;
+
+  /// Block at an offset from the region's origin.
+  Block blockAt(int dx, int dy, int dz) => palette[indices[_index(dx, dy, dz)]];
+
+  /// Set the block at an offset from the region's origin.
+  void setBlockAt(int dx, int dy, int dz, Block block) {
+    var paletteIndex = palette.indexOf(block);
+    if (paletteIndex < 0) {
+      palette.add(block);
+      paletteIndex = palette.length - 1;
+    }
+    indices[_index(dx, dy, dz)] = paletteIndex;
+  }
+}
+
+/// Reusable direct buffer shared with Java for block region transfers.
+class _RegionBuffer {
+  static int _handle = 0;
+  static Uint16List? view;
+
+  /// Ensure the buffer holds at least [count] indices. Returns its handle.
+  static int acquire(int count) {
+    final current = view;
+    if (current != null && current.length >= count) return _handle;
+
+    final buffer = GenericJniBridge.allocateDirectBuffer(count * 2, release: _handle);
+    _handle = buffer.handle;
+    final data = buffer.data;
+    view = data != null ? Uint16List.sublistView(data) : null;
+    return _handle;
+  }
+}
+
 /// Represents a Minecraft world/dimension.
 class World {
   /// The dimension identifier.
@@ -151,6 +213,31 @@ class World {
   @override
   int get hashCode => dimensionId.hashCode;
 
+  static final Map<String, int> _handles = {};
+
+  /// Numeric handle for this dimension on the Java side.
+  ///
+  /// Resolved once per dimension ID and cached, so world calls pass an int
+  /// instead of a string that would be parsed on every call. -1 (not
+  /// cached, so resolved again on the next call) if the dimension isn't
+  /// loaded or the bridge isn't available.
+  int get handle {
+    final cached = _handles[dimensionId];
+    if (cached != null) return cached;
+
+    // A failed bind would otherwise read as handle 0
+    final slot = GenericJniBridge.bindStaticMethod(
+      _dartBridge,
+      'getDimensionHandle',
+      '(Ljava/lang/String;)I',
+    );
+    if (slot < 0) return -1;
+
+    final handle = GenericJniBridge.callBoundIntMethod(slot, [dimensionId]);
+    if (handle >= 0) _handles[dimensionId] = handle;
+    return handle;
+  }
+
   // ==========================================================================
   // Block Manipulation APIs
   // ==========================================================================
@@ -161,8 +248,8 @@ class World {
     final blockId = GenericJniBridge.callStaticStringMethod(
       _dartBridge,
       'getBlockId',
-      '(Ljava/lang/String;III)Ljava/lang/String;',
-      [dimensionId, pos.x, pos.y, pos.z],
+      '(IIII)Ljava/lang/String;',
+      [handle, pos.x, pos.y, pos.z],
     );
     if (blockId == null) return Block.air;
     return Block(blockId);
@@ -174,8 +261,8 @@ class World {
     return GenericJniBridge.callStaticBoolMethod(
       _dartBridge,
       'setBlock',
-      '(Ljava/lang/String;IIILjava/lang/String;)Z',
-      [dimensionId, pos.x, pos.y, pos.z, block.id],
+      '(IIIILjava/lang/String;)Z',
+      [handle, pos.x, pos.y, pos.z, block.id],
     );
   }
 
@@ -184,11 +271,86 @@ class World {
     return GenericJniBridge.callStaticBoolMethod(
       _dartBridge,
       'isAirBlock',
-      '(Ljava/lang/String;III)Z',
-      [dimensionId, pos.x, pos.y, pos.z],
+      '(IIII)Z',
+      [handle, pos.x, pos.y, pos.z],
     );
   }
 
+  // ==========================================================================
+  // Block Region APIs
+  // ==========================================================================
+
+  /// Read a cuboid of blocks starting at [origin] in a single bridge call.
+  /// Returns null if the dimension is invalid.
+  BlockRegion? getBlockRegion(BlockPos origin, int sizeX, int sizeY, int sizeZ) {
+    final buffer = _RegionBuffer.acquire(sizeX * sizeY * sizeZ);
+    if (buffer == 0) return null;
+
+    final paletteStr = GenericJniBridge.callStaticStringMethod(
+      _dartBridge,
+      'getBlockRegion',
+      '(IIIIIIILjava/nio/ByteBuffer;)Ljava/lang/String;',
+      [handle, origin.x, origin.y, origin.z, sizeX, sizeY, sizeZ, buffer],
+    );
+    if (paletteStr == null) return null;
+
+    final palette = paletteStr.isEmpty
+        ? <Block>[]
+        : paletteStr.split(';').map(Block.new).toList();
+    final indices = _RegionBuffer.view!.sublist(0, sizeX * sizeY * sizeZ);
+    return BlockRegion(sizeX, sizeY, sizeZ, palette, indices);
+  }
+
+  /// Write [region] with its minimum corner at [origin] in a single bridge call.
+  ///
+  /// Blocks are placed without neighbor updates. Positions whose index is
+  /// [BlockRegion.skip] are left unchanged.
+  /// Returns the number of blocks changed, or -1 on failure.
+  int setBlockRegion(BlockPos origin, BlockRegion region) {
+    final buffer = _RegionBuffer.acquire(region.indices.length);
+    if (buffer == 0) return -1;
+    _RegionBuffer.view!.setRange(0, region.indices.length, region.indices);
+
+    return GenericJniBridge.callStaticIntMethod(
+      _dartBridge,
+      'setBlockRegion',
+      '(IIIIIIILjava/lang/String;Ljava/nio/ByteBuffer;)I',
+      [
+        handle,
+        origin.x,
+        origin.y,
+        origin.z,
+        region.sizeX,
+        region.sizeY,
+        region.sizeZ,
+        region.palette.map((b) => b.id).join(';'),
+        buffer,
+      ],
+    );
+  }
+
+  /// Fill the box between [from] and [to] (inclusive) with [block].
+  /// Returns the number of blocks changed, or -1 on failure.
+  int fillBlocks(BlockPos from, BlockPos to, Block block) {
+    final min = BlockPos(
+        from.x < to.x ? from.x : to.x, from.y < to.y ? from.y : to.y, from.z < to.z ? from.z : to.z);
+    final sizeX = (from.x - to.x).abs() + 1;
+    final sizeY = (from.y - to.y).abs() + 1;
+    final sizeZ = (from.z - to.z).abs() + 1;
+    return setBlockRegion(
+      min,
+      BlockRegion(sizeX, sizeY, sizeZ, [block], Uint16List(sizeX * sizeY * sizeZ)),
+    );
+  }
+
+  /// Copy the blocks of one box to another position in this world.
+  /// Returns the number of blocks changed, or -1 on failure.
+  int copyBlocks(BlockPos from, int sizeX, int sizeY, int sizeZ, BlockPos to) {
+    final region = getBlockRegion(from, sizeX, sizeY, sizeZ);
+    if (region == null) return -1;
+    return setBlockRegion(to, region);
+  }
+
   // ==========================================================================
   // Time APIs
   // ==========================================================================
@@ -198,8 +360,8 @@ class World {
     return GenericJniBridge.callStaticLongMethod(
       _dartBridge,
       'getTimeOfDay',
-      '(Ljava/lang/String;)J',
-      [dimensionId],
+      '(I)J',
+      [handle],
     ).toInt();
   }
 
@@ -208,8 +370,8 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'setTimeOfDay',
-      '(Ljava/lang/String;J)V',
-      [dimensionId, time],
+      '(IJ)V',
+      [handle, time],
     );
   }
 
@@ -218,8 +380,8 @@ class World {
     return GenericJniBridge.callStaticLongMethod(
       _dartBridge,
       'getGameTime',
-      '(Ljava/lang/String;)J',
-      [dimensionId],
+      '(I)J',
+      [handle],
     ).toInt();
   }
 
@@ -228,8 +390,8 @@ class World {
     return GenericJniBridge.callStaticLongMethod(
       _dartBridge,
       'getDayCount',
-      '(Ljava/lang/String;)J',
-      [dimensionId],
+      '(I)J',
+      [handle],
     ).toInt();
   }
 
@@ -251,8 +413,8 @@ class World {
     final weatherInt = GenericJniBridge.callStaticIntMethod(
       _dartBridge,
       'getWeather',
-      '(Ljava/lang/String;)I',
-      [dimensionId],
+      '(I)I',
+      [handle],
     );
     return switch (weatherInt) {
       1 => Weather.rain,
@@ -276,8 +438,8 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'setWeather',
-      '(Ljava/lang/String;II)V',
-      [dimensionId, weatherInt, durationTicks],
+      '(III)V',
+      [handle, weatherInt, durationTicks],
     );
   }
 
@@ -286,8 +448,8 @@ class World {
     return GenericJniBridge.callStaticBoolMethod(
       _dartBridge,
       'isRaining',
-      '(Ljava/lang/String;)Z',
-      [dimensionId],
+      '(I)Z',
+      [handle],
     );
   }
 
@@ -296,8 +458,8 @@ class World {
     return GenericJniBridge.callStaticBoolMethod(
       _dartBridge,
       'isThundering',
-      '(Ljava/lang/String;)Z',
-      [dimensionId],
+      '(I)Z',
+      [handle],
     );
   }
 
@@ -316,9 +478,9 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'playSound',
-      '(Ljava/lang/String;DDDLjava/lang/String;Ljava/lang/String;FF)V',
+      '(IDDDLjava/lang/String;Ljava/lang/String;FF)V',
       [
-        dimensionId,
+        handle,
         position.x,
         position.y,
         position.z,
@@ -346,6 +508,34 @@ class World {
     );
   }
 
+  /// Queue a sound in the end-of-tick effect batch.
+  ///
+  /// Cheaper than [playSound] when playing many sounds: queueing makes no
+  /// bridge call, and each player receives all of a tick's effects in one
+  /// packet bundle.
+  void queueSound(
+    Vec3 position,
+    String sound, {
+    SoundCategory category = SoundCategory.master,
+    double volume = 1.0,
+    double pitch = 1.0,
+  }) {
+    EffectBatch.addSound(handle, -1, sound, category.id, position.x,
+        position.y, position.z, volume, pitch);
+  }
+
+  /// Queue a sound for a specific player only, played at their position.
+  void queueSoundToPlayer(
+    Player player,
+    String sound, {
+    SoundCategory category = SoundCategory.master,
+    double volume = 1.0,
+    double pitch = 1.0,
+  }) {
+    EffectBatch.addSound(
+        handle, player.id, sound, category.id, 0, 0, 0, volume, pitch);
+  }
+
   // ==========================================================================
   // Particle APIs
   // ==========================================================================
@@ -361,9 +551,9 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'spawnParticles',
-      '(Ljava/lang/String;Ljava/lang/String;DDDIDDDD)V',
+      '(ILjava/lang/String;DDDIDDDD)V',
       [
-        dimensionId,
+        handle,
         particle,
         position.x,
         position.y,
@@ -377,6 +567,37 @@ class World {
     );
   }
 
+  /// Queue particles in the end-of-tick effect batch.
+  ///
+  /// Cheaper than [spawnParticles] for bursts: queueing makes no bridge call,
+  /// and each player receives all of a tick's effects in one packet bundle.
+  /// Set [force] to show the particles from up to 512 blocks away.
+  /// Only particles without options can be batched.
+  void queueParticles(
+    String particle,
+    Vec3 position, {
+    int count = 1,
+    Vec3 delta = Vec3.zero,
+    double speed = 0.0,
+    bool force = false,
+  }) {
+    EffectBatch.addParticles(handle, -1, particle, position.x, position.y,
+        position.z, count, delta.x, delta.y, delta.z, speed, force);
+  }
+
+  /// Queue particles visible to a specific player only.
+  void queueParticlesToPlayer(
+    Player player,
+    String particle,
+    Vec3 position, {
+    int count = 1,
+    Vec3 delta = Vec3.zero,
+    double speed = 0.0,
+  }) {
+    EffectBatch.addParticles(handle, player.id, particle, position.x,
+        position.y, position.z, count, delta.x, delta.y, delta.z, speed, true);
+  }
+
   /// Spawn particles visible to a specific player only.
   void spawnParticlesToPlayer(
     Player player,
@@ -420,9 +641,9 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'createExplosion',
-      '(Ljava/lang/String;DDDFZII)V',
+      '(IDDDFZII)V',
       [
-        dimensionId,
+        handle,
         position.x,
         position.y,
         position.z,
@@ -444,8 +665,8 @@ class World {
     final entityId = GenericJniBridge.callStaticIntMethod(
       _dartBridge,
       'spawnLightning',
-      '(Ljava/lang/String;DDDZ)I',
-      [dimensionId, position.x, position.y, position.z, damageOnly],
+      '(IDDDZ)I',
+      [handle, position.x, position.y, position.z, damageOnly],
     );
     if (entityId < 0) return null;
     return Entity(entityId);
@@ -460,8 +681,8 @@ class World {
     final result = GenericJniBridge.callStaticStringMethod(
       _dartBridge,
       'getWorldBorderCenter',
-      '(Ljava/lang/String;)Ljava/lang/String;',
-      [dimensionId],
+      '(I)Ljava/lang/String;',
+      [handle],
     );
     if (result == null || result.isEmpty) return Vec3.zero;
     final parts = result.split(',');
@@ -478,8 +699,8 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'setWorldBorderCenter',
-      '(Ljava/lang/String;DD)V',
-      [dimensionId, center.x, center.z],
+      '(IDD)V',
+      [handle, center.x, center.z],
     );
   }
 
@@ -488,8 +709,8 @@ class World {
     return GenericJniBridge.callStaticDoubleMethod(
       _dartBridge,
       'getWorldBorderSize',
-      '(Ljava/lang/String;)D',
-      [dimensionId],
+      '(I)D',
+      [handle],
     );
   }
 
@@ -503,8 +724,8 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'setWorldBorderSize',
-      '(Ljava/lang/String;DJ)V',
-      [dimensionId, size, transitionMillis],
+      '(IDJ)V',
+      [handle, size, transitionMillis],
     );
   }
 
@@ -574,8 +795,8 @@ class World {
     return GenericJniBridge.callStaticStringMethod(
           _dartBridge,
           'getGameRule',
-          '(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;',
-          [dimensionId, rule],
+          '(ILjava/lang/String;)Ljava/lang/String;',
+          [handle, rule],
         ) ??
         '';
   }
@@ -585,8 +806,8 @@ class World {
     GenericJniBridge.callStaticVoidMethod(
       _dartBridge,
       'setGameRule',
-      '(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)V',
-      [dimensionId, rule, value],
+      '(ILjava/lang/String;Ljava/lang/String;)V',
+      [handle, rule, value],
     );
   }
 
@@ -67,6 +67,13 @@ typedef ProxyEntitySpawnCallbackNative = Void Function(
 typedef ProxyEntityTickCallbackNative = Void Function(
     Int64 handlerId, Int32 entityId);
 
+/// Batched entity tick callback - [records] holds [count] pairs of
+/// (handlerId, entityId) for every entity whose tick policy made it due.
+/// The nanoseconds each tick took are written into [elapsedNanos] for the
+/// dispatch profiler.
+typedef ProxyEntityTickBatchCallbackNative = Void Function(
+    Pointer<Int64> records, Int32 count, Pointer<Int64> elapsedNanos);
+
 /// Entity death callback - called when entity dies
 typedef ProxyEntityDeathCallbackNative = Void Function(
     Int64 handlerId, Int32 entityId, Pointer<Utf8> damageSource);
@@ -108,8 +115,10 @@ typedef ProxyItemUseOnEntityCallbackNative = Int32 Function(
 // =============================================================================
 
 /// Command execute callback - returns the command result (0 = failure, positive = success)
+///
+/// Arguments are in the shared argument frame; [frameBytes] is its used length.
 typedef CommandExecuteCallbackNative = Int32 Function(
-    Int64 commandId, Int32 playerId, Pointer<Utf8> argsJson);
+    Int64 commandId, Int32 playerId, Int32 frameBytes);
 
 // =============================================================================
 // New Event Callback Types
@@ -247,17 +256,19 @@ typedef ContainerScreenCloseCallbackNative = Void Function(Int64 screenId);
 // Container Menu Slot Callback Types
 // =============================================================================
 
-/// Container slot click callback - returns -1 to skip default handling, 0+ for custom result
+/// Container slot click callback - returns -1 to skip default handling, 0+ for custom result.
+/// [carriedItem] is packed by ItemCodec.
 typedef ContainerSlotClickCallbackNative = Int32 Function(
-    Int64 menuId, Int32 slotIndex, Int32 button, Int32 clickType, Pointer<Utf8> carriedItem);
+    Int64 menuId, Int32 slotIndex, Int32 button, Int32 clickType, Int64 carriedItem);
 
 /// Container quick move callback - returns serialized ItemStack or nullptr for default
 typedef ContainerQuickMoveCallbackNative = Pointer<Utf8> Function(
     Int64 menuId, Int32 slotIndex);
 
-/// Container may place callback - returns true to allow, false to deny
+/// Container may place callback - returns true to allow, false to deny.
+/// [item] is packed by ItemCodec.
 typedef ContainerMayPlaceCallbackNative = Bool Function(
-    Int64 menuId, Int32 slotIndex, Pointer<Utf8> itemData);
+    Int64 menuId, Int32 slotIndex, Int64 item);
 
 /// Container may pickup callback - returns true to allow, false to deny
 typedef ContainerMayPickupCallbackNative = Bool Function(
@@ -287,6 +298,13 @@ typedef CustomGoalTickCallbackNative = Void Function(
 typedef CustomGoalStopCallbackNative = Void Function(
     Pointer<Utf8> goalId, Int32 entityId);
 
+/// Batched custom goal callback - [records] holds [count] records of
+/// (kind, goalIndex, entityId, result); canUse/canContinueToUse answers are
+/// written into each record's result slot and the nanoseconds each record
+/// took into [elapsedNanos].
+typedef CustomGoalBatchCallbackNative = Void Function(
+    Pointer<Int32> records, Int32 count, Pointer<Int64> elapsedNanos);
+
 // =============================================================================
 // Container Item Access API Types (Dart -> Java)
 // =============================================================================
@@ -397,6 +415,11 @@ typedef RegisterProxyEntityTickHandlerNative = Void Function(
 typedef RegisterProxyEntityTickHandler = void Function(
     Pointer<NativeFunction<ProxyEntityTickCallbackNative>> callback);
 
+typedef RegisterProxyEntityTickBatchHandlerNative = Void Function(
+    Pointer<NativeFunction<ProxyEntityTickBatchCallbackNative>> callback);
+typedef RegisterProxyEntityTickBatchHandler = void Function(
+    Pointer<NativeFunction<ProxyEntityTickBatchCallbackNative>> callback);
+
 typedef RegisterProxyEntityDeathHandlerNative = Void Function(
     Pointer<NativeFunction<ProxyEntityDeathCallbackNative>> callback);
 typedef RegisterProxyEntityDeathHandler = void Function(
@@ -683,6 +706,11 @@ typedef RegisterCustomGoalStopHandlerNative = Void Function(
 typedef RegisterCustomGoalStopHandler = void Function(
     Pointer<NativeFunction<CustomGoalStopCallbackNative>> callback);
 
+typedef RegisterCustomGoalBatchHandlerNative = Void Function(
+    Pointer<NativeFunction<CustomGoalBatchCallbackNative>> callback);
+typedef RegisterCustomGoalBatchHandler = void Function(
+    Pointer<NativeFunction<CustomGoalBatchCallbackNative>> callback);
+
 /// Bridge to the native library.
 class Bridge {
   static DynamicLibrary? _lib;
@@ -901,6 +929,15 @@ class Bridge {
     register(callback);
   }
 
+  /// Register a batched proxy entity tick handler.
+  /// This is called once per server tick with all entities that are due to tick.
+  static void registerProxyEntityTickBatchHandler(
+      Pointer<NativeFunction<ProxyEntityTickBatchCallbackNative>> callback) {
+    final register = library.lookupFunction<RegisterProxyEntityTickBatchHandlerNative,
+        RegisterProxyEntityTickBatchHandler>('register_proxy_entity_tick_batch_handler');
+    register(callback);
+  }
+
   /// Register a proxy entity death handler.
   /// This is called when a Dart-defined custom entity dies.
   static void registerProxyEntityDeathHandler(
@@ -1462,4 +1499,13 @@ class Bridge {
         RegisterCustomGoalStopHandler>('register_custom_goal_stop_handler');
     register(callback);
   }
+
+  /// Register the batched custom goal handler.
+  /// This is called once per server tick with every queued goal query and tick.
+  static void registerCustomGoalBatchHandler(
+      Pointer<NativeFunction<CustomGoalBatchCallbackNative>> callback) {
+    final register = library.lookupFunction<RegisterCustomGoalBatchHandlerNative,
+        RegisterCustomGoalBatchHandler>('register_custom_goal_batch_handler');
+    register(callback);
+  }
 }
@@ -0,0 +1,140 @@
+/// Per-tick sound and particle batch shared with Java's com.redstone.EffectBatch.
+library;
+
+import 'dart:typed_data';
+
+import 'jni/generic_bridge.dart';
+
+const _effectBatch = 'com/redstone/EffectBatch';
+
+/// Writes sound and particle effects into a direct buffer that Java flushes
+/// once at the end of each server tick.
+///
+/// Sound, particle and category IDs are resolved to handles through Java once
+/// and cached, so queueing an effect makes no JNI call.
+class EffectBatch {
+  EffectBatch._();
+
+  static const int _headerBytes = 16;
+  static const int _recordBytes = 64;
+  static const int _capacity = 4096;
+
+  // Record kinds - must match EffectBatch.java
+  static const int _kindParticle = 1;
+  static const int _kindSound = 2;
+
+  static final ByteData? _buffer =
+      GenericJniBridge.staticBufferData(_effectBatch, 'getBuffer');
+
+  static final Map<String, int> _sounds = {};
+  static final Map<String, int> _particles = {};
+  static final Map<String, int> _categories = {};
+
+  /// Handle of a sound event ID, or -1 if unknown.
+  static int soundHandle(String sound) =>
+      _sounds[sound] ??= GenericJniBridge.callStaticIntMethod(
+        _effectBatch,
+        'resolveSound',
+        '(Ljava/lang/String;)I',
+        [sound],
+      );
+
+  /// Handle of a particle type ID, or -1 if unknown or not a simple particle.
+  static int particleHandle(String particle) =>
+      _particles[particle] ??= GenericJniBridge.callStaticIntMethod(
+        _effectBatch,
+        'resolveParticle',
+        '(Ljava/lang/String;)I',
+        [particle],
+      );
+
+  static int _categoryHandle(String category) =>
+      _categories[category] ??= GenericJniBridge.callStaticIntMethod(
+        _effectBatch,
+        'resolveSoundCategory',
+        '(Ljava/lang/String;)I',
+        [category],
+      );
+
+  /// Reserve the next record. Flushes first if the batch is full.
+  /// Returns the record's byte offset, or -1 if the buffer is unavailable.
+  static int _reserve(ByteData data) {
+    var count = data.getInt32(0, Endian.host);
+    if (count >= _capacity) {
+      flush();
+      count = 0;
+    }
+    data.setInt32(0, count + 1, Endian.host);
+    return _headerBytes + count * _recordBytes;
+  }
+
+  /// Queue particles. Returns false if the particle can't be batched.
+  static bool addParticles(
+    int dimension,
+    int playerId,
+    String particle,
+    double x,
+    double y,
+    double z,
+    int count,
+    double dx,
+    double dy,
+    double dz,
+    double speed,
+    bool force,
+  ) {
+    final handle = particleHandle(particle);
+    final data = _buffer;
+    if (handle < 0 || data == null) return false;
+
+    final offset = _reserve(data);
+    _writeHeader(data, offset, _kindParticle, handle, dimension, playerId, x, y, z);
+    data.setFloat32(offset + 40, dx, Endian.host);
+    data.setFloat32(offset + 44, dy, Endian.host);
+    data.setFloat32(offset + 48, dz, Endian.host);
+    data.setFloat32(offset + 52, speed, Endian.host);
+    data.setInt32(offset + 56, count, Endian.host);
+    data.setInt32(offset + 60, force ? 1 : 0, Endian.host);
+    return true;
+  }
+
+  /// Queue a sound. Returns false if the sound is unknown.
+  static bool addSound(
+    int dimension,
+    int playerId,
+    String sound,
+    String category,
+    double x,
+    double y,
+    double z,
+    double volume,
+    double pitch,
+  ) {
+    final handle = soundHandle(sound);
+    final data = _buffer;
+    if (handle < 0 || data == null) return false;
+
+    final offset = _reserve(data);
+    _writeHeader(data, offset, _kindSound, handle, dimension, playerId, x, y, z);
+    data.setFloat32(offset + 40, volume, Endian.host);
+    data.setFloat32(offset + 44, pitch, Endian.host);
+    data.setInt32(offset + 48, _categoryHandle(category), Endian.host);
+    return true;
+  }
+
+  static void _writeHeader(ByteData data, int offset, int kind, int handle,
+      int dimension, int playerId, double x, double y, double z) {
+    data.setInt32(offset, kind, Endian.host);
+    data.setInt32(offset + 4, handle, Endian.host);
+    data.setInt32(offset + 8, dimension, Endian.host);
+    data.setInt32(offset + 12, playerId, Endian.host);
+    data.setFloat64(offset + 16, x, Endian.host);
+    data.setFloat64(offset + 24, y, Endian.host);
+    data.setFloat64(offset + 32, z, Endian.host);
+  }
+
+  /// Send everything queued so far without waiting for the end of the tick.
+  static void flush() {
+    GenericJniBridge.callStaticIntMethod(_effectBatch, 'flush', '()I');
+  }
+}
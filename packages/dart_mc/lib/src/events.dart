@@ -270,6 +270,18 @@ void _onProxyEntityTick(int handlerId, int entityId) {
   EntityRegistry.dispatchTick(handlerId, entityId);
 }
 
+@pragma('vm:entry-point')
+void _onProxyEntityTickBatch(Pointer<Int64> records, int count, Pointer<Int64> elapsedNanos) {
+  final stopwatch = Stopwatch()..start();
+  var last = 0;
+  for (var i = 0; i < count; i++) {
+    EntityRegistry.dispatchTick(records[i * 2], records[i * 2 + 1]);
+    final now = stopwatch.elapsedTicks;
+    elapsedNanos[i] = (now - last) * 1000000000 ~/ Stopwatch.frequency;
+    last = now;
+  }
+}
+
 @pragma('vm:entry-point')
 void _onProxyEntityDeath(int handlerId, int entityId, Pointer<Utf8> damageSourcePtr) {
   final damageSource = damageSourcePtr.toDartString();
@@ -353,6 +365,11 @@ void _onCustomGoalStop(Pointer<Utf8> goalIdPtr, int entityId) {
   CustomGoalRegistry.dispatchStop(goalId, entityId);
 }
 
+@pragma('vm:entry-point')
+void _onCustomGoalBatch(Pointer<Int32> records, int count, Pointer<Int64> elapsedNanos) {
+  CustomGoalRegistry.dispatchBatch(records, count, elapsedNanos);
+}
+
 /// Event registration API.
 class Events {
   Events._();
@@ -490,6 +507,11 @@ class Events {
         _onProxyEntityTick);
     Bridge.registerProxyEntityTickHandler(tickCallback);
 
+    // Batched tick callback (no return value)
+    final tickBatchCallback = Pointer.fromFunction<ProxyEntityTickBatchCallbackNative>(
+        _onProxyEntityTickBatch);
+    Bridge.registerProxyEntityTickBatchHandler(tickBatchCallback);
+
     // Death callback (no return value)
     final deathCallback = Pointer.fromFunction<ProxyEntityDeathCallbackNative>(
         _onProxyEntityDeath);
@@ -589,6 +611,11 @@ class Events {
         _onCustomGoalStop);
     Bridge.registerCustomGoalStopHandler(stopCallback);
 
+    // batched canUse/canContinueToUse/tick callback (results written in place)
+    final batchCallback = Pointer.fromFunction<CustomGoalBatchCallbackNative>(
+        _onCustomGoalBatch);
+    Bridge.registerCustomGoalBatchHandler(batchCallback);
+
     print('Events: Custom goal handlers registered');
   }
 
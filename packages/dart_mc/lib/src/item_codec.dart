@@ -0,0 +1,154 @@
+/// Binary item stack encoding shared with Java's com.redstone.ItemCodec.
+library;
+
+import 'dart:typed_data';
+
+import 'jni/generic_bridge.dart';
+
+const _itemCodec = 'com/redstone/ItemCodec';
+
+/// Decodes and encodes item stacks packed into a single int.
+///
+/// Packed layout:
+/// - bits 40-63: raw item registry ID + 1 (0 = empty stack)
+/// - bits 32-39: count
+/// - bits 0-31: damage
+///
+/// Raw IDs are resolved to item IDs through Java once and cached.
+class ItemCodec {
+  ItemCodec._();
+
+  /// Packed value of an empty stack.
+  static const int empty = 0;
+
+  /// Packed value that leaves a slot unchanged when writing records.
+  static const int skip = -1;
+
+  /// Damage value that keeps a slot's current damage when writing.
+  static const int keepDamage = 0xFFFFFFFF;
+
+  /// Size of one stack record in a bulk buffer:
+  /// packed stack (int64), components hash (int32), max damage (int32).
+  static const int recordBytes = 16;
+
+  static final Map<int, String> _itemIds = {};
+  static final Map<String, int> _rawIds = {};
+  static final Map<int, int> _maxDamage = {};
+
+  static int rawId(int packed) => (packed >>> 40) - 1;
+  static int count(int packed) => (packed >>> 32) & 0xFF;
+  static int damage(int packed) => packed & 0xFFFFFFFF;
+  static bool isEmpty(int packed) => rawId(packed) < 0 || count(packed) == 0;
+
+  /// Item ID of a packed stack ('minecraft:air' if empty).
+  static String itemId(int packed) {
+    if (isEmpty(packed)) return 'minecraft:air';
+    final id = rawId(packed);
+    return _itemIds[id] ??= GenericJniBridge.callStaticStringMethod(
+          _itemCodec,
+          'getItemId',
+          '(I)Ljava/lang/String;',
+          [id],
+        ) ??
+        'minecraft:air';
+  }
+
+  /// Default max damage of a packed stack's item (0 if not damageable).
+  static int maxDamage(int packed) {
+    if (isEmpty(packed)) return 0;
+    final id = rawId(packed);
+    return _maxDamage[id] ??= GenericJniBridge.callStaticIntMethod(
+      _itemCodec,
+      'getMaxDamage',
+      '(I)I',
+      [id],
+    );
+  }
+
+  /// Pack a stack. Unknown items pack as [skip], so writing them leaves the
+  /// slot alone.
+  static int pack(String itemId, int count, [int damage = keepDamage]) {
+    if (count <= 0 || itemId == 'minecraft:air') return empty;
+    final id = _rawIds[itemId] ??= GenericJniBridge.callStaticIntMethod(
+      _itemCodec,
+      'getRawId',
+      '(Ljava/lang/String;)I',
+      [itemId],
+    );
+    if (id < 0) return skip;
+    _itemIds[id] = itemId;
+    return ((id + 1) << 40) | ((count.clamp(0, 0xFF)) << 32) | (damage & 0xFFFFFFFF);
+  }
+}
+
+/// Reusable direct buffer shared with Java for bulk item transfers.
+class ItemRecordBuffer {
+  static int _handle = 0;
+  static ByteData? _data;
+
+  /// Size of the change-tracking header (version, change count).
+  static const int changeHeaderBytes = 16;
+
+  /// Size of one change record: slot index, padding, stack record.
+  static const int changeBytes = 8 + ItemCodec.recordBytes;
+
+  /// Ensure the buffer holds at least [count] records. Returns its handle, or 0.
+  static int acquire(int count) => _acquireBytes(count * ItemCodec.recordBytes);
+
+  /// Ensure the buffer can hold changes for [slotCount] slots. Returns its handle, or 0.
+  static int acquireChanges(int slotCount) =>
+      _acquireBytes(changeHeaderBytes + slotCount * changeBytes);
+
+  static int _acquireBytes(int bytes) {
+    final current = _data;
+    if (current != null && current.lengthInBytes >= bytes) return _handle;
+
+    final buffer = GenericJniBridge.allocateDirectBuffer(bytes, release: _handle);
+    _handle = buffer.handle;
+    _data = buffer.data;
+    return _handle;
+  }
+
+  /// Packed stack of record [index].
+  static int packed(int index) =>
+      _data!.getInt64(index * ItemCodec.recordBytes, Endian.host);
+
+  /// Components hash of record [index] (0 if the stack has no component changes).
+  static int componentsHash(int index) =>
+      _data!.getInt32(index * ItemCodec.recordBytes + 8, Endian.host);
+
+  /// Max damage of record [index].
+  static int maxDamage(int index) =>
+      _data!.getInt32(index * ItemCodec.recordBytes + 12, Endian.host);
+
+  /// Set the packed stack of record [index].
+  static void setPacked(int index, int packed) =>
+      _data!.setInt64(index * ItemCodec.recordBytes, packed, Endian.host);
+
+  /// Set the components hash of record [index]. Java copies the data
+  /// components of the written stack with this hash (0 for a plain stack).
+  static void setComponentsHash(int index, int hash) =>
+      _data!.setInt32(index * ItemCodec.recordBytes + 8, hash, Endian.host);
+
+  /// Version written by the last change read.
+  static int get changeVersion => _data!.getInt64(0, Endian.host);
+
+  /// Number of change records written by the last change read.
+  static int get changeCount => _data!.getInt32(8, Endian.host);
+
+  /// Slot index of change record [index].
+  static int changeSlot(int index) =>
+      _data!.getInt32(changeHeaderBytes + index * changeBytes, Endian.host);
+
+  /// Packed stack of change record [index].
+  static int changePacked(int index) =>
+      _data!.getInt64(changeHeaderBytes + index * changeBytes + 8, Endian.host);
+
+  /// Components hash of change record [index].
+  static int changeComponentsHash(int index) =>
+      _data!.getInt32(changeHeaderBytes + index * changeBytes + 16, Endian.host);
+
+  /// Max damage of change record [index].
+  static int changeMaxDamage(int index) =>
+      _data!.getInt32(changeHeaderBytes + index * changeBytes + 20, Endian.host);
+}
@@ -153,103 +153,53 @@ typedef DartCallStringMethod = Pointer<Utf8> Function(
     Pointer<Int64> args,
     int argCount);
 
-// Static Method Calls - Void
-typedef NativeCallStaticVoidMethod = Void Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticVoidMethod = void Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
-
-// Static Method Calls - Int
-typedef NativeCallStaticIntMethod = Int32 Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticIntMethod = int Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
-
-// Static Method Calls - Long
-typedef NativeCallStaticLongMethod = Int64 Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticLongMethod = int Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
-
-// Static Method Calls - Object
-typedef NativeCallStaticObjectMethod = Int64 Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticObjectMethod = int Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
-
-// Static Method Calls - String
-typedef NativeCallStaticStringMethod = Pointer<Utf8> Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticStringMethod = Pointer<Utf8> Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
-
-// Static Method Calls - Double
-typedef NativeCallStaticDoubleMethod = Double Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticDoubleMethod = double Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
-
-// Static Method Calls - Bool
-typedef NativeCallStaticBoolMethod = Bool Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    Int32 argCount);
-typedef DartCallStaticBoolMethod = bool Function(
-    Pointer<Utf8> className,
-    Pointer<Utf8> methodName,
-    Pointer<Utf8> sig,
-    Pointer<Int64> args,
-    int argCount);
+// Static Method Binding
+typedef NativeBindStaticMethod = Int32 Function(
+    Pointer<Utf8> className, Pointer<Utf8> methodName, Pointer<Utf8> sig);
+typedef DartBindStaticMethod = int Function(
+    Pointer<Utf8> className, Pointer<Utf8> methodName, Pointer<Utf8> sig);
+
+// Bound Static Method Calls - Void
+typedef NativeCallBoundVoidMethod = Void Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundVoidMethod = void Function(
+    int slot, Pointer<Int64> args, int argCount);
+
+// Bound Static Method Calls - Int
+typedef NativeCallBoundIntMethod = Int32 Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundIntMethod = int Function(
+    int slot, Pointer<Int64> args, int argCount);
+
+// Bound Static Method Calls - Long
+typedef NativeCallBoundLongMethod = Int64 Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundLongMethod = int Function(
+    int slot, Pointer<Int64> args, int argCount);
+
+// Bound Static Method Calls - Object
+typedef NativeCallBoundObjectMethod = Int64 Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundObjectMethod = int Function(
+    int slot, Pointer<Int64> args, int argCount);
+
+// Bound Static Method Calls - String
+typedef NativeCallBoundStringMethod = Pointer<Utf8> Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundStringMethod = Pointer<Utf8> Function(
+    int slot, Pointer<Int64> args, int argCount);
+
+// Bound Static Method Calls - Double
+typedef NativeCallBoundDoubleMethod = Double Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundDoubleMethod = double Function(
+    int slot, Pointer<Int64> args, int argCount);
+
+// Bound Static Method Calls - Bool
+typedef NativeCallBoundBoolMethod = Bool Function(
+    Int32 slot, Pointer<Int64> args, Int32 argCount);
+typedef DartCallBoundBoolMethod = bool Function(
+    int slot, Pointer<Int64> args, int argCount);
 
 // Field Access - Object
 typedef NativeGetObjectField = Int64 Function(
@@ -408,6 +358,13 @@ typedef DartGetStaticIntField = int Function(
     Pointer<Utf8> fieldName,
     Pointer<Utf8> sig);
 
+// Direct Buffer Access
+typedef NativeGetDirectBufferAddress = Pointer<Void> Function(Int64 handle);
+typedef DartGetDirectBufferAddress = Pointer<Void> Function(int handle);
+
+typedef NativeGetDirectBufferCapacity = Int64 Function(Int64 handle);
+typedef DartGetDirectBufferCapacity = int Function(int handle);
+
 // Object Lifecycle
 typedef NativeReleaseObject = Void Function(Int64 handle);
 typedef DartReleaseObject = void Function(int handle);
@@ -433,6 +390,9 @@ class GenericJniBridge {
   /// Counter for generating fake handler IDs in datagen mode.
   static int _nextHandlerId = 1;
 
+  /// Bound method slots, keyed by class, then method name, then signature.
+  static final Map<String, Map<String, Map<String, int>>> _boundSlots = {};
+
   // Function pointers - Object Creation
   static late DartCreateObject _createObject;
 
@@ -447,13 +407,14 @@ class GenericJniBridge {
   static late DartCallStringMethod _callStringMethod;
 
   // Function pointers - Static Methods
-  static late DartCallStaticVoidMethod _callStaticVoidMethod;
-  static late DartCallStaticIntMethod _callStaticIntMethod;
-  static late DartCallStaticLongMethod _callStaticLongMethod;
-  static late DartCallStaticObjectMethod _callStaticObjectMethod;
-  static late DartCallStaticStringMethod _callStaticStringMethod;
-  static late DartCallStaticDoubleMethod _callStaticDoubleMethod;
-  static late DartCallStaticBoolMethod _callStaticBoolMethod;
+  static late DartBindStaticMethod _bindStaticMethod;
+  static late DartCallBoundVoidMethod _callBoundVoidMethod;
+  static late DartCallBoundIntMethod _callBoundIntMethod;
+  static late DartCallBoundLongMethod _callBoundLongMethod;
+  static late DartCallBoundObjectMethod _callBoundObjectMethod;
+  static late DartCallBoundStringMethod _callBoundStringMethod;
+  static late DartCallBoundDoubleMethod _callBoundDoubleMethod;
+  static late DartCallBoundBoolMethod _callBoundBoolMethod;
 
   // Function pointers - Field Access
   static late DartGetObjectField _getObjectField;
@@ -472,6 +433,10 @@ class GenericJniBridge {
   static late DartGetStaticObjectField _getStaticObjectField;
   static late DartGetStaticIntField _getStaticIntField;
 
+  // Function pointers - Direct Buffers
+  static late DartGetDirectBufferAddress _getDirectBufferAddress;
+  static late DartGetDirectBufferCapacity _getDirectBufferCapacity;
+
   // Function pointers - Lifecycle
   static late DartReleaseObject _releaseObject;
   static late DartFreeString _freeString;
@@ -515,27 +480,30 @@ class GenericJniBridge {
         'jni_call_string_method');
 
     // Static Methods
-    _callStaticVoidMethod =
-        _lib.lookupFunction<NativeCallStaticVoidMethod, DartCallStaticVoidMethod>(
-            'jni_call_static_void_method');
-    _callStaticIntMethod =
-        _lib.lookupFunction<NativeCallStaticIntMethod, DartCallStaticIntMethod>(
-            'jni_call_static_int_method');
-    _callStaticLongMethod =
-        _lib.lookupFunction<NativeCallStaticLongMethod, DartCallStaticLongMethod>(
-            'jni_call_static_long_method');
-    _callStaticObjectMethod =
-        _lib.lookupFunction<NativeCallStaticObjectMethod, DartCallStaticObjectMethod>(
-            'jni_call_static_object_method');
-    _callStaticStringMethod =
-        _lib.lookupFunction<NativeCallStaticStringMethod, DartCallStaticStringMethod>(
-            'jni_call_static_string_method');
-    _callStaticDoubleMethod =
-        _lib.lookupFunction<NativeCallStaticDoubleMethod, DartCallStaticDoubleMethod>(
-            'jni_call_static_double_method');
-    _callStaticBoolMethod =
-        _lib.lookupFunction<NativeCallStaticBoolMethod, DartCallStaticBoolMethod>(
-            'jni_call_static_bool_method');
+    _bindStaticMethod =
+        _lib.lookupFunction<NativeBindStaticMethod, DartBindStaticMethod>(
+            'jni_bind_static_method');
+    _callBoundVoidMethod =
+        _lib.lookupFunction<NativeCallBoundVoidMethod, DartCallBoundVoidMethod>(
+            'jni_call_bound_void_method');
+    _callBoundIntMethod =
+        _lib.lookupFunction<NativeCallBoundIntMethod, DartCallBoundIntMethod>(
+            'jni_call_bound_int_method');
+    _callBoundLongMethod =
+        _lib.lookupFunction<NativeCallBoundLongMethod, DartCallBoundLongMethod>(
+            'jni_call_bound_long_method');
+    _callBoundObjectMethod =
+        _lib.lookupFunction<NativeCallBoundObjectMethod, DartCallBoundObjectMethod>(
+            'jni_call_bound_object_method');
+    _callBoundStringMethod =
+        _lib.lookupFunction<NativeCallBoundStringMethod, DartCallBoundStringMethod>(
+            'jni_call_bound_string_method');
+    _callBoundDoubleMethod =
+        _lib.lookupFunction<NativeCallBoundDoubleMethod, DartCallBoundDoubleMethod>(
+            'jni_call_bound_double_method');
+    _callBoundBoolMethod =
+        _lib.lookupFunction<NativeCallBoundBoolMethod, DartCallBoundBoolMethod>(
+            'jni_call_bound_bool_method');
 
     // Field Access
     _getObjectField = _lib.lookupFunction<NativeGetObjectField, DartGetObjectField>(
@@ -569,6 +537,14 @@ class GenericJniBridge {
         _lib.lookupFunction<NativeGetStaticIntField, DartGetStaticIntField>(
             'jni_get_static_int_field');
 
+    // Direct Buffers
+    _getDirectBufferAddress =
+        _lib.lookupFunction<NativeGetDirectBufferAddress, DartGetDirectBufferAddress>(
+            'jni_get_direct_buffer_address');
+    _getDirectBufferCapacity =
+        _lib.lookupFunction<NativeGetDirectBufferCapacity, DartGetDirectBufferCapacity>(
+            'jni_get_direct_buffer_capacity');
+
     // Lifecycle
     _releaseObject = _lib.lookupFunction<NativeReleaseObject, DartReleaseObject>(
         'jni_release_object');
@@ -921,239 +897,243 @@ class GenericJniBridge {
   // Static Method Calls
   // ==========================================================================
 
-  /// Call a static void method.
-  static void callStaticVoidMethod(
+  /// Resolve a static method once and bind it to an integer slot.
+  ///
+  /// Calls through the slot with the `callBound*Method` functions skip the
+  /// native class/method lookup entirely. Binding the same method again
+  /// returns the same slot. Returns -1 if the method could not be resolved.
+  static int bindStaticMethod(
     String className,
     String methodName,
-    String sig, [
-    List<Object?> args = const [],
-  ]) {
-    // In datagen mode, no-op
-    if (_datagenMode) {
-      return;
-    }
+    String sig,
+  ) {
+    if (_datagenMode) return -1;
+
+    final bySig = _boundSlots
+        .putIfAbsent(className, () => {})
+        .putIfAbsent(methodName, () => {});
+    final cached = bySig[sig];
+    if (cached != null) return cached;
 
     final classNamePtr = className.toNativeUtf8();
     final methodNamePtr = methodName.toNativeUtf8();
     final sigPtr = sig.toNativeUtf8();
-    final encodedArgs = _encodeArgs(args);
 
     try {
-      _callStaticVoidMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
+      final slot = _bindStaticMethod(classNamePtr, methodNamePtr, sigPtr);
+      if (slot >= 0) bySig[sig] = slot;
+      return slot;
     } finally {
       calloc.free(classNamePtr);
       calloc.free(methodNamePtr);
       calloc.free(sigPtr);
-      encodedArgs.free();
     }
   }
 
+  /// Call a static void method.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
+  static void callStaticVoidMethod(
+    String className,
+    String methodName,
+    String sig, [
+    List<Object?> args = const [],
+  ]) {
+    callBoundVoidMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
   /// Call a static method returning int.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
   static int callStaticIntMethod(
     String className,
     String methodName,
     String sig, [
     List<Object?> args = const [],
   ]) {
+    return callBoundIntMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
+  /// Call a static method returning long.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
+  static int callStaticLongMethod(
+    String className,
+    String methodName,
+    String sig, [
+    List<Object?> args = const [],
+  ]) {
+    return callBoundLongMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
+  /// Call a static method returning an object.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
+  static int callStaticObjectMethod(
+    String className,
+    String methodName,
+    String sig, [
+    List<Object?> args = const [],
+  ]) {
+    return callBoundObjectMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
+  /// Call a static method returning String.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
+  static String? callStaticStringMethod(
+    String className,
+    String methodName,
+    String sig, [
+    List<Object?> args = const [],
+  ]) {
+    return callBoundStringMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
+  /// Call a static method returning double.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
+  static double callStaticDoubleMethod(
+    String className,
+    String methodName,
+    String sig, [
+    List<Object?> args = const [],
+  ]) {
+    return callBoundDoubleMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
+  /// Call a static method returning boolean.
+  ///
+  /// The method is bound to a slot on first use; see [bindStaticMethod].
+  static bool callStaticBoolMethod(
+    String className,
+    String methodName,
+    String sig, [
+    List<Object?> args = const [],
+  ]) {
+    return callBoundBoolMethod(bindStaticMethod(className, methodName, sig), args);
+  }
+
+  /// Call a bound static method (see [callStaticVoidMethod]).
+  static void callBoundVoidMethod(int slot, [List<Object?> args = const []]) {
+    // In datagen mode, no-op
+    if (_datagenMode) {
+      return;
+    }
+    if (slot < 0) return;
+
+    final encodedArgs = _encodeArgs(args);
+
+    try {
+      _callBoundVoidMethod(slot, encodedArgs.ptr, args.length);
+    } finally {
+      encodedArgs.free();
+    }
+  }
+
+  /// Call a bound static method (see [callStaticIntMethod]).
+  static int callBoundIntMethod(int slot, [List<Object?> args = const []]) {
     // In datagen mode, return 0
     if (_datagenMode) {
       return 0;
     }
+    if (slot < 0) return 0;
 
-    final classNamePtr = className.toNativeUtf8();
-    final methodNamePtr = methodName.toNativeUtf8();
-    final sigPtr = sig.toNativeUtf8();
     final encodedArgs = _encodeArgs(args);
 
     try {
-      return _callStaticIntMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
+      return _callBoundIntMethod(slot, encodedArgs.ptr, args.length);
     } finally {
-      calloc.free(classNamePtr);
-      calloc.free(methodNamePtr);
-      calloc.free(sigPtr);
       encodedArgs.free();
     }
   }
 
-  /// Call a static method returning long.
-  static int callStaticLongMethod(
-    String className,
-    String methodName,
-    String sig, [
-    List<Object?> args = const [],
-  ]) {
+  /// Call a bound static method (see [callStaticLongMethod]).
+  static int callBoundLongMethod(int slot, [List<Object?> args = const []]) {
     // In datagen mode, return incrementing handler IDs
     if (_datagenMode) {
       return _nextHandlerId++;
     }
+    if (slot < 0) return 0;
 
-    final classNamePtr = className.toNativeUtf8();
-    final methodNamePtr = methodName.toNativeUtf8();
-    final sigPtr = sig.toNativeUtf8();
     final encodedArgs = _encodeArgs(args);
 
     try {
-      return _callStaticLongMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
+      return _callBoundLongMethod(slot, encodedArgs.ptr, args.length);
     } finally {
-      calloc.free(classNamePtr);
-      calloc.free(methodNamePtr);
-      calloc.free(sigPtr);
       encodedArgs.free();
     }
   }
 
-  /// Call a static method returning an object.
-  static int callStaticObjectMethod(
-    String className,
-    String methodName,
-    String sig, [
-    List<Object?> args = const [],
-  ]) {
+  /// Call a bound static method (see [callStaticObjectMethod]).
+  static int callBoundObjectMethod(int slot, [List<Object?> args = const []]) {
     // In datagen mode, return 0 (null handle)
     if (_datagenMode) {
       return 0;
     }
+    if (slot < 0) return 0;
 
-    final classNamePtr = className.toNativeUtf8();
-    final methodNamePtr = methodName.toNativeUtf8();
-    final sigPtr = sig.toNativeUtf8();
     final encodedArgs = _encodeArgs(args);
 
     try {
-      return _callStaticObjectMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
+      return _callBoundObjectMethod(slot, encodedArgs.ptr, args.length);
     } finally {
-      calloc.free(classNamePtr);
-      calloc.free(methodNamePtr);
-      calloc.free(sigPtr);
       encodedArgs.free();
     }
   }
 
-  /// Call a static method returning String.
-  static String? callStaticStringMethod(
-    String className,
-    String methodName,
-    String sig, [
-    List<Object?> args = const [],
-  ]) {
+  /// Call a bound static method (see [callStaticStringMethod]).
+  static String? callBoundStringMethod(int slot, [List<Object?> args = const []]) {
     // In datagen mode, return null
     if (_datagenMode) {
       return null;
     }
+    if (slot < 0) return null;
 
-    final classNamePtr = className.toNativeUtf8();
-    final methodNamePtr = methodName.toNativeUtf8();
-    final sigPtr = sig.toNativeUtf8();
     final encodedArgs = _encodeArgs(args);
 
     try {
-      final resultPtr = _callStaticStringMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
-
+      final resultPtr = _callBoundStringMethod(slot, encodedArgs.ptr, args.length);
       if (resultPtr == nullptr) return null;
 
       final result = resultPtr.toDartString();
       _freeString(resultPtr);
       return result;
     } finally {
-      calloc.free(classNamePtr);
-      calloc.free(methodNamePtr);
-      calloc.free(sigPtr);
       encodedArgs.free();
     }
   }
 
-  /// Call a static method returning double.
-  static double callStaticDoubleMethod(
-    String className,
-    String methodName,
-    String sig, [
-    List<Object?> args = const [],
-  ]) {
+  /// Call a bound static method (see [callStaticDoubleMethod]).
+  static double callBoundDoubleMethod(int slot, [List<Object?> args = const []]) {
     // In datagen mode, return 0.0
     if (_datagenMode) {
       return 0.0;
     }
+    if (slot < 0) return 0.0;
 
-    final classNamePtr = className.toNativeUtf8();
-    final methodNamePtr = methodName.toNativeUtf8();
-    final sigPtr = sig.toNativeUtf8();
     final encodedArgs = _encodeArgs(args);
 
     try {
-      return _callStaticDoubleMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
+      return _callBoundDoubleMethod(slot, encodedArgs.ptr, args.length);
     } finally {
-      calloc.free(classNamePtr);
-      calloc.free(methodNamePtr);
-      calloc.free(sigPtr);
       encodedArgs.free();
     }
   }
 
-  /// Call a static method returning boolean.
-  static bool callStaticBoolMethod(
-    String className,
-    String methodName,
-    String sig, [
-    List<Object?> args = const [],
-  ]) {
+  /// Call a bound static method (see [callStaticBoolMethod]).
+  static bool callBoundBoolMethod(int slot, [List<Object?> args = const []]) {
     // In datagen mode, return true (success)
     if (_datagenMode) {
       return true;
     }
+    if (slot < 0) return false;
 
-    final classNamePtr = className.toNativeUtf8();
-    final methodNamePtr = methodName.toNativeUtf8();
-    final sigPtr = sig.toNativeUtf8();
     final encodedArgs = _encodeArgs(args);
 
     try {
-      return _callStaticBoolMethod(
-        classNamePtr,
-        methodNamePtr,
-        sigPtr,
-        encodedArgs.ptr,
-        args.length,
-      );
+      return _callBoundBoolMethod(slot, encodedArgs.ptr, args.length);
     } finally {
-      calloc.free(classNamePtr);
-      calloc.free(methodNamePtr);
-      calloc.free(sigPtr);
       encodedArgs.free();
     }
   }
@@ -1434,6 +1414,71 @@ class GenericJniBridge {
     }
   }
 
+  // ==========================================================================
+  // Direct Buffer Access
+  // ==========================================================================
+
+  /// View a direct java.nio.ByteBuffer as native memory.
+  ///
+  /// The returned list aliases the Java buffer, so reads and writes are seen
+  /// by both sides without copying. Keep [handle] alive while using the view.
+  /// Returns null if the handle is not a direct buffer (or in datagen mode).
+  static Uint8List? directBufferView(int handle) {
+    if (_datagenMode || handle == 0) return null;
+
+    final address = _getDirectBufferAddress(handle);
+    if (address == nullptr) return null;
+
+    final capacity = _getDirectBufferCapacity(handle);
+    if (capacity <= 0) return null;
+
+    return address.cast<Uint8>().asTypedList(capacity);
+  }
+
+  static final Map<String, ({int handle, ByteData? data})> _staticBuffers = {};
+
+  /// View of the direct buffer a static `()Ljava/nio/ByteBuffer;` Java method
+  /// returns, for buffers Java keeps for the life of the process.
+  ///
+  /// The method is called once and its view cached (a null result too, so a
+  /// missing buffer is not asked for again). Pass [refresh] to fetch it again
+  /// after Java replaced the buffer. Returns null in datagen mode or if the
+  /// method does not return a direct buffer.
+  static ByteData? staticBufferData(String className, String methodName,
+      {bool refresh = false}) {
+    final key = '$className.$methodName';
+    final cached = _staticBuffers[key];
+    if (cached != null && !refresh) return cached.data;
+    if (cached != null && cached.handle != 0) releaseObject(cached.handle);
+
+    final handle = callStaticObjectMethod(className, methodName, '()Ljava/nio/ByteBuffer;');
+    final view = directBufferView(handle);
+    final data = view != null ? ByteData.sublistView(view) : null;
+    _staticBuffers[key] = (handle: handle, data: data);
+    return data;
+  }
+
+  /// Allocate a direct java.nio.ByteBuffer of [bytes] and view it.
+  ///
+  /// Pass the handle of the buffer this one replaces as [release] to let
+  /// Java collect it. The data is null (and the handle 0) on failure.
+  static ({int handle, ByteData? data}) allocateDirectBuffer(int bytes, {int release = 0}) {
+    if (release != 0) releaseObject(release);
+
+    final handle = callStaticObjectMethod(
+      'java/nio/ByteBuffer',
+      'allocateDirect',
+      '(I)Ljava/nio/ByteBuffer;',
+      [bytes],
+    );
+    final view = directBufferView(handle);
+    if (view == null) {
+      if (handle != 0) releaseObject(handle);
+      return (handle: 0, data: null);
+    }
+    return (handle: handle, data: ByteData.sublistView(view));
+  }
+
   // ==========================================================================
   // Object Lifecycle
   // ==========================================================================
@@ -0,0 +1,97 @@
+/// Per-tick player table shared with Java's com.redstone.PlayerSnapshot.
+library;
+
+import 'dart:convert';
+import 'dart:typed_data';
+
+import 'jni/generic_bridge.dart';
+
+const _playerSnapshot = 'com/redstone/PlayerSnapshot';
+
+/// Reads the table of every online player's state that Java fills once per
+/// tick. [capture] is the only JNI call; the record getters read the shared
+/// buffer directly.
+class PlayerSnapshotTable {
+  PlayerSnapshotTable._();
+
+  static const int _headerBytes = 16;
+  static const int _recordBytes = 112;
+
+  /// Index of the record filled by [captureOne] - must match
+  /// PlayerSnapshot.CAPACITY.
+  static const int singleRecord = 1024;
+
+  // Movement flags - must match PlayerSnapshot.java
+  static const int flagOnGround = 1;
+  static const int flagSneaking = 1 << 1;
+  static const int flagSprinting = 1 << 2;
+  static const int flagSwimming = 1 << 3;
+  static const int flagFlying = 1 << 4;
+
+  static final ByteData? _buffer =
+      GenericJniBridge.staticBufferData(_playerSnapshot, 'getBuffer');
+
+  /// Fill the table for the current tick (a no-op if it already was, unless
+  /// [force] is set). Returns the number of players in the table.
+  static int capture({bool force = false}) {
+    if (_buffer == null) return 0;
+    return GenericJniBridge.callStaticIntMethod(
+      _playerSnapshot,
+      'capture',
+      '(Z)I',
+      [force],
+    );
+  }
+
+  /// Write player [playerId]'s live state into record [singleRecord]
+  /// without touching the per-tick table. Returns false if the player is
+  /// not online.
+  static bool captureOne(int playerId) {
+    if (_buffer == null) return false;
+    return GenericJniBridge.callStaticBoolMethod(
+      _playerSnapshot,
+      'captureOne',
+      '(I)Z',
+      [playerId],
+    );
+  }
+
+  static ByteData get _table => _buffer!;
+  static int _offset(int index) => _headerBytes + index * _recordBytes;
+
+  static int id(int i) => _table.getInt32(_offset(i), Endian.host);
+  static int gameMode(int i) => _table.getInt32(_offset(i) + 4, Endian.host);
+  static int uuidMost(int i) => _table.getInt64(_offset(i) + 8, Endian.host);
+  static int uuidLeast(int i) => _table.getInt64(_offset(i) + 16, Endian.host);
+  static double x(int i) => _table.getFloat64(_offset(i) + 24, Endian.host);
+  static double y(int i) => _table.getFloat64(_offset(i) + 32, Endian.host);
+  static double z(int i) => _table.getFloat64(_offset(i) + 40, Endian.host);
+  static double yaw(int i) => _table.getFloat32(_offset(i) + 48, Endian.host);
+  static double pitch(int i) => _table.getFloat32(_offset(i) + 52, Endian.host);
+  static double health(int i) => _table.getFloat32(_offset(i) + 56, Endian.host);
+  static double maxHealth(int i) => _table.getFloat32(_offset(i) + 60, Endian.host);
+  static int foodLevel(int i) => _table.getInt32(_offset(i) + 64, Endian.host);
+  static double saturation(int i) => _table.getFloat32(_offset(i) + 68, Endian.host);
+  static int experienceLevel(int i) => _table.getInt32(_offset(i) + 72, Endian.host);
+  static int totalExperience(int i) => _table.getInt32(_offset(i) + 76, Endian.host);
+  static int flags(int i) => _table.getInt32(_offset(i) + 80, Endian.host);
+
+  static String name(int i) {
+    final offset = _offset(i);
+    final length = _table.getInt32(offset + 84, Endian.host);
+    return utf8.decode(Uint8List.sublistView(_table, offset + 88, offset + 88 + length),
+        allowMalformed: true);
+  }
+
+  /// UUID string of record [i] in the standard 8-4-4-4-12 form.
+  static String uuid(int i) {
+    final hex = _hex64(uuidMost(i)) + _hex64(uuidLeast(i));
+    return '${hex.substring(0, 8)}-${hex.substring(8, 12)}-${hex.substring(12, 16)}-'
+        '${hex.substring(16, 20)}-${hex.substring(20)}';
+  }
+
+  // Split in halves: a negative 64-bit int has no unsigned form in the VM
+  static String _hex64(int value) =>
+      ((value >> 32) & 0xFFFFFFFF).toRadixString(16).padLeft(8, '0') +
+      (value & 0xFFFFFFFF).toRadixString(16).padLeft(8, '0');
+}
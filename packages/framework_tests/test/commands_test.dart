@@ -50,9 +50,9 @@ Future<void> main() async {
       Commands.register(
         'teleportcmd',
         execute: (ctx) {
-          final x = ctx.getArgument<String>('x');
-          final y = ctx.getArgument<String>('y');
-          final z = ctx.getArgument<String>('z');
+          final x = ctx.getArgument<int>('x');
+          final y = ctx.getArgument<int>('y');
+          final z = ctx.getArgument<int>('z');
           ctx.sendFeedback('Teleporting to $x, $y, $z');
           return 1;
         },
@@ -81,7 +81,7 @@ Future<void> main() async {
         'optcmd',
         execute: (ctx) {
           // Optional argument can be retrieved with default
-          ctx.getArgument<String>('count') ?? '1';
+          ctx.getArgument<int>('count') ?? 1;
           return 1;
         },
         arguments: [
@@ -91,6 +91,20 @@ Future<void> main() async {
 
       expect(Commands.commandCount, greaterThan(0));
     });
+
+    await testMinecraft('can register async command', (game) async {
+      final before = Commands.commandCount;
+      Commands.registerAsync(
+        'asynccmd',
+        execute: (ctx) async {
+          await ctx.nextTick();
+          ctx.sendFeedback('Done');
+          return 1;
+        },
+      );
+
+      expect(Commands.commandCount, equals(before + 1));
+    });
   });
 
   await group('Argument types', () async {
@@ -156,6 +170,15 @@ Future<void> main() async {
       );
       expect(Commands.commandCount, greaterThan(0));
     });
+
+    await testMinecraft('supports entities argument', (game) async {
+      Commands.register(
+        'entitiesarg',
+        execute: (ctx) => ctx.getArgument<List<int>>('targets')?.length ?? 0,
+        arguments: [CommandArgument('targets', ArgumentType.entities)],
+      );
+      expect(Commands.commandCount, greaterThan(0));
+    });
   });
 
   await group('CommandContext', () async {
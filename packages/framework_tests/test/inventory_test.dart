@@ -0,0 +1,97 @@
+/// Inventory API tests.
+///
+/// Tests for bulk inventory reads, writes and change tracking. These tests
+/// require at least one player to be connected to the server.
+import 'package:dart_mc/api/inventory.dart';
+import 'package:dart_mc/api/item.dart';
+import 'package:redstone_test/redstone_test.dart';
+
+Future<void> main() async {
+  await group('Inventory bulk write (requires online player)', () async {
+    await testMinecraft('moving a renamed stack keeps its name', (game) async {
+      final players = game.players;
+      if (players.isEmpty) return;
+
+      final inventory = players.first.inventory;
+      inventory.setSlot(0, const ItemStack(Item.diamondSword));
+      inventory.setCustomName(0, 'Sorter Test');
+      inventory.clearSlot(1);
+
+      final stacks = inventory.readAll();
+      expect(stacks[0].componentsHash, isNot(equals(0)));
+
+      // Swap slots 0 and 1
+      expect(inventory.writeAll([stacks[1], stacks[0]]), equals(2));
+      expect(inventory.getSlot(0).isEmpty, isTrue);
+      expect(inventory.getSlot(1).item, equals(Item.diamondSword));
+      expect(inventory.getSlot(1).displayName, equals('Sorter Test'));
+
+      inventory.clearSlot(1);
+    });
+
+    await testMinecraft('plain stack does not keep the old stack\'s name', (game) async {
+      final players = game.players;
+      if (players.isEmpty) return;
+
+      final inventory = players.first.inventory;
+      inventory.setSlot(0, const ItemStack(Item.diamondSword));
+      inventory.setCustomName(0, 'Old Name');
+
+      expect(inventory.writeAll([const ItemStack(Item.diamondSword)]), equals(1));
+      expect(inventory.getSlot(0).displayName, isNot(equals('Old Name')));
+      expect(inventory.readAll()[0].componentsHash, equals(0));
+
+      inventory.clearSlot(0);
+    });
+
+    await testMinecraft('writing a stack that is no longer there fails', (game) async {
+      final players = game.players;
+      if (players.isEmpty) return;
+
+      final inventory = players.first.inventory;
+      inventory.setSlot(0, const ItemStack(Item.diamondSword));
+      inventory.setCustomName(0, 'Gone');
+      inventory.clearSlot(1);
+
+      final stacks = inventory.readAll();
+      inventory.clearSlot(0);
+
+      expect(inventory.writeAll([stacks[1], stacks[0]]), equals(-1));
+      expect(inventory.getSlot(1).isEmpty, isTrue);
+    });
+  });
+
+  await group('Inventory change tracking (requires online player)', () async {
+    await testMinecraft('reports only the slots changed since a version', (game) async {
+      final players = game.players;
+      if (players.isEmpty) return;
+
+      final inventory = players.first.inventory;
+      inventory.clearSlot(3);
+      inventory.clearSlot(4);
+
+      final first = inventory.readChanges(0);
+      expect(first, isNotNull);
+      expect(first!.slots.length, equals(inventory.size));
+
+      inventory.setSlot(3, const ItemStack(Item.cobblestone, 5));
+      final second = inventory.readChanges(first.version);
+      expect(second, isNotNull);
+      expect(second!.version, greaterThan(first.version));
+      expect(second.slots.keys, contains(3));
+      expect(second.slots.keys, isNot(contains(4)));
+      expect(second.slots[3]!.item, equals(Item.cobblestone));
+      expect(second.slots[3]!.count, equals(5));
+
+      // Nothing changed since the last read
+      final third = inventory.readChanges(second.version);
+      expect(third!.slots, isEmpty);
+      expect(third.version, equals(second.version));
+
+      inventory.clearSlot(3);
+      final fourth = inventory.readChanges(third.version);
+      expect(fourth!.slots.keys, equals([3]));
+      expect(fourth.slots[3]!.isEmpty, isTrue);
+    });
+  });
+}
@@ -19,6 +19,11 @@ Future<void> main() async {
       expect(players, isA<List<Player>>());
     });
 
+    await testMinecraft('Players.getAllPlayerIds matches getAllPlayers', (game) async {
+      final ids = Players.getAllPlayerIds();
+      expect(ids, equals([for (final player in Players.getAllPlayers()) player.id]));
+    });
+
     await testMinecraft('Players.playerCount returns a number', (game) async {
       final count = Players.playerCount;
       expect(count, greaterThanOrEqualTo(0));
@@ -439,6 +444,17 @@ Future<void> main() async {
       expect(lookedUp!.id, equals(player.id));
     });
 
+    await testMinecraft('player name lookup ignores case', (game) async {
+      final players = game.players;
+      if (players.isEmpty) return;
+
+      final player = players.first;
+      final lookedUp = Players.getPlayerByName(player.name.toUpperCase());
+
+      expect(lookedUp, isNotNull);
+      expect(lookedUp!.id, equals(player.id));
+    });
+
     await testMinecraft('can get player by UUID', (game) async {
       final players = game.players;
       if (players.isEmpty) return;
@@ -478,6 +494,19 @@ Future<void> main() async {
       expect(info.foodLevel, equals(player.foodLevel));
       expect(info.gameMode, equals(player.gameMode));
     });
+
+    await testMinecraft('Players.snapshot matches live values', (game) async {
+      final snapshot = Players.snapshot();
+      expect(snapshot.length, equals(Players.playerCount));
+      if (snapshot.isEmpty) return;
+
+      final info = snapshot.first;
+      expect(info.name, equals(info.player.name));
+      expect(info.uuid, equals(info.player.uuid));
+      expect(info.health, equals(info.player.health));
+      expect(info.foodLevel, equals(info.player.foodLevel));
+      expect(info.gameMode, equals(info.player.gameMode));
+    });
   });
 }
 
@@ -321,6 +321,26 @@ Future<void> main() async {
     });
   });
 
+  await group('Loaded recipe lookup', () async {
+    await testMinecraft('getRecipesByOutput finds vanilla recipes', (game) async {
+      expect(Recipes.getRecipesByOutput('minecraft:crafting_table'),
+          contains('minecraft:crafting_table'));
+    });
+
+    await testMinecraft('getRecipesByOutput returns every recipe for an item', (game) async {
+      final recipes = Recipes.getRecipesByOutput('minecraft:stick');
+      expect(recipes, containsAll(['minecraft:stick', 'minecraft:stick_from_bamboo_item']));
+    });
+
+    await testMinecraft('getRecipesByOutput is empty for an item without recipes', (game) async {
+      expect(Recipes.getRecipesByOutput('minecraft:bedrock'), isEmpty);
+    });
+
+    await testMinecraft('getRecipesByOutput is empty for an invalid ID', (game) async {
+      expect(Recipes.getRecipesByOutput('Not An Item!'), isEmpty);
+    });
+  });
+
   // Pure Dart unit tests
   await group('RecipeType values', () async {
     dart_test.test('RecipeType has expected values', () {
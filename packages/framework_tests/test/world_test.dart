@@ -1,7 +1,10 @@
 /// World API tests.
 ///
 /// Tests for world manipulation including time, weather, game rules,
-/// world border, spawn point, and difficulty settings.
+/// world border, spawn point, difficulty settings and block regions.
+import 'dart:typed_data';
+
+import 'package:dart_mc/api/world.dart' show BlockRegion;
 import 'package:redstone_test/redstone_test.dart';
 
 Future<void> main() async {
@@ -225,6 +228,58 @@ Future<void> main() async {
       expect(customWorld.dimensionId, equals('minecraft:overworld'));
     });
   });
+
+  await group('Block regions', () async {
+    const origin = BlockPos(1200, 100, 1200);
+
+    await testMinecraft('round-trips block state properties', (game) async {
+      final world = game.world;
+      const stairs = Block('minecraft:oak_stairs[facing=east,half=top]');
+      final region = BlockRegion(2, 1, 2, [Block.stone, stairs], Uint16List(4));
+      region.indices[3] = 1;
+
+      expect(world.setBlockRegion(origin, region), greaterThanOrEqualTo(0));
+
+      final read = world.getBlockRegion(origin, 2, 1, 2);
+      expect(read, isNotNull);
+      expect(read!.blockAt(0, 0, 0), equals(Block.stone));
+      final copied = read.blockAt(1, 0, 1).id;
+      expect(copied, contains('minecraft:oak_stairs['));
+      expect(copied, contains('facing=east'));
+      expect(copied, contains('half=top'));
+
+      world.fillBlocks(origin, BlockPos(origin.x + 1, origin.y, origin.z + 1), Block.air);
+    });
+
+    await testMinecraft('skip index leaves blocks unchanged', (game) async {
+      final world = game.world;
+      world.fillBlocks(origin, BlockPos(origin.x + 1, origin.y, origin.z), Block.dirt);
+
+      final region = BlockRegion(2, 1, 1, [Block.stone], Uint16List(2));
+      region.indices[1] = BlockRegion.skip;
+      expect(world.setBlockRegion(origin, region), equals(1));
+
+      expect(world.getBlock(origin), isBlock(Block.stone));
+      expect(world.getBlock(BlockPos(origin.x + 1, origin.y, origin.z)), isBlock(Block.dirt));
+
+      world.fillBlocks(origin, BlockPos(origin.x + 1, origin.y, origin.z), Block.air);
+    });
+
+    await testMinecraft('copyBlocks keeps block states', (game) async {
+      final world = game.world;
+      final target = BlockPos(origin.x, origin.y + 5, origin.z);
+      world.setBlockRegion(
+        origin,
+        BlockRegion(1, 1, 1, [const Block('minecraft:oak_slab[type=top]')], Uint16List(1)),
+      );
+
+      expect(world.copyBlocks(origin, 1, 1, 1, target), equals(1));
+      expect(world.getBlockRegion(target, 1, 1, 1)!.blockAt(0, 0, 0).id, contains('type=top'));
+
+      world.setBlock(origin, Block.air);
+      world.setBlock(target, Block.air);
+    });
+  });
 }
 
 /// Matcher for approximate double equality.
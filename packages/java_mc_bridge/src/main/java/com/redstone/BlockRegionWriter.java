@@ -0,0 +1,165 @@
+package com.redstone;
+
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.lighting.LightEngine;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes block regions for DartBridge.setBlockRegion straight into the chunk
+ * sections instead of going through Level.setBlock per block.
+ *
+ * Like a structure placement, no neighbor or shape updates run and blocks
+ * are not notified through onPlace/onRemove (a replaced chest does not drop
+ * its contents). Heightmaps, block entities and POIs are kept up to date.
+ * Each changed section is sent to the players tracking its chunk as one
+ * section update, and the light checks for the whole region are queued
+ * after all blocks are written, so the light engine relights it in one pass.
+ *
+ * Only called on the server thread.
+ */
+final class BlockRegionWriter {
+    private BlockRegionWriter() {}
+
+    /**
+     * @param states  Palette, indexed by the values in {@code indices}
+     * @param indices sizeX * sizeY * sizeZ unsigned shorts (X fastest, then Z,
+     *                then Y); {@link DartBridge#REGION_SKIP} and indices past
+     *                the palette leave the position unchanged
+     * @return Number of blocks changed
+     */
+    static int write(ServerLevel level, int x, int y, int z, int sizeX, int sizeY, int sizeZ,
+                     BlockState[] states, ByteBuffer indices) {
+        ThreadedLevelLightEngine lightEngine = level.getChunkSource().getLightEngine();
+        List<BlockPos> lightChecks = new ArrayList<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int changed = 0;
+
+        int maxX = x + sizeX - 1;
+        int maxZ = z + sizeZ - 1;
+        for (int cx = x >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = z >> 4; cz <= maxZ >> 4; cz++) {
+                LevelChunk chunk = level.getChunk(cx, cz);
+                int sectionCount = chunk.getSectionsCount();
+                ShortOpenHashSet[] changedInSection = new ShortOpenHashSet[sectionCount];
+                boolean[] wasEmpty = new boolean[sectionCount];
+                List<BlockPos> blockEntities = new ArrayList<>();
+
+                int fromX = Math.max(x, cx << 4), toX = Math.min(maxX, (cx << 4) + 15);
+                int fromZ = Math.max(z, cz << 4), toZ = Math.min(maxZ, (cz << 4) + 15);
+                for (int by = y; by < y + sizeY; by++) {
+                    if (level.isOutsideBuildHeight(by)) continue;
+                    int sectionIndex = chunk.getSectionIndex(by);
+                    LevelChunkSection section = chunk.getSection(sectionIndex);
+                    int ly = by & 15;
+
+                    for (int bz = fromZ; bz <= toZ; bz++) {
+                        for (int bx = fromX; bx <= toX; bx++) {
+                            int index = ((by - y) * sizeZ + (bz - z)) * sizeX + (bx - x);
+                            int paletteIdx = indices.getShort(index * 2) & 0xFFFF;
+                            if (paletteIdx == DartBridge.REGION_SKIP || paletteIdx >= states.length) continue;
+
+                            BlockState target = states[paletteIdx];
+                            int lx = bx & 15, lz = bz & 15;
+                            if (section.getBlockState(lx, ly, lz) == target) continue;
+
+                            if (changedInSection[sectionIndex] == null) {
+                                changedInSection[sectionIndex] = new ShortOpenHashSet();
+                                wasEmpty[sectionIndex] = section.hasOnlyAir();
+                            }
+                            BlockState old = section.setBlockState(lx, ly, lz, target);
+                            pos.set(bx, by, bz);
+                            changedInSection[sectionIndex].add(SectionPos.sectionRelativePos(pos));
+                            changed++;
+
+                            for (var heightmap : chunk.getHeightmaps()) {
+                                heightmap.getValue().update(lx, by, lz, target);
+                            }
+
+                            if (old.hasBlockEntity() && !old.is(target.getBlock())) {
+                                chunk.removeBlockEntity(pos);
+                            }
+                            if (target.hasBlockEntity()) {
+                                BlockEntity blockEntity = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.IMMEDIATE);
+                                if (blockEntity != null) {
+                                    if (old.is(target.getBlock())) blockEntity.setBlockState(target);
+                                    blockEntities.add(pos.immutable());
+                                }
+                            }
+
+                            level.onBlockStateChange(pos, old, target);
+
+                            if (LightEngine.hasDifferentLightProperties(old, target)) {
+                                chunk.getSkyLightSources().update(chunk, lx, by, lz);
+                                lightChecks.add(pos.immutable());
+                            }
+                        }
+                    }
+                }
+
+                sendChunkChanges(level, lightEngine, chunk, changedInSection, wasEmpty, blockEntities);
+            }
+        }
+
+        // Queue every light check only once the whole region is in place
+        for (BlockPos lightPos : lightChecks) {
+            lightEngine.checkBlock(lightPos);
+        }
+        return changed;
+    }
+
+    /**
+     * Mark a chunk dirty and send one update per changed section plus the
+     * block entity data to the players tracking the chunk.
+     */
+    private static void sendChunkChanges(ServerLevel level, ThreadedLevelLightEngine lightEngine, LevelChunk chunk,
+                                         ShortOpenHashSet[] changedInSection, boolean[] wasEmpty,
+                                         List<BlockPos> blockEntities) {
+        List<ServerPlayer> players = null;
+        for (int i = 0; i < changedInSection.length; i++) {
+            if (changedInSection[i] == null) continue;
+            if (players == null) {
+                chunk.markUnsaved();
+                players = level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false);
+            }
+
+            LevelChunkSection section = chunk.getSection(i);
+            SectionPos sectionPos = SectionPos.of(chunk.getPos(), chunk.getSectionYFromSectionIndex(i));
+            boolean isEmpty = section.hasOnlyAir();
+            if (isEmpty != wasEmpty[i]) {
+                lightEngine.updateSectionStatus(sectionPos, isEmpty);
+            }
+
+            if (players.isEmpty()) continue;
+            var packet = new ClientboundSectionBlocksUpdatePacket(sectionPos, changedInSection[i], section);
+            for (ServerPlayer player : players) {
+                player.connection.send(packet);
+            }
+        }
+
+        if (players == null || players.isEmpty()) return;
+        for (BlockPos blockEntityPos : blockEntities) {
+            BlockEntity blockEntity = chunk.getBlockEntity(blockEntityPos);
+            if (blockEntity == null) continue;
+            Packet<ClientGamePacketListener> packet = blockEntity.getUpdatePacket();
+            if (packet == null) continue;
+            for (ServerPlayer player : players) {
+                player.connection.send(packet);
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.redstone;
 
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.commands.arguments.blocks.BlockStateParser;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
@@ -28,10 +31,12 @@ import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.EquipmentSlot;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.File;
@@ -64,9 +69,9 @@ public class DartBridge {
     // Container type definitions registered from Dart
     private static final Map<String, ContainerDef> containerDefinitions = new HashMap<>();
 
-    // Cache for recently spawned entities that may not yet be fully registered in their level
-    // This is needed because addFreshEntity doesn't immediately make entities findable via level.getEntity()
-    private static final java.util.concurrent.ConcurrentHashMap<Integer, Entity> recentlySpawnedEntities = new java.util.concurrent.ConcurrentHashMap<>();
+    // Entity ID -> Entity index across all levels, kept in sync by ServerEntityEvents
+    // (see DartModLoader). Only touched on the server thread.
+    private static final Int2ObjectOpenHashMap<Entity> entityIndex = new Int2ObjectOpenHashMap<>();
 
     static {
         try {
@@ -172,6 +177,7 @@ public class DartBridge {
     // Entity proxy native methods - called by DartEntityProxy
     public static native void onProxyEntitySpawn(long handlerId, int entityId, long worldId);
     public static native void onProxyEntityTick(long handlerId, int entityId);
+    private static native void onProxyEntityTickBatch(java.nio.ByteBuffer records, int count);
     public static native void onProxyEntityDeath(long handlerId, int entityId, String damageSource);
     public static native boolean onProxyEntityDamage(long handlerId, int entityId, String damageSource, float amount);
     public static native void onProxyEntityAttack(long handlerId, int entityId, int targetId);
@@ -191,11 +197,19 @@ public class DartBridge {
     public static native int onProxyItemUseOnEntity(long handlerId, long worldId, int entityId, int playerId, int hand);
 
     // Command system native methods - called by CommandRegistry
-    public static native int onCommandExecute(long commandId, int playerId, String argsJson);
+    public static native int onCommandExecute(long commandId, int playerId, int frameBytes);
 
     // Service URL for hot reload/debugging
     private static native String getDartServiceUrl();
 
+    // Dispatch latency profiler (see dispatch_profiler.h)
+    private static native String getDispatchProfile();
+    private static native void resetDispatchProfile();
+    private static native long getDartNanos(boolean reset);
+    private static native void markDartBudgetThread();
+    private static native long getActiveDispatchNanos();
+    private static native String getActiveDispatchName();
+
     // Chat message handler (called from native code)
     private static ChatMessageHandler chatHandler = null;
 
@@ -315,6 +329,95 @@ public class DartBridge {
         }
     }
 
+    /**
+     * Get the dispatch latency report: call counts and latency percentiles
+     * per dispatch type and proxy handler.
+     *
+     * @return The report, or null if the native library isn't loaded.
+     */
+    public static String getProfileReport() {
+        if (!libraryLoaded) return null;
+        try {
+            return getDispatchProfile();
+        } catch (Throwable e) {
+            LOGGER.error("Exception getting dispatch profile: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Clear the dispatch latency statistics.
+     */
+    public static void resetProfile() {
+        if (!libraryLoaded) return;
+        try {
+            resetDispatchProfile();
+        } catch (Throwable e) {
+            LOGGER.error("Exception resetting dispatch profile: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the time spent in Dart dispatches on the server thread since the
+     * last reset.
+     *
+     * @param reset Start counting again from zero
+     * @return Nanoseconds, or 0 if the native library isn't loaded.
+     */
+    public static long getDartTime(boolean reset) {
+        if (!libraryLoaded) return 0;
+        try {
+            return getDartNanos(reset);
+        } catch (Throwable e) {
+            LOGGER.error("Exception getting Dart time: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Make the calling thread (the server thread) the only one whose Dart
+     * dispatches count toward getDartTime and the active dispatch, so client
+     * thread dispatches don't eat into the server's tick budget.
+     */
+    public static void markBudgetThread() {
+        if (!libraryLoaded) return;
+        try {
+            markDartBudgetThread();
+        } catch (Throwable e) {
+            LOGGER.error("Exception marking Dart budget thread: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get how long the Dart dispatch currently running on the server thread
+     * has taken so far. Safe to call from any thread.
+     *
+     * @return Nanoseconds, or 0 if no dispatch is running.
+     */
+    public static long getActiveDispatchTime() {
+        if (!libraryLoaded) return 0;
+        try {
+            return getActiveDispatchNanos();
+        } catch (Throwable e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Get the name of the Dart dispatch currently running on the server thread, e.g.
+     * "dispatch_proxy_block_use (handler 3)".
+     *
+     * @return The name, or an empty string if no dispatch is running.
+     */
+    public static String getActiveDispatch() {
+        if (!libraryLoaded) return "";
+        try {
+            return getActiveDispatchName();
+        } catch (Throwable e) {
+            return "";
+        }
+    }
+
     /**
      * Dispatch a block break event to Dart handlers.
      *
@@ -357,6 +460,20 @@ public class DartBridge {
         }
     }
 
+    /**
+     * Dispatch the entity ticks collected by EntityTickScheduler in one call.
+     * @param records Direct buffer of (handlerId, entityId) pairs as native-order longs
+     * @param count Number of pairs
+     */
+    public static void dispatchProxyEntityTickBatch(java.nio.ByteBuffer records, int count) {
+        if (!initialized || count <= 0) return;
+        try {
+            onProxyEntityTickBatch(records, count);
+        } catch (Exception e) {
+            LOGGER.error("Exception during entity tick batch dispatch: {}", e.getMessage());
+        }
+    }
+
     // ==========================================================================
     // New Event Dispatch Methods (Native)
     // ==========================================================================
@@ -766,9 +883,13 @@ public class DartBridge {
      * @return Block ID string (e.g., "minecraft:stone") or "minecraft:air" if invalid
      */
     public static String getBlockId(String dimension, int x, int y, int z) {
+        return getBlockId(getDimensionHandle(dimension), x, y, z);
+    }
+
+    public static String getBlockId(int dimensionHandle, int x, int y, int z) {
         if (serverInstance == null) return "minecraft:air";
 
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return "minecraft:air";
 
         BlockPos pos = new BlockPos(x, y, z);
@@ -784,9 +905,13 @@ public class DartBridge {
      * @return true if successful
      */
     public static boolean setBlock(String dimension, int x, int y, int z, String blockId) {
+        return setBlock(getDimensionHandle(dimension), x, y, z, blockId);
+    }
+
+    public static boolean setBlock(int dimensionHandle, int x, int y, int z, String blockId) {
         if (serverInstance == null) return false;
 
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return false;
 
         BlockPos pos = new BlockPos(x, y, z);
@@ -798,24 +923,193 @@ public class DartBridge {
      * Check if a position contains air.
      */
     public static boolean isAirBlock(String dimension, int x, int y, int z) {
+        return isAirBlock(getDimensionHandle(dimension), x, y, z);
+    }
+
+    public static boolean isAirBlock(int dimensionHandle, int x, int y, int z) {
         if (serverInstance == null) return true;
 
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return true;
 
         BlockPos pos = new BlockPos(x, y, z);
         return level.getBlockState(pos).isAir();
     }
 
+    // --------------------------------------------------------------------------
+    // Block Regions (bulk read/write)
+    // --------------------------------------------------------------------------
+    // Regions are exchanged as unsigned 16-bit palette indices in a direct buffer
+    // (native byte order), ordered with X fastest, then Z, then Y:
+    //   index = ((dy * sizeZ) + dz) * sizeX + dx
+    // The palette is a list of block states separated by ';', each in command
+    // syntax with its properties, e.g. "minecraft:oak_stairs[facing=east,half=bottom,...]".
+
+    /** Palette index meaning "leave this position unchanged" in setBlockRegion. */
+    public static final int REGION_SKIP = 0xFFFF;
+
+    /**
+     * Read a cuboid of blocks into a direct buffer of palette indices.
+     * @param out Direct buffer with room for sizeX * sizeY * sizeZ shorts
+     * @return The palette (';'-separated block states), or null on failure
+     */
+    public static String getBlockRegion(String dimension, int x, int y, int z,
+                                        int sizeX, int sizeY, int sizeZ, java.nio.ByteBuffer out) {
+        return getBlockRegion(getDimensionHandle(dimension), x, y, z, sizeX, sizeY, sizeZ, out);
+    }
+
+    public static String getBlockRegion(int dimensionHandle, int x, int y, int z,
+                                        int sizeX, int sizeY, int sizeZ, java.nio.ByteBuffer out) {
+        ServerLevel level = getLevelByHandle(dimensionHandle);
+        if (level == null || !isValidRegion(sizeX, sizeY, sizeZ, out)) return null;
+        out.order(java.nio.ByteOrder.nativeOrder());
+
+        Map<BlockState, Integer> paletteIndex = new java.util.IdentityHashMap<>();
+        StringBuilder palette = new StringBuilder();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        int maxX = x + sizeX - 1;
+        int maxZ = z + sizeZ - 1;
+        for (int cx = x >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = z >> 4; cz <= maxZ >> 4; cz++) {
+                // Resolve the chunk once and read every column position from it
+                LevelChunk chunk = level.getChunk(cx, cz);
+                int fromX = Math.max(x, cx << 4), toX = Math.min(maxX, (cx << 4) + 15);
+                int fromZ = Math.max(z, cz << 4), toZ = Math.min(maxZ, (cz << 4) + 15);
+                for (int by = y; by < y + sizeY; by++) {
+                    for (int bz = fromZ; bz <= toZ; bz++) {
+                        for (int bx = fromX; bx <= toX; bx++) {
+                            BlockState state = chunk.getBlockState(pos.set(bx, by, bz));
+                            Integer idx = paletteIndex.get(state);
+                            if (idx == null) {
+                                idx = paletteIndex.size();
+                                paletteIndex.put(state, idx);
+                                if (palette.length() > 0) palette.append(';');
+                                palette.append(BlockStateParser.serialize(state));
+                            }
+                            int index = ((by - y) * sizeZ + (bz - z)) * sizeX + (bx - x);
+                            out.putShort(index * 2, (short) idx.intValue());
+                        }
+                    }
+                }
+            }
+        }
+        return palette.toString();
+    }
+
+    /**
+     * Write a cuboid of blocks from a direct buffer of palette indices.
+     *
+     * Positions that already hold the target state are skipped, as are indices
+     * equal to {@link #REGION_SKIP}. Blocks are written directly into the chunk
+     * sections without neighbor or shape updates (see {@link BlockRegionWriter});
+     * each changed section is sent to clients as one update and the region is
+     * relit once after all blocks are written.
+     *
+     * @param palette ';'-separated block states referenced by the indices. A
+     *                plain block ID stands for that block's default state.
+     * @param indices Direct buffer of sizeX * sizeY * sizeZ unsigned shorts
+     * @return Number of blocks changed, or -1 on failure
+     */
+    public static int setBlockRegion(String dimension, int x, int y, int z,
+                                     int sizeX, int sizeY, int sizeZ, String palette, java.nio.ByteBuffer indices) {
+        return setBlockRegion(getDimensionHandle(dimension), x, y, z, sizeX, sizeY, sizeZ, palette, indices);
+    }
+
+    public static int setBlockRegion(int dimensionHandle, int x, int y, int z,
+                                     int sizeX, int sizeY, int sizeZ, String palette, java.nio.ByteBuffer indices) {
+        ServerLevel level = getLevelByHandle(dimensionHandle);
+        if (level == null || palette == null || !isValidRegion(sizeX, sizeY, sizeZ, indices)) return -1;
+        indices.order(java.nio.ByteOrder.nativeOrder());
+
+        String[] entries = palette.split(";");
+        BlockState[] states = new BlockState[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            try {
+                states[i] = BlockStateParser.parseForBlock(BuiltInRegistries.BLOCK, entries[i].trim(), false).blockState();
+            } catch (CommandSyntaxException e) {
+                LOGGER.warn("setBlockRegion: Invalid block state '{}' in palette: {}", entries[i], e.getMessage());
+                return -1;
+            }
+        }
+
+        return BlockRegionWriter.write(level, x, y, z, sizeX, sizeY, sizeZ, states, indices);
+    }
+
+    private static boolean isValidRegion(int sizeX, int sizeY, int sizeZ, java.nio.ByteBuffer buffer) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) return false;
+        if (buffer == null || !buffer.isDirect()) return false;
+        long volume = (long) sizeX * sizeY * sizeZ;
+        return volume * 2 <= buffer.capacity();
+    }
+
     /**
      * Helper to get ServerLevel by dimension ID.
      */
     private static ServerLevel getServerLevel(String dimension) {
-        if (serverInstance == null) return null;
+        return getLevelByHandle(getDimensionHandle(dimension));
+    }
+
+    // --------------------------------------------------------------------------
+    // Dimension Handles
+    // --------------------------------------------------------------------------
+    // A dimension ID is parsed once into a small int handle. Handles stay valid
+    // for the lifetime of the process; the ServerLevel behind each handle is
+    // cached and dropped whenever a level loads or unloads.
+
+    private static final Map<String, Integer> dimensionHandleIds = new HashMap<>();
+    private static final List<ResourceKey<Level>> dimensionHandleKeys = new ArrayList<>();
+    private static ServerLevel[] dimensionHandleLevels = new ServerLevel[8];
 
-        Identifier dimId = Identifier.parse(dimension);
+    /**
+     * Resolve a dimension ID (e.g., "minecraft:overworld") to a handle.
+     * Handles are only allocated for dimensions the server has loaded, so
+     * arbitrary strings don't grow the table.
+     * @return The handle, or -1 if the ID is not a loaded dimension
+     */
+    public static int getDimensionHandle(String dimension) {
+        if (dimension == null) return -1;
+        Integer handle = dimensionHandleIds.get(dimension);
+        if (handle != null) return handle;
+
+        Identifier dimId = Identifier.tryParse(dimension);
+        if (dimId == null || serverInstance == null) return -1;
         ResourceKey<Level> key = ResourceKey.create(Registries.DIMENSION, dimId);
-        return serverInstance.getLevel(key);
+        if (serverInstance.getLevel(key) == null) return -1;
+
+        handle = dimensionHandleKeys.size();
+        dimensionHandleKeys.add(key);
+        dimensionHandleIds.put(dimension, handle);
+        return handle;
+    }
+
+    /**
+     * Get the ServerLevel for a dimension handle, or null if it is not loaded.
+     */
+    static ServerLevel getLevelByHandle(int handle) {
+        if (serverInstance == null || handle < 0 || handle >= dimensionHandleKeys.size()) return null;
+
+        if (handle < dimensionHandleLevels.length) {
+            ServerLevel cached = dimensionHandleLevels[handle];
+            if (cached != null) return cached;
+        }
+
+        ServerLevel level = serverInstance.getLevel(dimensionHandleKeys.get(handle));
+        if (level == null) return null;
+        if (handle >= dimensionHandleLevels.length) {
+            dimensionHandleLevels = java.util.Arrays.copyOf(dimensionHandleLevels,
+                Math.max(handle + 1, dimensionHandleLevels.length * 2));
+        }
+        dimensionHandleLevels[handle] = level;
+        return level;
+    }
+
+    /**
+     * Drop cached levels so handles re-resolve. Called when a level loads or
+     * unloads, and when the server stops.
+     */
+    public static void invalidateDimensionHandles() {
+        java.util.Arrays.fill(dimensionHandleLevels, null);
     }
 
     // ==========================================================================
@@ -827,13 +1121,7 @@ public class DartBridge {
      */
     public static ServerPlayer getPlayerById(int playerId) {
         if (serverInstance == null) return null;
-
-        for (ServerPlayer player : serverInstance.getPlayerList().getPlayers()) {
-            if (player.getId() == playerId) {
-                return player;
-            }
-        }
-        return null;
+        return PlayerIndex.get(playerId);
     }
 
     // --------------------------------------------------------------------------
@@ -1061,18 +1349,12 @@ public class DartBridge {
 
     public static int getPlayerIdByIndex(int index) {
         if (serverInstance == null) return -1;
-
-        List<ServerPlayer> players = serverInstance.getPlayerList().getPlayers();
-        if (index < 0 || index >= players.size()) return -1;
-
-        return players.get(index).getId();
+        return PlayerIndex.getIdByIndex(index);
     }
 
     public static int getPlayerIdByName(String name) {
-        if (serverInstance == null || name == null) return -1;
-
-        ServerPlayer player = serverInstance.getPlayerList().getPlayerByName(name);
-        return player != null ? player.getId() : -1;
+        if (serverInstance == null) return -1;
+        return PlayerIndex.getIdByName(name);
     }
 
     public static int getPlayerIdByUuid(String uuidStr) {
@@ -1080,54 +1362,72 @@ public class DartBridge {
 
         try {
             UUID uuid = UUID.fromString(uuidStr);
-            ServerPlayer player = serverInstance.getPlayerList().getPlayer(uuid);
-            return player != null ? player.getId() : -1;
+            return PlayerIndex.getIdByUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
         } catch (IllegalArgumentException e) {
             LOGGER.warn("Invalid UUID format: {}", uuidStr);
             return -1;
         }
     }
 
+    /**
+     * Look up a player by UUID given as its two halves, without parsing a string.
+     */
+    public static int getPlayerIdByUuidBits(long mostSignificantBits, long leastSignificantBits) {
+        if (serverInstance == null) return -1;
+        return PlayerIndex.getIdByUuid(mostSignificantBits, leastSignificantBits);
+    }
+
     // ==========================================================================
     // Entity API Helper Methods
     // ==========================================================================
 
+    /**
+     * Add an entity to the ID index. Called when an entity loads into a level.
+     */
+    public static void indexEntity(Entity entity) {
+        entityIndex.put(entity.getId(), entity);
+        if (entity instanceof ServerPlayer player) {
+            if (PlayerIndex.get(player.getId()) != null) {
+                // Respawned or changed dimension: same ID, new ServerPlayer
+                PlayerIndex.replace(player);
+            } else if (serverInstance != null && serverInstance.getPlayerList().getPlayer(player.getUUID()) == player) {
+                // Joining: index the player as soon as it is in a level, before
+                // the JOIN event fires. Fake players (not in the list) are skipped.
+                PlayerIndex.add(player);
+            }
+        }
+    }
+
+    /**
+     * Remove an entity from the ID index. Called when an entity unloads.
+     * Only removes the mapping if it still points at this entity, so a player
+     * that has already loaded into a new dimension is not dropped.
+     */
+    public static void unindexEntity(Entity entity) {
+        entityIndex.remove(entity.getId(), entity);
+    }
+
+    /**
+     * Clear the entity and player indices (on server stop).
+     */
+    public static void clearEntityIndex() {
+        entityIndex.clear();
+        PlayerIndex.clear();
+    }
+
     /**
      * Get an Entity by ID from any loaded level.
-     * Also checks recently spawned entities that may not yet be fully registered.
      */
     private static Entity getEntityById(int entityId) {
         if (serverInstance == null) return null;
 
-        // First check recently spawned entities cache
-        Entity cachedEntity = recentlySpawnedEntities.get(entityId);
-        if (cachedEntity != null) {
-            // Verify entity is still valid and remove from cache if found in level
-            if (!cachedEntity.isRemoved()) {
-                // Try to find it in the level - if found, remove from cache
-                for (ServerLevel level : serverInstance.getAllLevels()) {
-                    Entity levelEntity = level.getEntity(entityId);
-                    if (levelEntity != null) {
-                        recentlySpawnedEntities.remove(entityId);
-                        return levelEntity;
-                    }
-                }
-                // Not yet in level, but still valid - return cached entity
-                return cachedEntity;
-            } else {
-                // Entity was removed, clean up cache
-                recentlySpawnedEntities.remove(entityId);
-            }
-        }
-
-        // Fall back to level lookup
-        for (ServerLevel level : serverInstance.getAllLevels()) {
-            Entity entity = level.getEntity(entityId);
-            if (entity != null) {
-                return entity;
-            }
+        Entity entity = entityIndex.get(entityId);
+        if (entity != null && entity.isRemoved()) {
+            // Removed without an unload event reaching us (e.g. before tracking started)
+            entityIndex.remove(entityId);
+            return null;
         }
-        return null;
+        return entity;
     }
 
     // --------------------------------------------------------------------------
@@ -1570,9 +1870,9 @@ public class DartBridge {
         entity.setPos(x, y, z);
         boolean added = level.addFreshEntity(entity);
 
-        // Cache the entity so it can be found immediately before the next tick
+        // Index right away in case the chunk isn't tracking entities yet (no load event)
         if (added) {
-            recentlySpawnedEntities.put(entity.getId(), entity);
+            indexEntity(entity);
         }
 
         return entity.getId();
@@ -1622,9 +1922,9 @@ public class DartBridge {
         entity.setPos(x, y, z);
         boolean added = level.addFreshEntity(entity);
 
-        // Cache the entity so it can be found immediately before the next tick
+        // Index right away in case the chunk isn't tracking entities yet (no load event)
         if (added) {
-            recentlySpawnedEntities.put(entity.getId(), entity);
+            indexEntity(entity);
         }
 
         // Call the onProxyEntitySpawn callback to notify Dart
@@ -1648,15 +1948,7 @@ public class DartBridge {
         if (level == null) return "";
 
         AABB box = new AABB(minX, minY, minZ, maxX, maxY, maxZ);
-        List<Entity> entities = new java.util.ArrayList<>(level.getEntities((Entity) null, box, e -> true));
-        java.util.Set<Integer> seenIds = entities.stream().map(Entity::getId).collect(Collectors.toSet());
-
-        // Also check recently spawned entities that may not yet be in the level's entity list
-        for (Entity cached : recentlySpawnedEntities.values()) {
-            if (!cached.isRemoved() && cached.level() == level && box.contains(cached.position()) && !seenIds.contains(cached.getId())) {
-                entities.add(cached);
-            }
-        }
+        List<Entity> entities = level.getEntities((Entity) null, box, e -> true);
 
         return entities.stream()
             .map(e -> String.valueOf(e.getId()))
@@ -1673,15 +1965,7 @@ public class DartBridge {
         Vec3 center = new Vec3(x, y, z);
         double radiusSq = radius * radius;
 
-        List<Entity> entities = new java.util.ArrayList<>(level.getEntities((Entity) null, box, e -> e.distanceToSqr(center) <= radiusSq));
-        java.util.Set<Integer> seenIds = entities.stream().map(Entity::getId).collect(Collectors.toSet());
-
-        // Also check recently spawned entities that may not yet be in the level's entity list
-        for (Entity cached : recentlySpawnedEntities.values()) {
-            if (!cached.isRemoved() && cached.level() == level && cached.distanceToSqr(center) <= radiusSq && !seenIds.contains(cached.getId())) {
-                entities.add(cached);
-            }
-        }
+        List<Entity> entities = level.getEntities((Entity) null, box, e -> e.distanceToSqr(center) <= radiusSq);
 
         return entities.stream()
             .map(e -> String.valueOf(e.getId()))
@@ -1697,9 +1981,10 @@ public class DartBridge {
         Optional<EntityType<?>> typeOpt = BuiltInRegistries.ENTITY_TYPE.getOptional(Identifier.parse(entityType));
         if (typeOpt.isEmpty()) return "";
 
+        EntityType<?> type = typeOpt.get();
         List<Integer> ids = new ArrayList<>();
         for (Entity entity : level.getAllEntities()) {
-            if (BuiltInRegistries.ENTITY_TYPE.getKey(entity.getType()).toString().equals(entityType)) {
+            if (entity.getType() == type) {
                 ids.add(entity.getId());
             }
         }
@@ -1709,6 +1994,222 @@ public class DartBridge {
             .collect(Collectors.joining(","));
     }
 
+    // --------------------------------------------------------------------------
+    // Entity Queries (binary results)
+    // --------------------------------------------------------------------------
+    // These write matching entity IDs as native-order ints into a reusable direct
+    // buffer (see getEntityQueryBuffer) and return the number of IDs written.
+
+    public static final int QUERY_LIVING_ONLY = 1;
+    public static final int QUERY_MOBS_ONLY = 1 << 1;
+    public static final int QUERY_EXCLUDE_PLAYERS = 1 << 2;
+    public static final int QUERY_EXCLUDE_DEAD = 1 << 3;
+
+    private static java.nio.ByteBuffer entityQueryBuffer =
+        java.nio.ByteBuffer.allocateDirect(1024 * Integer.BYTES).order(java.nio.ByteOrder.nativeOrder());
+    private static int entityQueryCount = 0;
+
+    /**
+     * Get the buffer that holds the results of the last query*Entities call.
+     * The buffer is replaced when a query outgrows it, so callers should
+     * re-fetch it when the returned count exceeds their view's capacity.
+     */
+    public static java.nio.ByteBuffer getEntityQueryBuffer() {
+        return entityQueryBuffer;
+    }
+
+    private static void appendQueryResult(int entityId) {
+        int offset = entityQueryCount * Integer.BYTES;
+        if (offset + Integer.BYTES > entityQueryBuffer.capacity()) {
+            java.nio.ByteBuffer grown = java.nio.ByteBuffer.allocateDirect(entityQueryBuffer.capacity() * 2)
+                .order(java.nio.ByteOrder.nativeOrder());
+            entityQueryBuffer.limit(offset).position(0);
+            grown.put(entityQueryBuffer);
+            entityQueryBuffer = grown;
+        }
+        entityQueryBuffer.putInt(offset, entityId);
+        entityQueryCount++;
+    }
+
+    /**
+     * Resolve an entity type filter string, or null if empty or unknown.
+     */
+    private static EntityType<?> resolveTypeFilter(String entityType) {
+        if (entityType == null || entityType.isEmpty()) return null;
+        Identifier id = Identifier.tryParse(entityType);
+        if (id == null) return null;
+        return BuiltInRegistries.ENTITY_TYPE.getOptional(id).orElse(null);
+    }
+
+    private static boolean matchesQuery(Entity entity, EntityType<?> type, int flags) {
+        if (type != null && entity.getType() != type) return false;
+        if ((flags & QUERY_LIVING_ONLY) != 0 && !(entity instanceof LivingEntity)) return false;
+        if ((flags & QUERY_MOBS_ONLY) != 0 && !(entity instanceof Mob)) return false;
+        if ((flags & QUERY_EXCLUDE_PLAYERS) != 0 && entity instanceof Player) return false;
+        if ((flags & QUERY_EXCLUDE_DEAD) != 0 && !entity.isAlive()) return false;
+        return true;
+    }
+
+    /**
+     * Write the IDs of entities inside a box into the query buffer.
+     * @param entityType Optional type filter (e.g. "minecraft:zombie"), or empty for any
+     * @param flags Combination of QUERY_* filter flags
+     * @return Number of IDs written, or -1 if the dimension or type is invalid
+     */
+    public static int queryEntitiesInBox(String dimension, double minX, double minY, double minZ,
+                                         double maxX, double maxY, double maxZ, String entityType, int flags) {
+        entityQueryCount = 0;
+        ServerLevel level = getServerLevel(dimension);
+        if (level == null) return -1;
+
+        EntityType<?> type = resolveTypeFilter(entityType);
+        if (type == null && entityType != null && !entityType.isEmpty()) return -1;
+
+        AABB box = new AABB(minX, minY, minZ, maxX, maxY, maxZ);
+        level.getEntities().get(box, entity -> {
+            if (matchesQuery(entity, type, flags)) appendQueryResult(entity.getId());
+        });
+        return entityQueryCount;
+    }
+
+    /**
+     * Write the IDs of entities within a sphere into the query buffer.
+     * @return Number of IDs written, or -1 if the dimension or type is invalid
+     */
+    public static int queryEntitiesInRadius(String dimension, double x, double y, double z, double radius,
+                                            String entityType, int flags) {
+        entityQueryCount = 0;
+        ServerLevel level = getServerLevel(dimension);
+        if (level == null) return -1;
+
+        EntityType<?> type = resolveTypeFilter(entityType);
+        if (type == null && entityType != null && !entityType.isEmpty()) return -1;
+
+        AABB box = new AABB(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius);
+        double radiusSq = radius * radius;
+        level.getEntities().get(box, entity -> {
+            if (entity.distanceToSqr(x, y, z) <= radiusSq && matchesQuery(entity, type, flags)) {
+                appendQueryResult(entity.getId());
+            }
+        });
+        return entityQueryCount;
+    }
+
+    /**
+     * Write the IDs of all entities of a type in a level into the query buffer.
+     * @return Number of IDs written, or -1 if the dimension or type is invalid
+     */
+    public static int queryEntitiesByType(String dimension, String entityType, int flags) {
+        entityQueryCount = 0;
+        ServerLevel level = getServerLevel(dimension);
+        if (level == null) return -1;
+
+        EntityType<?> type = resolveTypeFilter(entityType);
+        if (type == null) return -1;
+
+        for (Entity entity : level.getAllEntities()) {
+            if (matchesQuery(entity, type, flags)) appendQueryResult(entity.getId());
+        }
+        return entityQueryCount;
+    }
+
+    // --------------------------------------------------------------------------
+    // Entity Snapshots (bulk read)
+    // --------------------------------------------------------------------------
+
+    /** Size in bytes of one record written by {@link #snapshotEntities}. */
+    public static final int ENTITY_SNAPSHOT_STRIDE = 80;
+
+    public static final int SNAPSHOT_FOUND = 1;
+    public static final int SNAPSHOT_LIVING = 1 << 1;
+    public static final int SNAPSHOT_MOB = 1 << 2;
+    public static final int SNAPSHOT_PLAYER = 1 << 3;
+    public static final int SNAPSHOT_ON_GROUND = 1 << 4;
+    public static final int SNAPSHOT_IN_WATER = 1 << 5;
+    public static final int SNAPSHOT_ON_FIRE = 1 << 6;
+    public static final int SNAPSHOT_SNEAKING = 1 << 7;
+    public static final int SNAPSHOT_SPRINTING = 1 << 8;
+    public static final int SNAPSHOT_INVISIBLE = 1 << 9;
+    public static final int SNAPSHOT_GLOWING = 1 << 10;
+    public static final int SNAPSHOT_NO_GRAVITY = 1 << 11;
+    public static final int SNAPSHOT_DEAD = 1 << 12;
+
+    /**
+     * Fill a direct buffer with state for many entities in a single call.
+     *
+     * The buffer holds {@code count} records of {@link #ENTITY_SNAPSHOT_STRIDE} bytes
+     * in native byte order. The caller writes the entity ID at offset 0 of each record;
+     * this method fills in the rest:
+     *   0: int entityId, 4: int flags (SNAPSHOT_*),
+     *   8/16/24: double x/y/z, 32/40/48: double velocity x/y/z,
+     *   56/60: float yaw/pitch, 64/68: float health/maxHealth,
+     *   72: int tickCount, 76: int target ID (-1 if none)
+     * Records for entities that cannot be found have flags = 0.
+     *
+     * @return Number of entities that were found
+     */
+    public static int snapshotEntities(java.nio.ByteBuffer buffer, int count) {
+        if (buffer == null || !buffer.isDirect()) return 0;
+        buffer.order(java.nio.ByteOrder.nativeOrder());
+
+        int max = Math.min(count, buffer.capacity() / ENTITY_SNAPSHOT_STRIDE);
+        int found = 0;
+        for (int i = 0; i < max; i++) {
+            int base = i * ENTITY_SNAPSHOT_STRIDE;
+            Entity entity = getEntityById(buffer.getInt(base));
+            if (entity == null) {
+                buffer.putInt(base + 4, 0);
+                continue;
+            }
+            writeEntitySnapshot(buffer, base, entity);
+            found++;
+        }
+        return found;
+    }
+
+    private static void writeEntitySnapshot(java.nio.ByteBuffer buffer, int base, Entity entity) {
+        int flags = SNAPSHOT_FOUND;
+        if (entity.onGround()) flags |= SNAPSHOT_ON_GROUND;
+        if (entity.isInWater()) flags |= SNAPSHOT_IN_WATER;
+        if (entity.isOnFire()) flags |= SNAPSHOT_ON_FIRE;
+        if (entity.isShiftKeyDown()) flags |= SNAPSHOT_SNEAKING;
+        if (entity.isSprinting()) flags |= SNAPSHOT_SPRINTING;
+        if (entity.isInvisible()) flags |= SNAPSHOT_INVISIBLE;
+        if (entity.isCurrentlyGlowing()) flags |= SNAPSHOT_GLOWING;
+        if (entity.isNoGravity()) flags |= SNAPSHOT_NO_GRAVITY;
+        if (entity instanceof Player) flags |= SNAPSHOT_PLAYER;
+
+        float health = 0.0f;
+        float maxHealth = 0.0f;
+        int targetId = -1;
+        if (entity instanceof LivingEntity living) {
+            flags |= SNAPSHOT_LIVING;
+            if (living.isDeadOrDying()) flags |= SNAPSHOT_DEAD;
+            health = living.getHealth();
+            maxHealth = living.getMaxHealth();
+        }
+        if (entity instanceof Mob mob) {
+            flags |= SNAPSHOT_MOB;
+            LivingEntity target = mob.getTarget();
+            if (target != null) targetId = target.getId();
+        }
+
+        Vec3 velocity = entity.getDeltaMovement();
+        buffer.putInt(base + 4, flags);
+        buffer.putDouble(base + 8, entity.getX());
+        buffer.putDouble(base + 16, entity.getY());
+        buffer.putDouble(base + 24, entity.getZ());
+        buffer.putDouble(base + 32, velocity.x);
+        buffer.putDouble(base + 40, velocity.y);
+        buffer.putDouble(base + 48, velocity.z);
+        buffer.putFloat(base + 56, entity.getYRot());
+        buffer.putFloat(base + 60, entity.getXRot());
+        buffer.putFloat(base + 64, health);
+        buffer.putFloat(base + 68, maxHealth);
+        buffer.putInt(base + 72, entity.tickCount);
+        buffer.putInt(base + 76, targetId);
+    }
+
     // ==========================================================================
     // Item API Helper Methods
     // ==========================================================================
@@ -1781,10 +2282,29 @@ public class DartBridge {
         return stack.getHoverName().getString();
     }
 
+    /**
+     * Set or clear (null or empty name) the custom name of an item stack.
+     */
+    public static void setItemStackCustomName(int playerId, int slot, String name) {
+        ServerPlayer player = getPlayerById(playerId);
+        if (player == null) return;
+
+        ItemStack stack = getPlayerInventoryStack(player, slot);
+        if (stack.isEmpty()) return;
+        if (name == null || name.isEmpty()) {
+            stack.remove(DataComponents.CUSTOM_NAME);
+        } else {
+            stack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        }
+    }
+
     // ==========================================================================
     // Player Inventory Operations
     // ==========================================================================
 
+    /** Main inventory (0-35), armor (36-39) and offhand (40). */
+    private static final int PLAYER_INVENTORY_SLOTS = 41;
+
     /**
      * Helper to get an ItemStack from player inventory by slot.
      */
@@ -1872,6 +2392,60 @@ public class DartBridge {
         setPlayerInventoryStack(player, slot, stack);
     }
 
+    /**
+     * Get item in a player's inventory slot as a packed stack (see {@link ItemCodec}).
+     * @return Packed stack, or {@link ItemCodec#EMPTY} if the slot or player is missing
+     */
+    public static long getPlayerInventoryItemPacked(int playerId, int slot) {
+        ServerPlayer player = getPlayerById(playerId);
+        if (player == null) return ItemCodec.EMPTY;
+        return ItemCodec.pack(getPlayerInventoryStack(player, slot));
+    }
+
+    /**
+     * Read all 41 inventory slots into a direct buffer of {@link ItemCodec} records.
+     * @return Number of slots written, or -1 on failure
+     */
+    public static int readPlayerInventory(int playerId, java.nio.ByteBuffer out) {
+        ServerPlayer player = getPlayerById(playerId);
+        if (player == null || !ItemCodec.fits(out, PLAYER_INVENTORY_SLOTS)) return -1;
+        out.order(java.nio.ByteOrder.nativeOrder());
+
+        for (int slot = 0; slot < PLAYER_INVENTORY_SLOTS; slot++) {
+            ItemCodec.write(out, slot, getPlayerInventoryStack(player, slot));
+        }
+        return PLAYER_INVENTORY_SLOTS;
+    }
+
+    /**
+     * Read the inventory slots that changed since {@code sinceVersion} (0 for all slots).
+     * See {@link InventoryTracker} for the buffer layout; it needs
+     * {@link InventoryTracker#requiredCapacity} bytes for 41 slots.
+     * @return Number of changed slots written, or -1 on failure
+     */
+    public static int readPlayerInventoryChanges(int playerId, long sinceVersion, java.nio.ByteBuffer out) {
+        ServerPlayer player = getPlayerById(playerId);
+        if (player == null) return -1;
+        return InventoryTracker.readPlayerChanges(playerId, PLAYER_INVENTORY_SLOTS,
+            slot -> getPlayerInventoryStack(player, slot), sinceVersion, out);
+    }
+
+    /**
+     * Write inventory slots 0 to slotCount - 1 from a direct buffer of {@link ItemCodec} records.
+     * See {@link ItemCodec#writeSlots} for how stacks keep their data components.
+     * @return Number of slots changed, or -1 on failure
+     */
+    public static int writePlayerInventory(int playerId, java.nio.ByteBuffer in, int slotCount) {
+        ServerPlayer player = getPlayerById(playerId);
+        if (player == null || slotCount < 0 || slotCount > PLAYER_INVENTORY_SLOTS
+                || !ItemCodec.fits(in, slotCount)) return -1;
+        in.order(java.nio.ByteOrder.nativeOrder());
+
+        return ItemCodec.writeSlots(in, slotCount,
+            slot -> getPlayerInventoryStack(player, slot),
+            (stack, slot) -> setPlayerInventoryStack(player, slot, stack));
+    }
+
     /**
      * Clear a player's inventory slot.
      */
@@ -2132,8 +2706,12 @@ public class DartBridge {
      * Get the time of day (0-24000) in a dimension.
      */
     public static long getTimeOfDay(String dimension) {
+        return getTimeOfDay(getDimensionHandle(dimension));
+    }
+
+    public static long getTimeOfDay(int dimensionHandle) {
         if (serverInstance == null) return 0;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return 0;
         return level.getDayTime() % 24000;
     }
@@ -2142,8 +2720,12 @@ public class DartBridge {
      * Set the time of day in a dimension.
      */
     public static void setTimeOfDay(String dimension, long time) {
+        setTimeOfDay(getDimensionHandle(dimension), time);
+    }
+
+    public static void setTimeOfDay(int dimensionHandle, long time) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
         // Calculate the new time preserving the day count
         long currentDayTime = level.getDayTime();
@@ -2156,8 +2738,12 @@ public class DartBridge {
      * Get the full game time (total ticks since world creation).
      */
     public static long getGameTime(String dimension) {
+        return getGameTime(getDimensionHandle(dimension));
+    }
+
+    public static long getGameTime(int dimensionHandle) {
         if (serverInstance == null) return 0;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return 0;
         return level.getGameTime();
     }
@@ -2166,8 +2752,12 @@ public class DartBridge {
      * Get the current day count.
      */
     public static long getDayCount(String dimension) {
+        return getDayCount(getDimensionHandle(dimension));
+    }
+
+    public static long getDayCount(int dimensionHandle) {
         if (serverInstance == null) return 0;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return 0;
         return level.getDayTime() / 24000;
     }
@@ -2180,8 +2770,12 @@ public class DartBridge {
      * Get current weather: 0=clear, 1=rain, 2=thunder.
      */
     public static int getWeather(String dimension) {
+        return getWeather(getDimensionHandle(dimension));
+    }
+
+    public static int getWeather(int dimensionHandle) {
         if (serverInstance == null) return 0;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return 0;
         if (level.isThundering()) return 2;
         if (level.isRaining()) return 1;
@@ -2194,8 +2788,12 @@ public class DartBridge {
      * @param duration Duration in ticks
      */
     public static void setWeather(String dimension, int weather, int duration) {
+        setWeather(getDimensionHandle(dimension), weather, duration);
+    }
+
+    public static void setWeather(int dimensionHandle, int weather, int duration) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
         switch (weather) {
@@ -2215,8 +2813,12 @@ public class DartBridge {
      * Check if it's raining.
      */
     public static boolean isRaining(String dimension) {
+        return isRaining(getDimensionHandle(dimension));
+    }
+
+    public static boolean isRaining(int dimensionHandle) {
         if (serverInstance == null) return false;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return false;
         return level.isRaining();
     }
@@ -2225,8 +2827,12 @@ public class DartBridge {
      * Check if it's thundering.
      */
     public static boolean isThundering(String dimension) {
+        return isThundering(getDimensionHandle(dimension));
+    }
+
+    public static boolean isThundering(int dimensionHandle) {
         if (serverInstance == null) return false;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return false;
         return level.isThundering();
     }
@@ -2240,28 +2846,21 @@ public class DartBridge {
      */
     public static void playSound(String dimension, double x, double y, double z,
                                  String sound, String category, float volume, float pitch) {
+        playSound(getDimensionHandle(dimension), x, y, z, sound, category, volume, pitch);
+    }
+
+    public static void playSound(int dimensionHandle, double x, double y, double z,
+                                 String sound, String category, float volume, float pitch) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
-        Optional<net.minecraft.sounds.SoundEvent> soundEventOpt = BuiltInRegistries.SOUND_EVENT.getOptional(Identifier.parse(sound));
-        if (soundEventOpt.isEmpty()) return;
-        net.minecraft.sounds.SoundEvent soundEvent = soundEventOpt.get();
-
-        net.minecraft.sounds.SoundSource soundCategory = switch (category) {
-            case "music" -> net.minecraft.sounds.SoundSource.MUSIC;
-            case "record" -> net.minecraft.sounds.SoundSource.RECORDS;
-            case "weather" -> net.minecraft.sounds.SoundSource.WEATHER;
-            case "block" -> net.minecraft.sounds.SoundSource.BLOCKS;
-            case "hostile" -> net.minecraft.sounds.SoundSource.HOSTILE;
-            case "neutral" -> net.minecraft.sounds.SoundSource.NEUTRAL;
-            case "player" -> net.minecraft.sounds.SoundSource.PLAYERS;
-            case "ambient" -> net.minecraft.sounds.SoundSource.AMBIENT;
-            case "voice" -> net.minecraft.sounds.SoundSource.VOICE;
-            default -> net.minecraft.sounds.SoundSource.MASTER;
-        };
+        // Resolved once per sound ID and cached by EffectBatch
+        var soundEvent = EffectBatch.sound(sound);
+        if (soundEvent == null) return;
+        net.minecraft.sounds.SoundSource soundCategory = EffectBatch.soundCategory(category);
 
-        level.playSound(null, x, y, z, soundEvent, soundCategory, volume, pitch);
+        level.playSound(null, x, y, z, soundEvent.value(), soundCategory, volume, pitch);
     }
 
     /**
@@ -2272,26 +2871,14 @@ public class DartBridge {
         ServerPlayer player = getPlayerById(playerId);
         if (player == null) return;
 
-        Optional<net.minecraft.sounds.SoundEvent> soundEventOpt = BuiltInRegistries.SOUND_EVENT.getOptional(Identifier.parse(sound));
-        if (soundEventOpt.isEmpty()) return;
-        net.minecraft.sounds.SoundEvent soundEvent = soundEventOpt.get();
-
-        net.minecraft.sounds.SoundSource soundCategory = switch (category) {
-            case "music" -> net.minecraft.sounds.SoundSource.MUSIC;
-            case "record" -> net.minecraft.sounds.SoundSource.RECORDS;
-            case "weather" -> net.minecraft.sounds.SoundSource.WEATHER;
-            case "block" -> net.minecraft.sounds.SoundSource.BLOCKS;
-            case "hostile" -> net.minecraft.sounds.SoundSource.HOSTILE;
-            case "neutral" -> net.minecraft.sounds.SoundSource.NEUTRAL;
-            case "player" -> net.minecraft.sounds.SoundSource.PLAYERS;
-            case "ambient" -> net.minecraft.sounds.SoundSource.AMBIENT;
-            case "voice" -> net.minecraft.sounds.SoundSource.VOICE;
-            default -> net.minecraft.sounds.SoundSource.MASTER;
-        };
+        // Resolved once per sound ID and cached by EffectBatch
+        var soundEvent = EffectBatch.sound(sound);
+        if (soundEvent == null) return;
+        net.minecraft.sounds.SoundSource soundCategory = EffectBatch.soundCategory(category);
 
         // Use playSound instead of playNotifySound which doesn't exist in newer versions
         ServerLevel level = (ServerLevel) player.level();
-        level.playSound(null, player.getX(), player.getY(), player.getZ(), soundEvent, soundCategory, volume, pitch);
+        level.playSound(null, player.getX(), player.getY(), player.getZ(), soundEvent.value(), soundCategory, volume, pitch);
     }
 
     // --------------------------------------------------------------------------
@@ -2304,17 +2891,19 @@ public class DartBridge {
     public static void spawnParticles(String dimension, String particle,
                                       double x, double y, double z,
                                       int count, double dx, double dy, double dz, double speed) {
+        spawnParticles(getDimensionHandle(dimension), particle, x, y, z, count, dx, dy, dz, speed);
+    }
+
+    public static void spawnParticles(int dimensionHandle, String particle,
+                                      double x, double y, double z,
+                                      int count, double dx, double dy, double dz, double speed) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
-        Optional<net.minecraft.core.particles.ParticleType<?>> particleTypeOpt =
-            BuiltInRegistries.PARTICLE_TYPE.getOptional(Identifier.parse(particle));
-        if (particleTypeOpt.isEmpty()) return;
-        net.minecraft.core.particles.ParticleType<?> particleType = particleTypeOpt.get();
-
-        // Most particle types are simple particles
-        if (particleType instanceof net.minecraft.core.particles.SimpleParticleType simpleType) {
+        // Resolved once per particle ID and cached by EffectBatch (simple particles only)
+        var simpleType = EffectBatch.particle(particle);
+        if (simpleType != null) {
             level.sendParticles(simpleType, x, y, z, count, dx, dy, dz, speed);
         }
     }
@@ -2328,12 +2917,8 @@ public class DartBridge {
         ServerPlayer player = getPlayerById(playerId);
         if (player == null) return;
 
-        Optional<net.minecraft.core.particles.ParticleType<?>> particleTypeOpt =
-            BuiltInRegistries.PARTICLE_TYPE.getOptional(Identifier.parse(particle));
-        if (particleTypeOpt.isEmpty()) return;
-        net.minecraft.core.particles.ParticleType<?> particleType = particleTypeOpt.get();
-
-        if (particleType instanceof net.minecraft.core.particles.SimpleParticleType simpleType) {
+        var simpleType = EffectBatch.particle(particle);
+        if (simpleType != null) {
             ServerLevel level = (ServerLevel) player.level();
             // sendParticles signature: (ServerPlayer, ParticleOptions, boolean force, boolean alwaysRender, x, y, z, count, dx, dy, dz, speed)
             level.sendParticles(player, simpleType, true, true, x, y, z, count, dx, dy, dz, speed);
@@ -2350,8 +2935,13 @@ public class DartBridge {
      */
     public static void createExplosion(String dimension, double x, double y, double z,
                                        float power, boolean fire, int mode, int sourceEntityId) {
+        createExplosion(getDimensionHandle(dimension), x, y, z, power, fire, mode, sourceEntityId);
+    }
+
+    public static void createExplosion(int dimensionHandle, double x, double y, double z,
+                                       float power, boolean fire, int mode, int sourceEntityId) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
         Entity source = sourceEntityId >= 0 ? getEntityById(sourceEntityId) : null;
@@ -2374,8 +2964,12 @@ public class DartBridge {
      * @return Entity ID of the lightning bolt, or -1 on failure.
      */
     public static int spawnLightning(String dimension, double x, double y, double z, boolean damageOnly) {
+        return spawnLightning(getDimensionHandle(dimension), x, y, z, damageOnly);
+    }
+
+    public static int spawnLightning(int dimensionHandle, double x, double y, double z, boolean damageOnly) {
         if (serverInstance == null) return -1;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return -1;
 
         net.minecraft.world.entity.LightningBolt lightning = EntityType.LIGHTNING_BOLT.create(level, net.minecraft.world.entity.EntitySpawnReason.COMMAND);
@@ -2395,8 +2989,12 @@ public class DartBridge {
      * Get world border center as "x,z" string.
      */
     public static String getWorldBorderCenter(String dimension) {
+        return getWorldBorderCenter(getDimensionHandle(dimension));
+    }
+
+    public static String getWorldBorderCenter(int dimensionHandle) {
         if (serverInstance == null) return "";
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return "";
 
         net.minecraft.world.level.border.WorldBorder border = level.getWorldBorder();
@@ -2407,8 +3005,12 @@ public class DartBridge {
      * Set world border center.
      */
     public static void setWorldBorderCenter(String dimension, double x, double z) {
+        setWorldBorderCenter(getDimensionHandle(dimension), x, z);
+    }
+
+    public static void setWorldBorderCenter(int dimensionHandle, double x, double z) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
         level.getWorldBorder().setCenter(x, z);
@@ -2418,8 +3020,12 @@ public class DartBridge {
      * Get world border size (diameter).
      */
     public static double getWorldBorderSize(String dimension) {
+        return getWorldBorderSize(getDimensionHandle(dimension));
+    }
+
+    public static double getWorldBorderSize(int dimensionHandle) {
         if (serverInstance == null) return 60000000;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return 60000000;
 
         return level.getWorldBorder().getSize();
@@ -2429,8 +3035,12 @@ public class DartBridge {
      * Set world border size with optional transition time.
      */
     public static void setWorldBorderSize(String dimension, double size, long timeMillis) {
+        setWorldBorderSize(getDimensionHandle(dimension), size, timeMillis);
+    }
+
+    public static void setWorldBorderSize(int dimensionHandle, double size, long timeMillis) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
         if (timeMillis <= 0) {
@@ -2506,8 +3116,12 @@ public class DartBridge {
      * Note: GameRules API has changed - this is a stub implementation.
      */
     public static String getGameRule(String dimension, String rule) {
+        return getGameRule(getDimensionHandle(dimension), rule);
+    }
+
+    public static String getGameRule(int dimensionHandle, String rule) {
         if (serverInstance == null) return "";
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return "";
 
         // TODO: GameRules API has changed in newer MC versions
@@ -2522,8 +3136,12 @@ public class DartBridge {
      * Note: GameRules API has changed - this is a stub implementation.
      */
     public static void setGameRule(String dimension, String rule, String value) {
+        setGameRule(getDimensionHandle(dimension), rule, value);
+    }
+
+    public static void setGameRule(int dimensionHandle, String rule, String value) {
         if (serverInstance == null) return;
-        ServerLevel level = getServerLevel(dimension);
+        ServerLevel level = getLevelByHandle(dimensionHandle);
         if (level == null) return;
 
         // TODO: GameRules API has changed in newer MC versions
@@ -2762,9 +3380,9 @@ public class DartBridge {
     // Container Menu Native Method Declarations
     // --------------------------------------------------------------------------
 
-    private static native int onContainerSlotClick(long menuId, int slotIndex, int button, int clickType, String carriedItem);
+    private static native int onContainerSlotClick(long menuId, int slotIndex, int button, int clickType, long carriedItem);
     private static native String onContainerQuickMove(long menuId, int slotIndex);
-    private static native boolean onContainerMayPlace(long menuId, int slotIndex, String itemData);
+    private static native boolean onContainerMayPlace(long menuId, int slotIndex, long item);
     private static native boolean onContainerMayPickup(long menuId, int slotIndex);
 
     // --------------------------------------------------------------------------
@@ -2773,9 +3391,10 @@ public class DartBridge {
 
     /**
      * Dispatch container slot click event to Dart handlers.
+     * @param carriedItem The stack on the cursor, packed by {@link ItemCodec}
      * @return -1 to skip default handling, 0+ for custom result
      */
-    public static int dispatchContainerSlotClick(long menuId, int slotIndex, int button, int clickType, String carriedItem) {
+    public static int dispatchContainerSlotClick(long menuId, int slotIndex, int button, int clickType, long carriedItem) {
         if (!initialized) return 0;
         try {
             return onContainerSlotClick(menuId, slotIndex, button, clickType, carriedItem);
@@ -2801,12 +3420,13 @@ public class DartBridge {
 
     /**
      * Dispatch container may place event to Dart handlers.
+     * @param item The stack being placed, packed by {@link ItemCodec}
      * @return true to allow placement, false to deny
      */
-    public static boolean dispatchContainerMayPlace(long menuId, int slotIndex, String itemData) {
+    public static boolean dispatchContainerMayPlace(long menuId, int slotIndex, long item) {
         if (!initialized) return true;
         try {
-            return onContainerMayPlace(menuId, slotIndex, itemData);
+            return onContainerMayPlace(menuId, slotIndex, item);
         } catch (Exception e) {
             LOGGER.error("Exception during container may place dispatch: {}", e.getMessage());
             return true;
@@ -2917,6 +3537,22 @@ public class DartBridge {
     }
     private static native void nativeOnCustomGoalStop(String goalId, int entityId);
 
+    /**
+     * Evaluate a batch of custom goal queries and ticks collected by GoalScheduler.
+     * Dart writes each canUse/canContinueToUse result into the record's last int.
+     * @param records Direct buffer of 16-byte (kind, goalIndex, entityId, result) records
+     * @param count Number of records
+     */
+    public static void dispatchCustomGoalBatch(java.nio.ByteBuffer records, int count) {
+        if (!initialized || count <= 0) return;
+        try {
+            nativeOnCustomGoalBatch(records, count);
+        } catch (Exception e) {
+            LOGGER.error("Exception during custom goal batch dispatch: {}", e.getMessage());
+        }
+    }
+    private static native void nativeOnCustomGoalBatch(java.nio.ByteBuffer records, int count);
+
     // ==========================================================================
     // Entity Actions (for custom goals)
     // ==========================================================================
@@ -10,8 +10,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.SimpleContainer;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,9 +19,6 @@ import java.util.Optional;
  * real item slots that support proper item transfer and synchronization.
  */
 public class DartContainerMenu extends AbstractContainerMenu {
-    private static long nextMenuId = 1;
-    private static final Map<Long, DartContainerMenu> menus = new HashMap<>();
-
     private final long menuId;
     private final SimpleContainer container;
     private final int containerSlotCount;
@@ -60,13 +55,12 @@ public class DartContainerMenu extends AbstractContainerMenu {
     public DartContainerMenu(int containerId, Inventory playerInventory, SimpleContainer container,
                              int rows, int columns, String containerTypeId) {
         super(RedstoneMenuTypes.DART_CONTAINER_MENU, containerId);
-        this.menuId = nextMenuId++;
+        this.menuId = DartMenuRegistry.register(this, playerInventory.player.getUUID());
         this.container = container;
         this.rows = rows;
         this.columns = columns;
         this.containerSlotCount = rows * columns;
         this.containerTypeId = containerTypeId;
-        menus.put(menuId, this);
 
         // Calculate slot positions to center the grid
         // Standard inventory slot is 18x18 pixels
@@ -133,7 +127,7 @@ public class DartContainerMenu extends AbstractContainerMenu {
      * Look up a menu by ID.
      */
     public static DartContainerMenu getById(long id) {
-        return menus.get(id);
+        return DartMenuRegistry.get(id);
     }
 
     /**
@@ -208,13 +202,13 @@ public class DartContainerMenu extends AbstractContainerMenu {
     @Override
     public void removed(Player player) {
         super.removed(player);
-        menus.remove(menuId);
+        DartMenuRegistry.unregister(menuId);
     }
 
     @Override
     public void clicked(int slotIndex, int button, ClickType clickType, Player player) {
         if (DartBridge.isInitialized()) {
-            String carriedItem = DartBridge.serializeItemStack(getCarried());
+            long carriedItem = ItemCodec.pack(getCarried());
             int result = DartBridge.dispatchContainerSlotClick(menuId, slotIndex, button, clickType.ordinal(), carriedItem);
             if (result == -1) {
                 return; // Dart handled it, skip default
@@ -234,7 +228,7 @@ public class DartContainerMenu extends AbstractContainerMenu {
      */
     @SuppressWarnings("unused") // Called from native
     public static String getContainerItemImpl(long menuId, int slotIndex) {
-        DartContainerMenu menu = menus.get(menuId);
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
         if (menu == null) return "";
         if (slotIndex < 0 || slotIndex >= menu.slots.size()) return "";
 
@@ -243,13 +237,56 @@ public class DartContainerMenu extends AbstractContainerMenu {
         return DartBridge.serializeItemStack(stack);
     }
 
+    /**
+     * Read every slot of a menu into a direct buffer of {@link ItemCodec} records.
+     * @return Number of slots written, or -1 on failure
+     */
+    public static int readContainerItems(long menuId, java.nio.ByteBuffer out) {
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
+        if (menu == null || !ItemCodec.fits(out, menu.slots.size())) return -1;
+        out.order(java.nio.ByteOrder.nativeOrder());
+
+        for (int i = 0; i < menu.slots.size(); i++) {
+            ItemCodec.write(out, i, menu.slots.get(i).getItem());
+        }
+        return menu.slots.size();
+    }
+
+    /**
+     * Read the slots of a menu that changed since {@code sinceVersion} (0 for all slots).
+     * See {@link InventoryTracker} for the buffer layout.
+     * @return Number of changed slots written, or -1 on failure
+     */
+    public static int readContainerChanges(long menuId, long sinceVersion, java.nio.ByteBuffer out) {
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
+        if (menu == null) return -1;
+        return InventoryTracker.readMenuChanges(menuId, menu.slots.size(),
+            i -> menu.slots.get(i).getItem(), sinceVersion, out);
+    }
+
+    /**
+     * Write slots 0 to slotCount - 1 of a menu from a direct buffer of {@link ItemCodec} records.
+     * See {@link ItemCodec#writeSlots} for how stacks keep their data components.
+     * @return Number of slots changed, or -1 on failure
+     */
+    public static int writeContainerItems(long menuId, java.nio.ByteBuffer in, int slotCount) {
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
+        if (menu == null || slotCount < 0 || slotCount > menu.slots.size()
+                || !ItemCodec.fits(in, slotCount)) return -1;
+        in.order(java.nio.ByteOrder.nativeOrder());
+
+        return ItemCodec.writeSlots(in, slotCount,
+            i -> menu.slots.get(i).getItem(),
+            (stack, i) -> menu.slots.get(i).set(stack));
+    }
+
     /**
      * Set item in container slot.
      * Called from native code.
      */
     @SuppressWarnings("unused") // Called from native
     public static void setContainerItemImpl(long menuId, int slotIndex, String itemId, int count) {
-        DartContainerMenu menu = menus.get(menuId);
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
         if (menu == null) return;
         if (slotIndex < 0 || slotIndex >= menu.slots.size()) return;
 
@@ -271,7 +308,7 @@ public class DartContainerMenu extends AbstractContainerMenu {
      */
     @SuppressWarnings("unused") // Called from native
     public static int getContainerSlotCountImpl(long menuId) {
-        DartContainerMenu menu = menus.get(menuId);
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
         if (menu == null) return 0;
         return menu.slots.size();
     }
@@ -282,7 +319,7 @@ public class DartContainerMenu extends AbstractContainerMenu {
      */
     @SuppressWarnings("unused") // Called from native
     public static void clearContainerSlotImpl(long menuId, int slotIndex) {
-        DartContainerMenu menu = menus.get(menuId);
+        DartContainerMenu menu = DartMenuRegistry.get(menuId);
         if (menu == null) return;
         if (slotIndex < 0 || slotIndex >= menu.slots.size()) return;
 
@@ -0,0 +1,197 @@
+package com.redstone;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe registry of live DartContainerMenus by menu ID.
+ *
+ * Menus are created on the server thread and, in single player, on the client
+ * thread as well, so IDs come from an atomic counter and the map is guarded by
+ * a read/write lock. Lookups from the container natives only take the read
+ * lock and use a primitive long key.
+ *
+ * Entries hold their menu weakly. A menu that is dropped without removed()
+ * being called is garbage collected normally, and its entry is expunged on the
+ * next registry write and counted as leaked. Menus owned by a player are
+ * purged eagerly when that player disconnects.
+ */
+public final class DartMenuRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger("DartMenuRegistry");
+
+    private static final AtomicLong nextMenuId = new AtomicLong(1);
+    private static final Long2ObjectOpenHashMap<Entry> menus = new Long2ObjectOpenHashMap<>();
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final ReferenceQueue<DartContainerMenu> collected = new ReferenceQueue<>();
+
+    // Metrics
+    private static final AtomicLong createdCount = new AtomicLong();
+    private static final AtomicLong removedCount = new AtomicLong();
+    private static final AtomicLong purgedCount = new AtomicLong();
+    private static final AtomicLong leakedCount = new AtomicLong();
+
+    private static final class Entry extends WeakReference<DartContainerMenu> {
+        final long menuId;
+        final UUID owner;
+
+        Entry(DartContainerMenu menu, long menuId, UUID owner) {
+            super(menu, collected);
+            this.menuId = menuId;
+            this.owner = owner;
+        }
+    }
+
+    private DartMenuRegistry() {}
+
+    /**
+     * Register a new menu.
+     * @param owner UUID of the player the menu was opened for, or null
+     * @return The menu's ID
+     */
+    static long register(DartContainerMenu menu, UUID owner) {
+        long menuId = nextMenuId.getAndIncrement();
+        lock.writeLock().lock();
+        try {
+            expungeCollected();
+            menus.put(menuId, new Entry(menu, menuId, owner));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        createdCount.incrementAndGet();
+        return menuId;
+    }
+
+    /**
+     * Remove a menu that was closed normally.
+     */
+    static void unregister(long menuId) {
+        Entry entry;
+        lock.writeLock().lock();
+        try {
+            expungeCollected();
+            entry = menus.remove(menuId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (entry != null) {
+            removedCount.incrementAndGet();
+        }
+        InventoryTracker.forgetMenu(menuId);
+    }
+
+    /**
+     * Look up a live menu by ID, or null if it is closed or was collected.
+     */
+    public static DartContainerMenu get(long menuId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = menus.get(menuId);
+            return entry != null ? entry.get() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every menu owned by a player. Called when the player disconnects.
+     * @return Number of menus purged
+     */
+    public static int purgeOwner(UUID owner) {
+        if (owner == null) return 0;
+
+        LongArrayList purged = new LongArrayList();
+        lock.writeLock().lock();
+        try {
+            expungeCollected();
+            var it = menus.long2ObjectEntrySet().fastIterator();
+            while (it.hasNext()) {
+                var e = it.next();
+                if (owner.equals(e.getValue().owner)) {
+                    purged.add(e.getLongKey());
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        for (int i = 0; i < purged.size(); i++) {
+            InventoryTracker.forgetMenu(purged.getLong(i));
+        }
+        if (!purged.isEmpty()) {
+            purgedCount.addAndGet(purged.size());
+            LOGGER.debug("Purged {} container menu(s) of disconnected player {}", purged.size(), owner);
+        }
+        return purged.size();
+    }
+
+    // Must hold the write lock
+    private static void expungeCollected() {
+        Reference<? extends DartContainerMenu> ref;
+        while ((ref = collected.poll()) != null) {
+            Entry entry = (Entry) ref;
+            // The ID may already be gone if the menu was removed before being collected
+            if (menus.get(entry.menuId) == entry) {
+                menus.remove(entry.menuId);
+                InventoryTracker.forgetMenu(entry.menuId);
+                leakedCount.incrementAndGet();
+                LOGGER.warn("Container menu {} was garbage collected without being closed", entry.menuId);
+            }
+        }
+    }
+
+    // ==========================================================================
+    // Metrics
+    // ==========================================================================
+
+    /**
+     * Number of registered menus, including any collected but not yet expunged.
+     */
+    public static int getLiveCount() {
+        lock.readLock().lock();
+        try {
+            return menus.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public static long getRemovedCount() {
+        return removedCount.get();
+    }
+
+    public static long getPurgedCount() {
+        return purgedCount.get();
+    }
+
+    /**
+     * Number of menus that were garbage collected without being closed.
+     */
+    public static long getLeakedCount() {
+        return leakedCount.get();
+    }
+
+    /**
+     * One-line summary of the registry metrics, for logs and commands.
+     */
+    public static String describe() {
+        return "live=" + getLiveCount()
+            + " created=" + getCreatedCount()
+            + " removed=" + getRemovedCount()
+            + " purged=" + getPurgedCount()
+            + " leaked=" + getLeakedCount();
+    }
+}
@@ -2,8 +2,10 @@ package com.redstone;
 
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.fabric.api.event.player.AttackEntityCallback;
 import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
@@ -20,7 +22,10 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
+import com.redstone.proxy.CommandRegistry;
 import com.redstone.proxy.DartBlockProxy;
+import com.redstone.proxy.EntityTickScheduler;
+import com.redstone.proxy.GoalScheduler;
 import com.redstone.proxy.RecipeRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -173,10 +178,23 @@ public class DartModLoader implements ModInitializer {
         ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
             LOGGER.info("[{}] Server stopped, shutting down Dart VM...", MOD_ID);
             DartBridge.safeShutdown();
+            ServerTaskQueue.clear();
+            DartWatchdog.stop();
+            CommandRegistry.clearPendingExecutions();
+            DartBridge.clearEntityIndex();
+            DartBridge.invalidateDimensionHandles();
             DartBridge.setServerInstance(null);
             serverInstance = null;
         });
 
+        // Keep the entity ID index in sync with entity load/unload across all levels
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> DartBridge.indexEntity(entity));
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> DartBridge.unindexEntity(entity));
+
+        // Dimension handles cache their ServerLevel; drop it when levels come and go
+        ServerWorldEvents.LOAD.register((server, world) -> DartBridge.invalidateDimensionHandles());
+        ServerWorldEvents.UNLOAD.register((server, world) -> DartBridge.invalidateDimensionHandles());
+
         // Register /darturl command to show service URL
         CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
             dispatcher.register(Commands.literal("darturl")
@@ -193,11 +211,13 @@ public class DartModLoader implements ModInitializer {
                     }
                     return 1;
                 }));
+            DartProfiler.registerCommand(dispatcher);
         });
 
         // Player join event - send welcome message and dispatch to Dart
         ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
             ServerPlayer player = handler.getPlayer();
+            PlayerIndex.add(player);
 
             // Dispatch to Dart
             if (DartBridge.isInitialized()) {
@@ -229,16 +249,36 @@ public class DartModLoader implements ModInitializer {
 
         // Player leave event
         ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+            InventoryTracker.forgetPlayer(handler.getPlayer().getId());
+            DartMenuRegistry.purgeOwner(handler.getPlayer().getUUID());
             if (DartBridge.isInitialized()) {
                 DartBridge.dispatchPlayerLeave(handler.getPlayer().getId());
             }
+            PlayerIndex.remove(handler.getPlayer());
+        });
+
+        // Apply results Dart queued during the previous tick, unless Dart went
+        // over its time budget then (deferred for a bounded number of ticks)
+        ServerTickEvents.START_SERVER_TICK.register(server -> {
+            DartWatchdog.beginTick();
+            CommandRegistry.expirePendingExecutions(server.getTickCount());
+            if (!DartWatchdog.shouldDeferAtTickStart()) {
+                ServerTaskQueue.runPending();
+            }
         });
 
         // Register tick event - process Dart async tasks and dispatch tick
         ServerTickEvents.END_SERVER_TICK.register(server -> {
             if (DartBridge.isInitialized()) {
+                EntityTickScheduler.flush();
+                GoalScheduler.flush();
                 DartBridge.dispatchTick(tickCounter++);
-                DartBridge.safeTick();
+                // dispatchTick already drains microtasks; the extra drain can wait when over budget
+                if (!DartWatchdog.shouldDeferAtTickEnd()) {
+                    DartBridge.safeTick();
+                }
+                EffectBatch.flush();
+                DartProfiler.onServerTick();
             }
         });
 
@@ -358,18 +398,16 @@ public class DartModLoader implements ModInitializer {
             String worldName = worldPath.getFileName().toString();
             LOGGER.info("[redstone] Loaded world: {}", worldName);
 
-            // Inject Dart recipes after server has fully started
-            // This ensures recipes are available for crafting
-            LOGGER.info("[{}] Injecting Dart recipes on server start...", MOD_ID);
+            // RecipeManagerMixin applies Dart recipes when recipes load; this only
+            // rebuilds if recipes were registered or removed since then
+            LOGGER.info("[{}] Checking Dart recipes on server start...", MOD_ID);
             RecipeRegistry.injectRecipes(server);
         });
 
-        // Also inject recipes after data pack reload (e.g., /reload command)
+        // Same fallback after data pack reload (e.g., /reload command)
         ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
             if (success) {
-                LOGGER.info("[{}] Data pack reload complete, re-injecting Dart recipes...", MOD_ID);
-                // Reset the field search so we find the new RecipeManager's field
-                RecipeRegistry.resetFieldSearch();
+                LOGGER.info("[{}] Data pack reload complete, checking Dart recipes...", MOD_ID);
                 RecipeRegistry.injectRecipes(server);
             } else {
                 LOGGER.warn("[{}] Data pack reload failed, skipping recipe injection", MOD_ID);
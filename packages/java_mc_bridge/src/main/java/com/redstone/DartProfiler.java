@@ -0,0 +1,123 @@
+package com.redstone;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.Style;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Access to the native dispatch latency profiler.
+ *
+ * The native bridge times every Java -> Dart dispatch (see dispatch_profiler.h).
+ * This class exposes the report through the /dartprofile command and writes it
+ * to logs/dart-profile.txt every redstone.profile.dumpSeconds seconds
+ * (default 300, 0 disables the periodic dump).
+ */
+public final class DartProfiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger("DartProfiler");
+
+    private static final int DUMP_INTERVAL_TICKS =
+        Math.max(0, Integer.getInteger("redstone.profile.dumpSeconds", 300)) * 20;
+
+    // Lines shown in chat; the full report goes to the file
+    private static final int MAX_CHAT_LINES = 20;
+
+    private static int ticksSinceDump = 0;
+
+    private DartProfiler() {}
+
+    // ==========================================================================
+    // Command
+    // ==========================================================================
+
+    /**
+     * Register /dartprofile (show), /dartprofile dump and /dartprofile reset.
+     */
+    public static void registerCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("dartprofile")
+            .executes(context -> {
+                String report = DartBridge.getProfileReport();
+                if (report == null) {
+                    context.getSource().sendFailure(Component.literal("[Dart] VM not initialized"));
+                    return 0;
+                }
+                String[] lines = report.split("\n");
+                int shown = Math.min(lines.length, MAX_CHAT_LINES);
+                for (int i = 0; i < shown; i++) {
+                    Component line = Component.literal(lines[i])
+                        .withStyle(Style.EMPTY.withColor(i == 0 ? 0x00AAFF : 0xFFFFFF));
+                    context.getSource().sendSuccess(() -> line, false);
+                }
+                if (lines.length > shown) {
+                    int more = lines.length - shown;
+                    context.getSource().sendSuccess(() -> Component.literal(
+                        "... " + more + " more lines, use /dartprofile dump for the full report"), false);
+                }
+                return 1;
+            })
+            .then(Commands.literal("dump")
+                .executes(context -> {
+                    Path file = dump();
+                    if (file == null) {
+                        context.getSource().sendFailure(Component.literal("[Dart] Could not write profile"));
+                        return 0;
+                    }
+                    context.getSource().sendSuccess(() -> Component.literal("[Dart] Profile written to " + file), false);
+                    return 1;
+                }))
+            .then(Commands.literal("reset")
+                .executes(context -> {
+                    DartBridge.resetProfile();
+                    context.getSource().sendSuccess(() -> Component.literal("[Dart] Profile reset"), false);
+                    return 1;
+                })));
+    }
+
+    // ==========================================================================
+    // Periodic dump
+    // ==========================================================================
+
+    /**
+     * Called at the end of every server tick. Writes the report once per
+     * dump interval, off the server thread.
+     */
+    public static void onServerTick() {
+        if (DUMP_INTERVAL_TICKS == 0 || ++ticksSinceDump < DUMP_INTERVAL_TICKS) return;
+        ticksSinceDump = 0;
+
+        String report = DartBridge.getProfileReport();
+        if (report == null) return;
+        Util.ioPool().execute(() -> write(report));
+    }
+
+    /**
+     * Write the current report now.
+     * @return The file written, or null on failure
+     */
+    public static Path dump() {
+        String report = DartBridge.getProfileReport();
+        if (report == null) return null;
+        return write(report);
+    }
+
+    private static synchronized Path write(String report) {
+        Path file = Path.of(System.getProperty("user.dir"), "logs", "dart-profile.txt");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, report, StandardCharsets.UTF_8);
+            return file;
+        } catch (IOException e) {
+            LOGGER.error("Failed to write dispatch profile: {}", e.getMessage());
+            return null;
+        }
+    }
+}
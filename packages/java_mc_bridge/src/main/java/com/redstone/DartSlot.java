@@ -1,6 +1,5 @@
 package com.redstone;
 
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.Container;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.Slot;
@@ -22,8 +21,7 @@ public class DartSlot extends Slot {
     @Override
     public boolean mayPlace(ItemStack stack) {
         if (DartBridge.isInitialized()) {
-            String itemData = DartBridge.serializeItemStack(stack);
-            return DartBridge.dispatchContainerMayPlace(menuId, dartSlotIndex, itemData);
+            return DartBridge.dispatchContainerMayPlace(menuId, dartSlotIndex, ItemCodec.pack(stack));
         }
         return super.mayPlace(stack);
     }
@@ -0,0 +1,163 @@
+package com.redstone;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-tick Dart time budget and watchdog for slow or hung Dart callbacks.
+ *
+ * The native bridge adds up the time of every Java -> Dart dispatch on the
+ * server thread (see dispatch_profiler.h); client thread dispatches in an
+ * integrated server don't count. When a tick has used more than its budget,
+ * work that can wait (queued server tasks, the extra Dart async task drain)
+ * is deferred to later ticks, for at most MAX_DEFER_TICKS ticks in a row so
+ * it always makes progress.
+ *
+ * A daemon thread polls the dispatch running on the server thread and logs
+ * a warning with that thread's stack when a single callback runs longer than
+ * the slow threshold, and again each time a hung callback doubles that time.
+ *
+ * Configured with system properties:
+ *   redstone.dart.tickBudgetMs    Dart time per tick before deferring (default 25)
+ *   redstone.dart.slowCallbackMs  single callback warning threshold (default 100, 0 disables)
+ *   redstone.dart.maxDeferTicks   consecutive ticks work may be deferred (default 10)
+ */
+public final class DartWatchdog {
+    private static final Logger LOGGER = LoggerFactory.getLogger("DartWatchdog");
+
+    private static final long TICK_BUDGET_NANOS =
+        Math.max(0, Long.getLong("redstone.dart.tickBudgetMs", 25)) * 1_000_000L;
+    private static final long SLOW_CALLBACK_NANOS =
+        Math.max(0, Long.getLong("redstone.dart.slowCallbackMs", 100)) * 1_000_000L;
+    private static final int MAX_DEFER_TICKS =
+        Math.max(0, Integer.getInteger("redstone.dart.maxDeferTicks", 10));
+
+    // Budget overrun summary is logged at most this often
+    private static final long OVERRUN_LOG_INTERVAL_NANOS = 60_000_000_000L;
+
+    private static volatile Thread serverThread;
+    private static Thread watchdogThread;
+
+    private static long lastTickNanos = 0;
+    private static int deferredAtStart = 0;
+    private static int deferredAtEnd = 0;
+    private static int overBudgetTicks = 0;
+    private static long lastOverrunLog = 0;
+
+    private DartWatchdog() {}
+
+    // ==========================================================================
+    // Tick budget (server thread)
+    // ==========================================================================
+
+    /**
+     * Called at the start of every server tick. Closes the previous tick's
+     * Dart time and starts the watchdog on first use.
+     */
+    public static void beginTick() {
+        if (serverThread == null) {
+            serverThread = Thread.currentThread();
+            DartBridge.markBudgetThread();
+            start();
+        }
+
+        lastTickNanos = DartBridge.getDartTime(true);
+        if (lastTickNanos > TICK_BUDGET_NANOS) {
+            overBudgetTicks++;
+            long now = System.nanoTime();
+            if (now - lastOverrunLog > OVERRUN_LOG_INTERVAL_NANOS) {
+                LOGGER.warn("Dart used {} ms of its {} ms tick budget ({} ticks over budget so far)",
+                    lastTickNanos / 1_000_000, TICK_BUDGET_NANOS / 1_000_000, overBudgetTicks);
+                lastOverrunLog = now;
+            }
+        }
+    }
+
+    /**
+     * Whether the previous tick went over the Dart budget, i.e. deferrable
+     * work at the start of this tick should wait.
+     */
+    public static boolean shouldDeferAtTickStart() {
+        if (lastTickNanos <= TICK_BUDGET_NANOS || deferredAtStart >= MAX_DEFER_TICKS) {
+            deferredAtStart = 0;
+            return false;
+        }
+        deferredAtStart++;
+        return true;
+    }
+
+    /**
+     * Whether this tick has already gone over the Dart budget, i.e.
+     * deferrable work at the end of this tick should wait.
+     */
+    public static boolean shouldDeferAtTickEnd() {
+        if (DartBridge.getDartTime(false) <= TICK_BUDGET_NANOS || deferredAtEnd >= MAX_DEFER_TICKS) {
+            deferredAtEnd = 0;
+            return false;
+        }
+        deferredAtEnd++;
+        return true;
+    }
+
+    public static long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    public static int getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    // ==========================================================================
+    // Watchdog thread
+    // ==========================================================================
+
+    private static synchronized void start() {
+        if (watchdogThread != null || SLOW_CALLBACK_NANOS == 0) return;
+        long pollMillis = Math.max(5, SLOW_CALLBACK_NANOS / 4_000_000L);
+
+        watchdogThread = new Thread(() -> {
+            long reportedNanos = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(pollMillis);
+                } catch (InterruptedException e) {
+                    break;
+                }
+
+                long active = DartBridge.getActiveDispatchTime();
+                if (active < reportedNanos) reportedNanos = 0; // a new call started
+                if (active < SLOW_CALLBACK_NANOS || active < reportedNanos * 2) continue;
+
+                reportedNanos = active;
+                report(DartBridge.getActiveDispatch(), active);
+            }
+        }, "Dart Watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+    }
+
+    private static void report(String dispatch, long activeNanos) {
+        Thread thread = serverThread;
+        if (thread == null || dispatch.isEmpty()) return;
+
+        Throwable trace = new Throwable("Server thread stack");
+        trace.setStackTrace(thread.getStackTrace());
+        LOGGER.warn("Dart callback {} has been running for {} ms on the server thread",
+            dispatch, activeNanos / 1_000_000, trace);
+    }
+
+    /**
+     * Stop the watchdog and clear tick state (on server stop).
+     */
+    public static synchronized void stop() {
+        if (watchdogThread != null) {
+            watchdogThread.interrupt();
+            watchdogThread = null;
+        }
+        serverThread = null;
+        lastTickNanos = 0;
+        deferredAtStart = 0;
+        deferredAtEnd = 0;
+        overBudgetTicks = 0;
+    }
+}
@@ -0,0 +1,263 @@
+package com.redstone;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
+import net.minecraft.network.protocol.game.ClientboundSoundPacket;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-tick batch of sound and particle effects, filled by Dart and flushed
+ * once at the end of the server tick.
+ *
+ * Sounds, particle types and sound categories are resolved to int handles
+ * once (Dart caches them), so queueing an effect is a buffer write with no
+ * JNI call and no identifier parsing. On flush, the packets for each player
+ * are collected and sent as one bundle instead of one packet per effect.
+ *
+ * Buffer layout (native byte order):
+ *   [0]  int number of queued records (written by Dart, reset by flush)
+ *   [16] CAPACITY records of RECORD_BYTES each:
+ *        [0]  int kind, [4] int handle, [8] int dimension handle,
+ *        [12] int target player ID (-1 = all players in range)
+ *        [16] double x, [24] double y, [32] double z
+ *        particle: [40] float dx, [44] float dy, [48] float dz,
+ *                  [52] float speed, [56] int count, [60] int force (0/1)
+ *        sound:    [40] float volume, [44] float pitch, [48] int category
+ *
+ * A sound targeted at a player plays at that player's position.
+ */
+public final class EffectBatch {
+    private static final Logger LOGGER = LoggerFactory.getLogger("EffectBatch");
+
+    public static final int HEADER_BYTES = 16;
+    public static final int RECORD_BYTES = 64;
+    public static final int CAPACITY = 4096;
+
+    public static final int KIND_PARTICLE = 1;
+    public static final int KIND_SOUND = 2;
+
+    private static final double PARTICLE_RANGE = 32.0;
+    private static final double FORCED_PARTICLE_RANGE = 512.0;
+    // Client bundle limit is 4096 packets including the delimiters
+    private static final int MAX_BUNDLE_PACKETS = 4000;
+
+    private static final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(HEADER_BYTES + CAPACITY * RECORD_BYTES).order(ByteOrder.nativeOrder());
+
+    private static final List<Holder<SoundEvent>> sounds = new ArrayList<>();
+    private static final Object2IntOpenHashMap<String> soundHandles = new Object2IntOpenHashMap<>();
+    private static final List<SimpleParticleType> particles = new ArrayList<>();
+    private static final Object2IntOpenHashMap<String> particleHandles = new Object2IntOpenHashMap<>();
+    private static final SoundSource[] categories = SoundSource.values();
+
+    static {
+        soundHandles.defaultReturnValue(-1);
+        particleHandles.defaultReturnValue(-1);
+    }
+
+    private EffectBatch() {}
+
+    // ==========================================================================
+    // Handles (called from Dart, results are cached there)
+    // ==========================================================================
+
+    /**
+     * Get the shared batch buffer (called once from Dart).
+     */
+    public static ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Resolve a sound event ID to a handle, or -1 if unknown.
+     */
+    public static synchronized int resolveSound(String soundId) {
+        int handle = soundHandles.getInt(soundId);
+        if (handle >= 0) return handle;
+
+        Identifier id = Identifier.tryParse(soundId);
+        if (id == null) return -1;
+        var event = BuiltInRegistries.SOUND_EVENT.getOptional(id);
+        if (event.isEmpty()) return -1;
+
+        handle = sounds.size();
+        sounds.add(BuiltInRegistries.SOUND_EVENT.wrapAsHolder(event.get()));
+        soundHandles.put(soundId, handle);
+        return handle;
+    }
+
+    /**
+     * Resolve a particle type ID to a handle, or -1 if unknown or if the
+     * particle needs options (only simple particles can be batched).
+     */
+    public static synchronized int resolveParticle(String particleId) {
+        int handle = particleHandles.getInt(particleId);
+        if (handle >= 0) return handle;
+
+        Identifier id = Identifier.tryParse(particleId);
+        if (id == null) return -1;
+        ParticleType<?> type = BuiltInRegistries.PARTICLE_TYPE.getOptional(id).orElse(null);
+        if (!(type instanceof SimpleParticleType simpleType)) return -1;
+
+        handle = particles.size();
+        particles.add(simpleType);
+        particleHandles.put(particleId, handle);
+        return handle;
+    }
+
+    /**
+     * Resolve a sound category name ("block", "hostile", ...) to a handle.
+     */
+    public static int resolveSoundCategory(String category) {
+        return soundCategory(category).ordinal();
+    }
+
+    /**
+     * Map a sound category name to its SoundSource (MASTER if unknown).
+     */
+    static SoundSource soundCategory(String category) {
+        return switch (category) {
+            case "music" -> SoundSource.MUSIC;
+            case "record" -> SoundSource.RECORDS;
+            case "weather" -> SoundSource.WEATHER;
+            case "block" -> SoundSource.BLOCKS;
+            case "hostile" -> SoundSource.HOSTILE;
+            case "neutral" -> SoundSource.NEUTRAL;
+            case "player" -> SoundSource.PLAYERS;
+            case "ambient" -> SoundSource.AMBIENT;
+            case "voice" -> SoundSource.VOICE;
+            default -> SoundSource.MASTER;
+        };
+    }
+
+    static Holder<SoundEvent> sound(String soundId) {
+        int handle = resolveSound(soundId);
+        return handle >= 0 ? sounds.get(handle) : null;
+    }
+
+    static SimpleParticleType particle(String particleId) {
+        int handle = resolveParticle(particleId);
+        return handle >= 0 ? particles.get(handle) : null;
+    }
+
+    // ==========================================================================
+    // Flush
+    // ==========================================================================
+
+    /**
+     * Send all queued effects and empty the batch. Called at the end of every
+     * server tick, and from Dart when the batch is full.
+     * @return Number of effects sent
+     */
+    public static int flush() {
+        int count = Math.min(buffer.getInt(0), CAPACITY);
+        if (count <= 0) return 0;
+        buffer.putInt(0, 0);
+
+        Map<ServerPlayer, List<Packet<? super ClientGamePacketListener>>> bundles = new IdentityHashMap<>();
+        int lastDimension = Integer.MIN_VALUE;
+        ServerLevel level = null;
+
+        for (int i = 0; i < count; i++) {
+            int offset = HEADER_BYTES + i * RECORD_BYTES;
+            int kind = buffer.getInt(offset);
+            int handle = buffer.getInt(offset + 4);
+            int dimension = buffer.getInt(offset + 8);
+            int playerId = buffer.getInt(offset + 12);
+
+            if (dimension != lastDimension) {
+                level = DartBridge.getLevelByHandle(dimension);
+                lastDimension = dimension;
+            }
+            ServerPlayer target = playerId >= 0 ? DartBridge.getPlayerById(playerId) : null;
+            if (playerId >= 0 && target == null) continue;
+            ServerLevel effectLevel = target != null ? (ServerLevel) target.level() : level;
+            if (effectLevel == null) continue;
+
+            double x = buffer.getDouble(offset + 16);
+            double y = buffer.getDouble(offset + 24);
+            double z = buffer.getDouble(offset + 32);
+
+            try {
+                if (kind == KIND_PARTICLE && handle >= 0 && handle < particles.size()) {
+                    // Targeted particles behave like spawnParticlesToPlayer: forced and always shown
+                    boolean force = target != null || buffer.getInt(offset + 60) != 0;
+                    var packet = new ClientboundLevelParticlesPacket(particles.get(handle), force, target != null, x, y, z,
+                        buffer.getFloat(offset + 40), buffer.getFloat(offset + 44), buffer.getFloat(offset + 48),
+                        buffer.getFloat(offset + 52), buffer.getInt(offset + 56));
+                    double range = force ? FORCED_PARTICLE_RANGE : PARTICLE_RANGE;
+                    addToBundles(bundles, effectLevel, target, x, y, z, range, packet);
+                } else if (kind == KIND_SOUND && handle >= 0 && handle < sounds.size()) {
+                    Holder<SoundEvent> sound = sounds.get(handle);
+                    float volume = buffer.getFloat(offset + 40);
+                    int category = buffer.getInt(offset + 48);
+                    if (target != null) {
+                        x = target.getX();
+                        y = target.getY();
+                        z = target.getZ();
+                    }
+                    var packet = new ClientboundSoundPacket(sound,
+                        category >= 0 && category < categories.length ? categories[category] : SoundSource.MASTER,
+                        x, y, z, volume, buffer.getFloat(offset + 44), effectLevel.getRandom().nextLong());
+                    addToBundles(bundles, effectLevel, target, x, y, z, sound.value().getRange(volume), packet);
+                }
+            } catch (Exception e) {
+                LOGGER.debug("Skipping effect {}: {}", i, e.getMessage());
+            }
+        }
+
+        for (var entry : bundles.entrySet()) {
+            send(entry.getKey(), entry.getValue());
+        }
+        return count;
+    }
+
+    private static void addToBundles(Map<ServerPlayer, List<Packet<? super ClientGamePacketListener>>> bundles,
+                                     ServerLevel level, ServerPlayer target,
+                                     double x, double y, double z, double range,
+                                     Packet<? super ClientGamePacketListener> packet) {
+        double rangeSqr = range * range;
+        if (target != null) {
+            if (target.distanceToSqr(x, y, z) <= rangeSqr) {
+                bundles.computeIfAbsent(target, p -> new ArrayList<>()).add(packet);
+            }
+            return;
+        }
+        for (ServerPlayer player : level.players()) {
+            if (player.distanceToSqr(x, y, z) <= rangeSqr) {
+                bundles.computeIfAbsent(player, p -> new ArrayList<>()).add(packet);
+            }
+        }
+    }
+
+    private static void send(ServerPlayer player, List<Packet<? super ClientGamePacketListener>> packets) {
+        if (packets.size() == 1) {
+            player.connection.send(packets.get(0));
+            return;
+        }
+        for (int start = 0; start < packets.size(); start += MAX_BUNDLE_PACKETS) {
+            int end = Math.min(start + MAX_BUNDLE_PACKETS, packets.size());
+            player.connection.send(new ClientboundBundlePacket(packets.subList(start, end)));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.redstone;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.world.item.ItemStack;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Per-slot change tracking for player inventories and container menus.
+ *
+ * Each tracked inventory remembers the packed stack and components hash of
+ * every slot, plus the version at which the slot last changed. Versions come
+ * from one global counter, so a caller only needs to keep the version returned
+ * by its previous read: asking for changes since that version returns exactly
+ * the slots modified in between. Version 0 returns every slot.
+ *
+ * Change detection compares encoded slots on read, so it sees every kind of
+ * modification (including stacks mutated in place) without hooking vanilla.
+ *
+ * Output layout (native byte order):
+ *   [0]  long version - pass as sinceVersion on the next read
+ *   [8]  int  number of change records that follow
+ *   [12] int  reserved
+ *   [16] change records of CHANGE_BYTES each:
+ *        int slot, int reserved, then an {@link ItemCodec} record
+ *
+ * Reads come from the server thread; menus may be forgotten from the client
+ * thread in single player, so the static entry points are synchronized.
+ */
+public final class InventoryTracker {
+    public static final int HEADER_BYTES = 16;
+    public static final int CHANGE_BYTES = 8 + ItemCodec.RECORD_BYTES;
+
+    private static long version = 0;
+    private static final Int2ObjectOpenHashMap<InventoryTracker> players = new Int2ObjectOpenHashMap<>();
+    private static final Long2ObjectOpenHashMap<InventoryTracker> menus = new Long2ObjectOpenHashMap<>();
+
+    private long[] packed = new long[0];
+    private int[] hashes = new int[0];
+    private long[] slotVersions = new long[0];
+
+    private InventoryTracker() {}
+
+    /**
+     * Write the slots of a player inventory that changed since {@code sinceVersion}.
+     * @return Number of change records written, or -1 if the buffer is too small
+     */
+    static synchronized int readPlayerChanges(int playerId, int size, IntFunction<ItemStack> slots,
+                                              long sinceVersion, ByteBuffer out) {
+        return players.computeIfAbsent(playerId, id -> new InventoryTracker())
+            .readChanges(size, slots, sinceVersion, out);
+    }
+
+    /**
+     * Write the slots of a container menu that changed since {@code sinceVersion}.
+     * @return Number of change records written, or -1 if the buffer is too small
+     */
+    static synchronized int readMenuChanges(long menuId, int size, IntFunction<ItemStack> slots,
+                                            long sinceVersion, ByteBuffer out) {
+        return menus.computeIfAbsent(menuId, id -> new InventoryTracker())
+            .readChanges(size, slots, sinceVersion, out);
+    }
+
+    /**
+     * Stop tracking a player's inventory (on disconnect).
+     */
+    public static synchronized void forgetPlayer(int playerId) {
+        players.remove(playerId);
+    }
+
+    /**
+     * Stop tracking a container menu (when it closes).
+     */
+    public static synchronized void forgetMenu(long menuId) {
+        menus.remove(menuId);
+    }
+
+    /**
+     * Buffer capacity needed to read changes of an inventory with {@code size} slots.
+     */
+    public static int requiredCapacity(int size) {
+        return HEADER_BYTES + size * CHANGE_BYTES;
+    }
+
+    private int readChanges(int size, IntFunction<ItemStack> slots, long sinceVersion, ByteBuffer out) {
+        if (out == null || !out.isDirect() || out.capacity() < requiredCapacity(size)) return -1;
+        out.order(ByteOrder.nativeOrder());
+
+        // Slots added since the last read (or the first read) count as changed
+        if (packed.length != size) {
+            int previous = packed.length;
+            packed = Arrays.copyOf(packed, size);
+            hashes = Arrays.copyOf(hashes, size);
+            slotVersions = Arrays.copyOf(slotVersions, size);
+            if (size > previous) {
+                version++;
+                for (int slot = previous; slot < size; slot++) {
+                    ItemStack stack = slots.apply(slot);
+                    packed[slot] = ItemCodec.pack(stack);
+                    hashes[slot] = ItemCodec.componentsHash(stack);
+                    slotVersions[slot] = version;
+                }
+            }
+        }
+
+        // Refresh, bumping the version once if anything changed
+        boolean bumped = false;
+        for (int slot = 0; slot < size; slot++) {
+            ItemStack stack = slots.apply(slot);
+            long p = ItemCodec.pack(stack);
+            int h = ItemCodec.componentsHash(stack);
+            if (p != packed[slot] || h != hashes[slot]) {
+                if (!bumped) {
+                    version++;
+                    bumped = true;
+                }
+                packed[slot] = p;
+                hashes[slot] = h;
+                slotVersions[slot] = version;
+            }
+        }
+
+        int count = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (slotVersions[slot] <= sinceVersion) continue;
+            int offset = HEADER_BYTES + count * CHANGE_BYTES;
+            out.putInt(offset, slot);
+            out.putInt(offset + 4, 0);
+            ItemCodec.writeAt(out, offset + 8, slots.apply(slot));
+            count++;
+        }
+
+        out.putLong(0, version);
+        out.putInt(8, count);
+        out.putInt(12, 0);
+        return count;
+    }
+}
@@ -0,0 +1,223 @@
+package com.redstone;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Fixed-width binary encoding of item stacks.
+ *
+ * Items are identified by their raw item registry ID instead of their string
+ * ID, so a stack fits in one long and no strings cross JNI per stack. Dart
+ * resolves raw IDs to item IDs once and caches them.
+ *
+ * Packed stack (long):
+ *   bits 40-63  raw item ID + 1 (0 = empty stack)
+ *   bits 32-39  count (0-255)
+ *   bits  0-31  damage
+ *
+ * Buffer record (RECORD_BYTES, native byte order):
+ *   [0]  long packed stack
+ *   [8]  int  components hash - 0 if the stack has no component changes
+ *   [12] int  max damage
+ *
+ * When writing records back, the components hash says which stack's data
+ * components the new stack takes: a record with a nonzero hash copies the
+ * stack of the same item and hash among the slots being written (the slot's
+ * own stack first), so stacks moved between slots keep their enchantments,
+ * names and contents. A record with hash 0 is a plain stack. A damage of
+ * {@link #KEEP_DAMAGE} leaves the damage as it is.
+ */
+public final class ItemCodec {
+    public static final long EMPTY = 0L;
+    /** Packed value meaning "leave this slot unchanged" when writing records. */
+    public static final long SKIP = -1L;
+    /** Damage value meaning "keep the slot's current damage" when writing records. */
+    public static final int KEEP_DAMAGE = -1;
+    public static final int RECORD_BYTES = 16;
+
+    private ItemCodec() {}
+
+    // ==========================================================================
+    // Packed Stacks
+    // ==========================================================================
+
+    public static long pack(ItemStack stack) {
+        if (stack == null || stack.isEmpty()) return EMPTY;
+        long rawId = BuiltInRegistries.ITEM.getId(stack.getItem()) + 1L;
+        long count = Math.min(stack.getCount(), 0xFF);
+        long damage = stack.isDamageableItem() ? stack.getDamageValue() & 0xFFFFFFFFL : 0;
+        return (rawId << 40) | (count << 32) | damage;
+    }
+
+    public static int rawId(long packed) {
+        return (int) (packed >>> 40) - 1;
+    }
+
+    public static int count(long packed) {
+        return (int) (packed >>> 32) & 0xFF;
+    }
+
+    public static int damage(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Hash of the stack's data component changes, or 0 if it has none.
+     * Equal stacks hash equally within a server session.
+     */
+    public static int componentsHash(ItemStack stack) {
+        if (stack == null || stack.isEmpty()) return 0;
+        var patch = stack.getComponentsPatch();
+        return patch.isEmpty() ? 0 : patch.hashCode();
+    }
+
+    /**
+     * Decode a packed stack into slot {@code slot} of {@code sources}, taking its
+     * data components from the source stack with the same item and components hash.
+     * @return {@code sources[slot]} itself if nothing changed, a new stack, or
+     *         null if no source matches a nonzero components hash
+     */
+    static ItemStack unpack(long packed, int hash, ItemStack[] sources, int slot) {
+        ItemStack current = sources[slot];
+        boolean currentEmpty = current == null || current.isEmpty();
+        Item item = rawId(packed) < 0 || count(packed) == 0
+            ? Items.AIR
+            : BuiltInRegistries.ITEM.byId(rawId(packed));
+        if (item == Items.AIR) return currentEmpty ? current : ItemStack.EMPTY;
+
+        ItemStack source = matches(current, item, hash) ? current : null;
+        for (int i = 0; source == null && i < sources.length; i++) {
+            if (matches(sources[i], item, hash)) source = sources[i];
+        }
+        if (source == null && hash != 0) return null;
+
+        int count = count(packed);
+        boolean keepDamage = damage(packed) == KEEP_DAMAGE;
+        ItemStack stack;
+        if (source != null) {
+            boolean sameDamage = keepDamage || !source.isDamageableItem()
+                || source.getDamageValue() == damage(packed);
+            if (source == current && current.getCount() == count && sameDamage) return current;
+            stack = source.copyWithCount(count);
+        } else {
+            stack = new ItemStack(item, count);
+        }
+        if (!keepDamage && stack.isDamageableItem()) {
+            stack.setDamageValue(damage(packed));
+        }
+        return stack;
+    }
+
+    private static boolean matches(ItemStack stack, Item item, int hash) {
+        return stack != null && !stack.isEmpty() && stack.getItem() == item
+            && componentsHash(stack) == hash;
+    }
+
+    /**
+     * Write slots 0 to slotCount - 1 from a buffer of records. Records equal to
+     * the current slot contents, or set to {@link #SKIP}, are left alone.
+     *
+     * All records are resolved against the slot contents before any slot is
+     * set, so stacks can be swapped or rotated in one write.
+     * @return Number of slots changed, or -1 if a record's components hash
+     *         matches none of the stacks being written (no slot is changed then)
+     */
+    public static int writeSlots(ByteBuffer in, int slotCount, IntFunction<ItemStack> slots,
+                                 ObjIntConsumer<ItemStack> setter) {
+        ItemStack[] sources = new ItemStack[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            sources[i] = slots.apply(i);
+        }
+
+        ItemStack[] stacks = new ItemStack[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            long packed = readPacked(in, i);
+            if (packed == SKIP) {
+                stacks[i] = sources[i];
+                continue;
+            }
+            stacks[i] = unpack(packed, readComponentsHash(in, i), sources, i);
+            if (stacks[i] == null) return -1;
+        }
+
+        int changed = 0;
+        for (int i = 0; i < slotCount; i++) {
+            if (stacks[i] == sources[i]) continue;
+            setter.accept(stacks[i], i);
+            changed++;
+        }
+        return changed;
+    }
+
+    // ==========================================================================
+    // Buffer Records
+    // ==========================================================================
+
+    public static void write(ByteBuffer buffer, int index, ItemStack stack) {
+        writeAt(buffer, index * RECORD_BYTES, stack);
+    }
+
+    /**
+     * Write a record at a byte offset, for layouts that embed records.
+     */
+    public static void writeAt(ByteBuffer buffer, int offset, ItemStack stack) {
+        buffer.putLong(offset, pack(stack));
+        buffer.putInt(offset + 8, componentsHash(stack));
+        buffer.putInt(offset + 12, stack == null || stack.isEmpty() ? 0 : stack.getMaxDamage());
+    }
+
+    /**
+     * Read the packed stack of a record. The max damage is informational and
+     * ignored on the way in.
+     */
+    public static long readPacked(ByteBuffer buffer, int index) {
+        return buffer.getLong(index * RECORD_BYTES);
+    }
+
+    public static int readComponentsHash(ByteBuffer buffer, int index) {
+        return buffer.getInt(index * RECORD_BYTES + 8);
+    }
+
+    /**
+     * Whether a buffer is direct and holds at least {@code count} records.
+     */
+    public static boolean fits(ByteBuffer buffer, int count) {
+        return buffer != null && buffer.isDirect() && (long) count * RECORD_BYTES <= buffer.capacity();
+    }
+
+    // ==========================================================================
+    // Raw ID Lookups (called from Dart, results are cached there)
+    // ==========================================================================
+
+    /**
+     * Get the raw registry ID of an item, or -1 if unknown.
+     */
+    public static int getRawId(String itemId) {
+        Identifier id = Identifier.tryParse(itemId);
+        if (id == null) return -1;
+        return BuiltInRegistries.ITEM.getOptional(id)
+            .map(BuiltInRegistries.ITEM::getId)
+            .orElse(-1);
+    }
+
+    /**
+     * Get the item ID for a raw registry ID, or "minecraft:air" if unknown.
+     */
+    public static String getItemId(int rawId) {
+        return BuiltInRegistries.ITEM.getKey(BuiltInRegistries.ITEM.byId(rawId)).toString();
+    }
+
+    /**
+     * Get the default max damage of an item by raw ID (0 if not damageable).
+     */
+    public static int getMaxDamage(int rawId) {
+        return BuiltInRegistries.ITEM.byId(rawId).getDefaultInstance().getMaxDamage();
+    }
+}
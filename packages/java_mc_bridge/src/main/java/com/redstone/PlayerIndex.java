@@ -0,0 +1,155 @@
+package com.redstone;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.server.level.ServerPlayer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Indices of the online players by entity ID, name and UUID, updated when a
+ * player first loads into a level and on connect/disconnect (see DartBridge
+ * .indexEntity and DartModLoader) instead of walking the player list on
+ * every lookup.
+ *
+ * The online player IDs are also kept in a shared direct buffer, so Dart can
+ * enumerate all players without a JNI call per player.
+ *
+ * ID buffer layout (native byte order):
+ *   [0]  int number of online players
+ *   [16] CAPACITY int player IDs, in join order (the same order as the
+ *        server's player list, so getPlayerIdByIndex is unchanged)
+ *
+ * Only touched on the server thread.
+ */
+public final class PlayerIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger("PlayerIndex");
+
+    public static final int HEADER_BYTES = 16;
+    public static final int CAPACITY = 4096;
+
+    private static final Int2ObjectOpenHashMap<ServerPlayer> byId = new Int2ObjectOpenHashMap<>();
+    private static final Object2IntOpenHashMap<String> byName = new Object2IntOpenHashMap<>();
+    private static final Object2IntOpenHashMap<UUID> byUuid = new Object2IntOpenHashMap<>();
+
+    private static final ByteBuffer ids =
+        ByteBuffer.allocateDirect(HEADER_BYTES + CAPACITY * 4).order(ByteOrder.nativeOrder());
+
+    static {
+        byName.defaultReturnValue(-1);
+        byUuid.defaultReturnValue(-1);
+    }
+
+    private PlayerIndex() {}
+
+    // ==========================================================================
+    // Updates
+    // ==========================================================================
+
+    /**
+     * Add a player when it first loads into a level; calling it again on
+     * join only refreshes the entries.
+     */
+    public static void add(ServerPlayer player) {
+        int id = player.getId();
+        boolean isNew = byId.put(id, player) == null;
+        byName.put(nameKey(player.getName().getString()), id);
+        byUuid.put(player.getUUID(), id);
+
+        if (isNew) {
+            int count = ids.getInt(0);
+            if (count >= CAPACITY) {
+                LOGGER.warn("More than {} players online, player {} left out of the ID list", CAPACITY, id);
+                return;
+            }
+            ids.putInt(HEADER_BYTES + count * 4, id);
+            ids.putInt(0, count + 1);
+        }
+    }
+
+    /**
+     * Point an indexed player's ID at its new entity after a respawn or
+     * dimension change (the new ServerPlayer keeps the ID, name and UUID).
+     */
+    public static void replace(ServerPlayer player) {
+        if (byId.containsKey(player.getId())) {
+            byId.put(player.getId(), player);
+        }
+    }
+
+    /**
+     * Remove a player on disconnect.
+     */
+    public static void remove(ServerPlayer player) {
+        int id = player.getId();
+        if (byId.remove(id) == null) return;
+        byName.removeInt(nameKey(player.getName().getString()));
+        byUuid.removeInt(player.getUUID());
+
+        // Shift the later IDs down one slot to keep join order
+        int count = ids.getInt(0);
+        int slot = 0;
+        while (slot < count && ids.getInt(HEADER_BYTES + slot * 4) != id) slot++;
+        if (slot == count) return;
+        for (int i = slot; i < count - 1; i++) {
+            ids.putInt(HEADER_BYTES + i * 4, ids.getInt(HEADER_BYTES + (i + 1) * 4));
+        }
+        ids.putInt(0, count - 1);
+    }
+
+    /**
+     * Drop all players (on server stop).
+     */
+    public static void clear() {
+        byId.clear();
+        byName.clear();
+        byUuid.clear();
+        ids.putInt(0, 0);
+    }
+
+    // ==========================================================================
+    // Lookups
+    // ==========================================================================
+
+    /**
+     * Get the shared buffer of online player IDs (called once from Dart).
+     */
+    public static ByteBuffer getIdBuffer() {
+        return ids;
+    }
+
+    public static ServerPlayer get(int playerId) {
+        return byId.get(playerId);
+    }
+
+    /**
+     * Entity ID of the online player with this name (any case), or -1.
+     */
+    public static int getIdByName(String name) {
+        return name != null ? byName.getInt(nameKey(name)) : -1;
+    }
+
+    /**
+     * Entity ID of the online player with this UUID, or -1.
+     */
+    public static int getIdByUuid(long mostSignificantBits, long leastSignificantBits) {
+        return byUuid.getInt(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+
+    /**
+     * Entity ID of the index-th online player in join order, or -1.
+     */
+    public static int getIdByIndex(int index) {
+        if (index < 0 || index >= ids.getInt(0)) return -1;
+        return ids.getInt(HEADER_BYTES + index * 4);
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
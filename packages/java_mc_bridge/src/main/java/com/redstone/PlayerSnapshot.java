@@ -0,0 +1,145 @@
+package com.redstone;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.food.FoodData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-tick table of every online player's state, read by Dart in bulk.
+ *
+ * The table is filled on the first capture() of a tick and reused for the
+ * rest of it, so a scoreboard reading every player's state costs one JNI call
+ * per tick instead of one per attribute per player. Values are as of the
+ * capture; the per-player getters in DartBridge always return live values.
+ *
+ * Buffer layout (native byte order):
+ *   [0]  int number of players, [4] int server tick of the capture
+ *   [16] CAPACITY records of RECORD_BYTES each:
+ *        [0]  int entity ID, [4] int game mode
+ *        [8]  long UUID most significant bits, [16] long least significant bits
+ *        [24] double x, [32] double y, [40] double z
+ *        [48] float yaw, [52] float pitch, [56] float health, [60] float max health
+ *        [64] int food level, [68] float saturation
+ *        [72] int experience level, [76] int total experience
+ *        [80] int flags (FLAG_*), [84] int name length in bytes
+ *        [88] name as UTF-8 (up to NAME_BYTES)
+ *   then one more record at index CAPACITY, filled live by captureOne()
+ */
+public final class PlayerSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger("PlayerSnapshot");
+
+    public static final int HEADER_BYTES = 16;
+    public static final int RECORD_BYTES = 112;
+    public static final int NAME_BYTES = 24;
+    public static final int CAPACITY = 1024;
+
+    public static final int FLAG_ON_GROUND = 1;
+    public static final int FLAG_SNEAKING = 1 << 1;
+    public static final int FLAG_SPRINTING = 1 << 2;
+    public static final int FLAG_SWIMMING = 1 << 3;
+    public static final int FLAG_FLYING = 1 << 4;
+
+    private static final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(HEADER_BYTES + (CAPACITY + 1) * RECORD_BYTES).order(ByteOrder.nativeOrder());
+
+    private static int capturedTick = -1;
+    private static boolean warnedCapacity = false;
+
+    private PlayerSnapshot() {}
+
+    /**
+     * Get the shared snapshot buffer (called once from Dart).
+     */
+    public static ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Fill the table for the current tick if it hasn't been yet.
+     * @param force Capture again even if this tick already has a snapshot
+     * @return Number of players in the table
+     */
+    public static int capture(boolean force) {
+        MinecraftServer server = DartBridge.getServerInstance();
+        if (server == null) {
+            buffer.putInt(0, 0);
+            capturedTick = -1;
+            return 0;
+        }
+
+        int tick = server.getTickCount();
+        if (!force && tick == capturedTick) {
+            return buffer.getInt(0);
+        }
+
+        List<ServerPlayer> players = server.getPlayerList().getPlayers();
+        int count = Math.min(players.size(), CAPACITY);
+        if (count < players.size() && !warnedCapacity) {
+            LOGGER.warn("{} players online, snapshot only holds {}", players.size(), CAPACITY);
+            warnedCapacity = true;
+        }
+
+        for (int i = 0; i < count; i++) {
+            write(HEADER_BYTES + i * RECORD_BYTES, players.get(i));
+        }
+        buffer.putInt(0, count);
+        buffer.putInt(4, tick);
+        capturedTick = tick;
+        return count;
+    }
+
+    /**
+     * Write one player's live state into the record at index CAPACITY,
+     * leaving the per-tick table alone.
+     * @return true if the player is online
+     */
+    public static boolean captureOne(int playerId) {
+        ServerPlayer player = DartBridge.getPlayerById(playerId);
+        if (player == null) return false;
+        write(HEADER_BYTES + CAPACITY * RECORD_BYTES, player);
+        return true;
+    }
+
+    private static void write(int offset, ServerPlayer player) {
+        UUID uuid = player.getUUID();
+        FoodData food = player.getFoodData();
+
+        int flags = 0;
+        if (player.onGround()) flags |= FLAG_ON_GROUND;
+        if (player.isShiftKeyDown()) flags |= FLAG_SNEAKING;
+        if (player.isSprinting()) flags |= FLAG_SPRINTING;
+        if (player.isSwimming()) flags |= FLAG_SWIMMING;
+        if (player.getAbilities().flying) flags |= FLAG_FLYING;
+
+        buffer.putInt(offset, player.getId());
+        buffer.putInt(offset + 4, player.gameMode.getGameModeForPlayer().getId());
+        buffer.putLong(offset + 8, uuid.getMostSignificantBits());
+        buffer.putLong(offset + 16, uuid.getLeastSignificantBits());
+        buffer.putDouble(offset + 24, player.getX());
+        buffer.putDouble(offset + 32, player.getY());
+        buffer.putDouble(offset + 40, player.getZ());
+        buffer.putFloat(offset + 48, player.getYRot());
+        buffer.putFloat(offset + 52, player.getXRot());
+        buffer.putFloat(offset + 56, player.getHealth());
+        buffer.putFloat(offset + 60, player.getMaxHealth());
+        buffer.putInt(offset + 64, food.getFoodLevel());
+        buffer.putFloat(offset + 68, food.getSaturationLevel());
+        buffer.putInt(offset + 72, player.experienceLevel);
+        buffer.putInt(offset + 76, player.totalExperience);
+        buffer.putInt(offset + 80, flags);
+
+        // Player names are at most 16 ASCII characters; longer ones are cut off
+        byte[] name = player.getName().getString().getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(name.length, NAME_BYTES);
+        buffer.putInt(offset + 84, length);
+        buffer.put(offset + 88, name, 0, length);
+    }
+}
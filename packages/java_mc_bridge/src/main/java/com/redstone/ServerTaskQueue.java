@@ -0,0 +1,58 @@
+package com.redstone;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Tasks to run on the server thread at the start of the next tick.
+ *
+ * Used to apply results that Dart produces outside of the callback that
+ * started the work (e.g. async command completions), so they always take
+ * effect at a tick boundary rather than in the middle of another callback.
+ * Tasks may be submitted from any thread.
+ */
+public final class ServerTaskQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ServerTaskQueue");
+
+    private static final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private ServerTaskQueue() {}
+
+    public static void submit(Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Run the tasks queued so far. Tasks submitted while running wait for the
+     * next call, so a task that resubmits itself can't stall the tick.
+     * @return Number of tasks run
+     */
+    public static int runPending() {
+        int count = tasks.size();
+        int ran = 0;
+        for (; ran < count; ran++) {
+            Runnable task = tasks.poll();
+            if (task == null) break;
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.error("Server task failed: {}", e.getMessage(), e);
+            }
+        }
+        return ran;
+    }
+
+    /**
+     * Drop all queued tasks (on server stop).
+     */
+    public static void clear() {
+        tasks.clear();
+    }
+
+    public static int getPendingCount() {
+        return tasks.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.redstone.mixin;
+
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeMap;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Typed access to RecipeManager's recipe map, replacing reflective field lookup.
+ */
+@Mixin(RecipeManager.class)
+public interface RecipeManagerAccessor {
+    @Accessor("recipes")
+    RecipeMap redstone$getRecipes();
+
+    @Accessor("recipes")
+    void redstone$setRecipes(RecipeMap recipes);
+}
@@ -2,7 +2,6 @@ package com.redstone.proxy;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.*;
@@ -10,6 +9,7 @@ import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.builder.RequiredArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.redstone.DartBridge;
+import com.redstone.ServerTaskQueue;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -17,9 +17,14 @@ import net.minecraft.commands.arguments.*;
 import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,6 +33,33 @@ import java.util.Map;
  *
  * Commands are registered using Fabric's Command API and routed to Dart
  * callbacks through the native bridge.
+ *
+ * Parsed arguments reach Dart as a typed argument frame written into a
+ * direct buffer shared with Dart, instead of a JSON string. Each command's
+ * argument definitions are compiled into an {@link ArgSlot} array at
+ * registration, so executing a command does no JSON or type-name work.
+ *
+ * Commands registered as async return to Brigadier as soon as Dart has
+ * started their handler. The handler still runs on the server thread (the
+ * Dart VM is only entered from it), so work before its first await runs in
+ * the tick the command was issued; async handlers spread long work over
+ * ticks by awaiting between chunks. Dart reports the result and any feedback
+ * later through {@link #completeAsync} and {@link #sendAsyncFeedback}, which
+ * are applied to the original command source at the start of the next tick
+ * via {@link ServerTaskQueue}. Executions Dart hasn't completed after
+ * redstone.command.asyncTimeoutSeconds seconds (default 60) fail.
+ *
+ * Frame layout (native byte order):
+ *   [0]  int presence mask - bit i set if argument i was provided
+ *   [4]  int total frame length in bytes
+ *   [8]  long async execution ID, or 0 for a synchronous command
+ *   [16] SLOT_BYTES per argument, in definition order:
+ *        integer, bool, player  int value (player = entity ID)
+ *        double                 double value
+ *        position               int x, int y, int z
+ *        string types           int offset, int length of UTF-8 bytes
+ *        entities               int offset, int count of int entity IDs
+ *   [16 + SLOT_BYTES * argCount] variable data referenced by offset
  */
 public class CommandRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger("CommandRegistry");
@@ -35,6 +67,43 @@ public class CommandRegistry {
     private static final Map<Long, CommandDef> commands = new HashMap<>();
     private static boolean initialized = false;
 
+    public static final int FRAME_HEADER_BYTES = 16;
+    public static final int SLOT_BYTES = 16;
+    /** Large enough for a maximum length command line encoded as UTF-8. */
+    public static final int FRAME_BYTES = 128 * 1024;
+    /** The presence mask has one bit per argument. */
+    public static final int MAX_ARGUMENTS = 32;
+
+    private static final ByteBuffer frame = ByteBuffer.allocateDirect(FRAME_BYTES).order(ByteOrder.nativeOrder());
+
+    private static final int ASYNC_TIMEOUT_TICKS =
+        Math.max(1, Integer.getInteger("redstone.command.asyncTimeoutSeconds", 60)) * 20;
+
+    /**
+     * An async execution Dart hasn't completed yet.
+     */
+    private record PendingExecution(CommandSourceStack source, int expiresAtTick) {}
+
+    // Async executions by execution ID (server thread only)
+    private static final Map<Long, PendingExecution> pendingExecutions = new HashMap<>();
+    private static long nextExecutionId = 1;
+
+    /**
+     * How an argument's value is written into the frame.
+     */
+    private enum ArgKind { STRING, INTEGER, DOUBLE, BOOL, PLAYER, POSITION, ENTITIES }
+
+    /**
+     * One compiled argument: its Brigadier type and its slot in the frame.
+     */
+    private record ArgSlot(
+        String name,
+        String type,
+        ArgKind kind,
+        boolean required,
+        int offset
+    ) {}
+
     /**
      * Internal record to store command definitions.
      */
@@ -42,8 +111,9 @@ public class CommandRegistry {
         long id,
         String name,
         String description,
-        JsonArray arguments,
-        int permission
+        ArgSlot[] arguments,
+        int permission,
+        boolean async
     ) {}
 
     /**
@@ -62,15 +132,31 @@ public class CommandRegistry {
             String description,
             String argsJson,
             int permission) {
+        return registerCommand(commandId, name, description, argsJson, permission, false);
+    }
+
+    /**
+     * Register a command from Dart.
+     *
+     * @param async Whether the Dart handler completes later through {@link #completeAsync}
+     * @return true if registration succeeded
+     */
+    public static boolean registerCommand(
+            long commandId,
+            String name,
+            String description,
+            String argsJson,
+            int permission,
+            boolean async) {
 
         if (!initialized) {
             initialize();
         }
 
         try {
-            JsonArray args = GSON.fromJson(argsJson, JsonArray.class);
-            commands.put(commandId, new CommandDef(commandId, name, description, args, permission));
-            LOGGER.info("Registered command: /{} (ID: {})", name, commandId);
+            ArgSlot[] args = compileArguments(GSON.fromJson(argsJson, JsonArray.class));
+            commands.put(commandId, new CommandDef(commandId, name, description, args, permission, async));
+            LOGGER.info("Registered {}command: /{} (ID: {})", async ? "async " : "", name, commandId);
             return true;
         } catch (Exception e) {
             LOGGER.error("Failed to register command /{}: {}", name, e.getMessage());
@@ -78,6 +164,45 @@ public class CommandRegistry {
         }
     }
 
+    /**
+     * Compile argument definitions into frame slots.
+     */
+    private static ArgSlot[] compileArguments(JsonArray args) {
+        if (args == null) return new ArgSlot[0];
+        if (args.size() > MAX_ARGUMENTS) {
+            throw new IllegalArgumentException("At most " + MAX_ARGUMENTS + " arguments are supported");
+        }
+
+        ArgSlot[] slots = new ArgSlot[args.size()];
+        for (int i = 0; i < slots.length; i++) {
+            JsonObject arg = args.get(i).getAsJsonObject();
+            String type = arg.get("type").getAsString();
+            boolean required = arg.has("required") ? arg.get("required").getAsBoolean() : true;
+            slots[i] = new ArgSlot(arg.get("name").getAsString(), type, kindOf(type), required,
+                FRAME_HEADER_BYTES + i * SLOT_BYTES);
+        }
+        return slots;
+    }
+
+    private static ArgKind kindOf(String type) {
+        return switch (type) {
+            case "integer" -> ArgKind.INTEGER;
+            case "double_" -> ArgKind.DOUBLE;
+            case "bool_" -> ArgKind.BOOL;
+            case "player" -> ArgKind.PLAYER;
+            case "position" -> ArgKind.POSITION;
+            case "entities" -> ArgKind.ENTITIES;
+            default -> ArgKind.STRING;
+        };
+    }
+
+    /**
+     * Get the shared argument frame buffer (called once from Dart).
+     */
+    public static ByteBuffer getArgumentFrame() {
+        return frame;
+    }
+
     /**
      * Initialize the command registration system.
      */
@@ -104,7 +229,7 @@ public class CommandRegistry {
             // Note: Permission checking removed - CommandSourceStack.hasPermission() isn't available in 1.21.x
             // Custom permission logic can be added in the command execution handler if needed
 
-            if (cmd.arguments() == null || cmd.arguments().isEmpty()) {
+            if (cmd.arguments().length == 0) {
                 // No arguments - just execute
                 builder.executes(context -> executeCommand(context, cmd.id()));
             } else {
@@ -125,23 +250,19 @@ public class CommandRegistry {
     @SuppressWarnings("unchecked")
     private static LiteralArgumentBuilder<CommandSourceStack> buildArgumentChain(
             LiteralArgumentBuilder<CommandSourceStack> builder,
-            JsonArray args,
+            ArgSlot[] args,
             int index,
             long commandId) {
 
-        if (index >= args.size()) {
+        if (index >= args.length) {
             // End of arguments - add execution
             return builder.executes(context -> executeCommand(context, commandId));
         }
 
-        JsonObject arg = args.get(index).getAsJsonObject();
-        String argName = arg.get("name").getAsString();
-        String argType = arg.get("type").getAsString();
-        boolean required = arg.has("required") ? arg.get("required").getAsBoolean() : true;
-
-        RequiredArgumentBuilder<CommandSourceStack, ?> argBuilder = createArgumentBuilder(argName, argType);
+        ArgSlot arg = args[index];
+        RequiredArgumentBuilder<CommandSourceStack, ?> argBuilder = createArgumentBuilder(arg.name(), arg.type());
 
-        if (index == args.size() - 1) {
+        if (index == args.length - 1) {
             // Last argument - add execution
             argBuilder.executes(context -> executeCommand(context, commandId));
         } else {
@@ -151,7 +272,7 @@ public class CommandRegistry {
         }
 
         // If not required, also allow executing without this argument
-        if (!required && index > 0) {
+        if (!arg.required() && index > 0) {
             builder.executes(context -> executeCommand(context, commandId));
         }
 
@@ -162,17 +283,14 @@ public class CommandRegistry {
      * Build the next argument in the chain.
      */
     private static RequiredArgumentBuilder<CommandSourceStack, ?> buildNextArgument(
-            JsonArray args,
+            ArgSlot[] args,
             int index,
             long commandId) {
 
-        JsonObject arg = args.get(index).getAsJsonObject();
-        String argName = arg.get("name").getAsString();
-        String argType = arg.get("type").getAsString();
-
-        RequiredArgumentBuilder<CommandSourceStack, ?> argBuilder = createArgumentBuilder(argName, argType);
+        ArgSlot arg = args[index];
+        RequiredArgumentBuilder<CommandSourceStack, ?> argBuilder = createArgumentBuilder(arg.name(), arg.type());
 
-        if (index == args.size() - 1) {
+        if (index == args.length - 1) {
             // Last argument
             argBuilder.executes(context -> executeCommand(context, commandId));
         } else {
@@ -194,6 +312,7 @@ public class CommandRegistry {
             case "bool_" -> Commands.argument(name, BoolArgumentType.bool());
             case "player" -> Commands.argument(name, EntityArgument.player());
             case "position" -> Commands.argument(name, BlockPosArgument.blockPos());
+            case "entities" -> Commands.argument(name, EntityArgument.entities());
             // TODO: BlockStateArgument and ItemArgument require CommandBuildContext in 1.21.x
             // For now, fall back to string arguments - users should provide block/item IDs as strings
             case "block" -> Commands.argument(name, StringArgumentType.string());
@@ -212,28 +331,29 @@ public class CommandRegistry {
             ServerPlayer player = source.getPlayer();
             int playerId = player != null ? player.getId() : 0;
 
-            // Collect arguments
-            JsonObject argsJson = new JsonObject();
             CommandDef cmd = commands.get(commandId);
-            if (cmd != null && cmd.arguments() != null) {
-                for (JsonElement elem : cmd.arguments()) {
-                    JsonObject argDef = elem.getAsJsonObject();
-                    String argName = argDef.get("name").getAsString();
-                    String argType = argDef.get("type").getAsString();
-
-                    try {
-                        Object value = getArgumentValue(context, argName, argType);
-                        if (value != null) {
-                            argsJson.addProperty(argName, value.toString());
-                        }
-                    } catch (IllegalArgumentException e) {
-                        // Argument not provided (optional)
-                    }
-                }
+            int frameBytes = writeFrame(context, cmd != null ? cmd.arguments() : new ArgSlot[0]);
+            if (frameBytes < 0) {
+                source.sendFailure(Component.literal("Command arguments are too large"));
+                return 0;
             }
 
-            // Dispatch to Dart via native bridge
-            return DartBridge.onCommandExecute(commandId, playerId, GSON.toJson(argsJson));
+            if (cmd == null || !cmd.async()) {
+                frame.putLong(8, 0L);
+                // Dispatch to Dart via native bridge
+                return DartBridge.onCommandExecute(commandId, playerId, frameBytes);
+            }
+
+            // Async: Dart starts the handler and completes it on a later tick
+            long executionId = nextExecutionId++;
+            frame.putLong(8, executionId);
+            int expiresAtTick = source.getServer().getTickCount() + ASYNC_TIMEOUT_TICKS;
+            pendingExecutions.put(executionId, new PendingExecution(source, expiresAtTick));
+            int accepted = DartBridge.onCommandExecute(commandId, playerId, frameBytes);
+            if (accepted <= 0) {
+                pendingExecutions.remove(executionId);
+            }
+            return accepted;
         } catch (Exception e) {
             LOGGER.error("Error executing command {}: {}", commandId, e.getMessage());
             return 0;
@@ -241,32 +361,125 @@ public class CommandRegistry {
     }
 
     /**
-     * Get an argument value from the context.
+     * Write the parsed arguments into the shared frame.
+     * @return The frame length in bytes, or -1 if the arguments don't fit
      */
-    private static Object getArgumentValue(CommandContext<CommandSourceStack> context, String name, String type) {
-        return switch (type) {
-            case "string", "greedyString", "block", "item" -> StringArgumentType.getString(context, name);
-            case "integer" -> IntegerArgumentType.getInteger(context, name);
-            case "double_" -> DoubleArgumentType.getDouble(context, name);
-            case "bool_" -> BoolArgumentType.getBool(context, name);
-            case "player" -> {
-                try {
-                    ServerPlayer p = EntityArgument.getPlayer(context, name);
-                    yield p.getId();
-                } catch (Exception e) {
-                    yield null;
+    private static int writeFrame(CommandContext<CommandSourceStack> context, ArgSlot[] args) {
+        int mask = 0;
+        int end = FRAME_HEADER_BYTES + args.length * SLOT_BYTES;
+
+        for (int i = 0; i < args.length; i++) {
+            ArgSlot arg = args[i];
+            int offset = arg.offset();
+            try {
+                switch (arg.kind()) {
+                    case STRING -> {
+                        byte[] bytes = StringArgumentType.getString(context, arg.name()).getBytes(StandardCharsets.UTF_8);
+                        if (end + bytes.length > FRAME_BYTES) return -1;
+                        frame.put(end, bytes);
+                        frame.putInt(offset, end);
+                        frame.putInt(offset + 4, bytes.length);
+                        end += bytes.length;
+                    }
+                    case INTEGER -> frame.putInt(offset, IntegerArgumentType.getInteger(context, arg.name()));
+                    case DOUBLE -> frame.putDouble(offset, DoubleArgumentType.getDouble(context, arg.name()));
+                    case BOOL -> frame.putInt(offset, BoolArgumentType.getBool(context, arg.name()) ? 1 : 0);
+                    case PLAYER -> frame.putInt(offset, EntityArgument.getPlayer(context, arg.name()).getId());
+                    case POSITION -> {
+                        var pos = BlockPosArgument.getBlockPos(context, arg.name());
+                        frame.putInt(offset, pos.getX());
+                        frame.putInt(offset + 4, pos.getY());
+                        frame.putInt(offset + 8, pos.getZ());
+                    }
+                    case ENTITIES -> {
+                        Collection<? extends Entity> entities = EntityArgument.getEntities(context, arg.name());
+                        if (end + entities.size() * 4 > FRAME_BYTES) return -1;
+                        frame.putInt(offset, end);
+                        frame.putInt(offset + 4, entities.size());
+                        for (Entity entity : entities) {
+                            frame.putInt(end, entity.getId());
+                            end += 4;
+                        }
+                    }
                 }
+                mask |= 1 << i;
+            } catch (IllegalArgumentException e) {
+                // Argument not provided (optional)
+            } catch (Exception e) {
+                // Selector matched nothing or failed to resolve; leave the argument unset
             }
-            case "position" -> {
-                try {
-                    var pos = BlockPosArgument.getBlockPos(context, name);
-                    yield pos.getX() + "," + pos.getY() + "," + pos.getZ();
-                } catch (Exception e) {
-                    yield null;
-                }
+        }
+
+        frame.putInt(0, mask);
+        frame.putInt(4, end);
+        return end;
+    }
+
+    /**
+     * Complete an async command execution (called from Dart).
+     * Applied on the server thread at the start of the next tick, where the
+     * result is reported to the source's result callback (e.g. a command
+     * block's success count or /execute store).
+     *
+     * @param result The command result (0 = failure, positive = success)
+     */
+    public static void completeAsync(long executionId, int result) {
+        ServerTaskQueue.submit(() -> {
+            PendingExecution pending = pendingExecutions.remove(executionId);
+            if (pending == null) return;
+            pending.source().callback().onResult(result > 0, result);
+        });
+    }
+
+    /**
+     * Send feedback for an async command execution to its original source
+     * (player, command block or console). Applied at the start of the next tick.
+     */
+    public static void sendAsyncFeedback(long executionId, String message, boolean error) {
+        ServerTaskQueue.submit(() -> {
+            PendingExecution pending = pendingExecutions.get(executionId);
+            if (pending == null) return;
+            CommandSourceStack source = pending.source();
+            if (error) {
+                source.sendFailure(Component.literal(message));
+            } else {
+                source.sendSuccess(() -> Component.literal(message), false);
             }
-            default -> null;
-        };
+        });
+    }
+
+    /**
+     * Fail async executions Dart hasn't completed within the timeout, so a
+     * handler whose future never completes doesn't keep its source forever.
+     * Called at the start of every server tick.
+     */
+    public static void expirePendingExecutions(int tick) {
+        if (pendingExecutions.isEmpty()) return;
+        var it = pendingExecutions.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            PendingExecution pending = entry.getValue();
+            if (tick < pending.expiresAtTick()) continue;
+
+            it.remove();
+            LOGGER.warn("Async command execution {} timed out", entry.getKey());
+            pending.source().sendFailure(Component.literal("Command timed out"));
+            pending.source().callback().onFailure();
+        }
+    }
+
+    /**
+     * Forget async executions that will never complete (on server stop).
+     */
+    public static void clearPendingExecutions() {
+        pendingExecutions.clear();
+    }
+
+    /**
+     * Number of async command executions waiting for Dart to complete.
+     */
+    public static int getPendingExecutionCount() {
+        return pendingExecutions.size();
     }
 
     /**
@@ -18,6 +18,8 @@ import net.minecraft.world.level.Level;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
  * An Animal proxy that delegates lifecycle, combat, and breeding events to Dart.
  *
@@ -48,14 +50,14 @@ public class DartAnimalProxy extends Animal {
             handlerId = this.dartHandlerId;
         }
 
-        // Get goal configs from registry
-        String goalsJson = EntityProxyRegistry.getGoalConfig(handlerId);
-        String targetGoalsJson = EntityProxyRegistry.getTargetGoalConfig(handlerId);
+        // Get compiled goal templates from registry
+        List<GoalFactory.GoalTemplate> goals = EntityProxyRegistry.getGoalTemplates(handlerId);
+        List<GoalFactory.GoalTemplate> targetGoals = EntityProxyRegistry.getTargetGoalTemplates(handlerId);
 
         // If custom goals are configured, use them instead of defaults
-        if (goalsJson != null || targetGoalsJson != null) {
-            GoalFactory.registerGoals(this, goalsJson);
-            GoalFactory.registerTargetGoals(this, targetGoalsJson);
+        if (goals != null || targetGoals != null) {
+            GoalFactory.addGoals(this.goalSelector, this, goals);
+            GoalFactory.addGoals(this.targetSelector, this, targetGoals);
         } else {
             // Use default animal behaviors (keep existing hardcoded goals)
             this.goalSelector.addGoal(0, new FloatGoal(this));
@@ -74,13 +76,10 @@ public class DartAnimalProxy extends Animal {
     @Override
     public void tick() {
         super.tick();
-        // NOTE: Tick callbacks disabled for performance.
-        // Each tick callback requires JNI -> Native -> Dart isolate entry/exit.
-        // Enable only if needsTickCallback is set on the entity.
-        // TODO: Add needsTickCallback flag to EntityProxyRegistry
-        // if (!level().isClientSide() && DartBridge.isInitialized()) {
-        //     DartBridge.onProxyEntityTick(dartHandlerId, getId());
-        // }
+        // Ticks are queued per the type's tick policy and sent to Dart in one batch
+        if (!level().isClientSide()) {
+            EntityTickScheduler.onEntityTick(this, dartHandlerId);
+        }
     }
 
     /**
@@ -27,10 +27,12 @@ public class DartBlockProxy extends Block {
     private static final Logger LOGGER = LoggerFactory.getLogger("DartBlockProxy");
     private final long dartHandlerId;
     private final boolean ticksRandomly;
+    private final int hooks;
 
-    public DartBlockProxy(Properties settings, long dartHandlerId, Object blockSettings) {
+    public DartBlockProxy(Properties settings, long dartHandlerId, Object blockSettings, int hooks) {
         super(settings);
         this.dartHandlerId = dartHandlerId;
+        this.hooks = hooks;
         // Extract ticksRandomly from the record if available
         boolean ticksRandomlyValue = false;
         if (blockSettings != null) {
@@ -48,6 +50,13 @@ public class DartBlockProxy extends Block {
         return dartHandlerId;
     }
 
+    /**
+     * Whether the Dart block implements the given ProxyRegistry.HOOK_* callback.
+     */
+    private boolean hasHook(int hook) {
+        return (hooks & hook) != 0;
+    }
+
     @Override
     public BlockState playerWillDestroy(Level level, BlockPos pos, BlockState state, Player player) {
         // Delegate to Dart
@@ -106,7 +115,7 @@ public class DartBlockProxy extends Block {
     @Override
     public void stepOn(Level level, BlockPos pos, BlockState state, Entity entity) {
         // Only run on server side
-        if (!level.isClientSide() && DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_STEPPED_ON) && !level.isClientSide() && DartBridge.isInitialized()) {
             DartBridge.onProxyBlockSteppedOn(
                 dartHandlerId,
                 level.hashCode(),
@@ -122,7 +131,7 @@ public class DartBlockProxy extends Block {
     @Override
     public void fallOn(Level level, BlockState state, BlockPos pos, Entity entity, double fallDistance) {
         // Only run on server side
-        if (!level.isClientSide() && DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_FALLEN_UPON) && !level.isClientSide() && DartBridge.isInitialized()) {
             DartBridge.onProxyBlockFallenUpon(
                 dartHandlerId,
                 level.hashCode(),
@@ -138,7 +147,7 @@ public class DartBlockProxy extends Block {
 
     @Override
     protected void randomTick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
-        if (DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_RANDOM_TICK) && DartBridge.isInitialized()) {
             DartBridge.onProxyBlockRandomTick(
                 dartHandlerId,
                 level.hashCode(),
@@ -153,7 +162,8 @@ public class DartBlockProxy extends Block {
     @Override
     protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
         // Only run on server side and only if block type changed
-        if (!level.isClientSide() && !state.is(oldState.getBlock()) && DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_PLACED) && !level.isClientSide()
+                && !state.is(oldState.getBlock()) && DartBridge.isInitialized()) {
             // Get the player who placed it (may be null if placed by automation)
             // For now, we pass 0 as playerId when unknown
             DartBridge.onProxyBlockPlaced(
@@ -171,7 +181,7 @@ public class DartBlockProxy extends Block {
     @Override
     protected void affectNeighborsAfterRemoval(BlockState state, ServerLevel level, BlockPos pos, boolean movedByPiston) {
         // Notify Dart that this block was removed
-        if (DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_REMOVED) && DartBridge.isInitialized()) {
             DartBridge.onProxyBlockRemoved(
                 dartHandlerId,
                 level.hashCode(),
@@ -186,7 +196,7 @@ public class DartBlockProxy extends Block {
     @Override
     protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, @Nullable Orientation orientation, boolean movedByPiston) {
         // Only run on server side
-        if (!level.isClientSide() && DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_NEIGHBOR_CHANGED) && !level.isClientSide() && DartBridge.isInitialized()) {
             // Since we no longer have neighborPos, pass the block's own position
             // The orientation can be used to determine the direction of the change
             DartBridge.onProxyBlockNeighborChanged(
@@ -206,7 +216,7 @@ public class DartBlockProxy extends Block {
     @Override
     protected void entityInside(BlockState state, Level level, BlockPos pos, Entity entity, InsideBlockEffectApplier applier, boolean intersects) {
         // Only run on server side
-        if (!level.isClientSide() && DartBridge.isInitialized()) {
+        if (hasHook(ProxyRegistry.HOOK_ENTITY_INSIDE) && !level.isClientSide() && DartBridge.isInitialized()) {
             DartBridge.onProxyBlockEntityInside(
                 dartHandlerId,
                 level.hashCode(),
@@ -34,12 +34,10 @@ public class DartEntityProxy extends PathfinderMob {
     @Override
     public void tick() {
         super.tick();
-        // NOTE: Tick callbacks disabled for performance.
-        // Each tick callback requires JNI -> Native -> Dart isolate entry/exit.
-        // TODO: Add needsTickCallback flag to EntityProxyRegistry
-        // if (!level().isClientSide() && DartBridge.isInitialized()) {
-        //     DartBridge.onProxyEntityTick(dartHandlerId, getId());
-        // }
+        // Ticks are queued per the type's tick policy and sent to Dart in one batch
+        if (!level().isClientSide()) {
+            EntityTickScheduler.onEntityTick(this, dartHandlerId);
+        }
     }
 
     /**
@@ -9,11 +9,25 @@ import java.util.Set;
 /**
  * A Goal implementation that delegates all lifecycle methods to Dart callbacks.
  * This allows custom AI goals to be defined entirely in Dart code.
+ *
+ * By default every callback calls Dart when the goal selector asks. A batched
+ * goal (opted into per goal in Dart) has canUse, canContinueToUse and tick
+ * coalesced across all mobs by {@link GoalScheduler} and evaluated in one Dart
+ * call per server tick, so its answers are the ones Dart gave at the end of
+ * the previous tick. start and stop are rare and always synchronous.
  */
 public class DartGoal extends Goal {
     private final Mob mob;
     private final String goalId;
+    private final int goalIndex;
     private final boolean requiresUpdateEveryTick;
+    private final boolean batched;
+
+    private boolean running = false;
+    private boolean canUseResult = false;
+    private boolean canContinueResult = true;
+    private boolean canUseQueued = false;
+    private boolean canContinueQueued = false;
 
     /**
      * Create a new DartGoal.
@@ -24,9 +38,25 @@ public class DartGoal extends Goal {
      * @param requiresUpdateEveryTick Whether tick() should be called every tick
      */
     public DartGoal(Mob mob, String goalId, EnumSet<Goal.Flag> flags, boolean requiresUpdateEveryTick) {
+        this(mob, goalId, flags, requiresUpdateEveryTick, false);
+    }
+
+    /**
+     * Create a new DartGoal.
+     *
+     * @param mob The mob this goal belongs to
+     * @param goalId The unique ID of the custom goal in Dart
+     * @param flags Goal flags for mutual exclusion
+     * @param requiresUpdateEveryTick Whether tick() should be called every tick
+     * @param batched Whether to evaluate through {@link GoalScheduler}, one tick late
+     */
+    public DartGoal(Mob mob, String goalId, EnumSet<Goal.Flag> flags, boolean requiresUpdateEveryTick,
+                    boolean batched) {
         this.mob = mob;
         this.goalId = goalId;
+        this.goalIndex = GoalScheduler.intern(goalId);
         this.requiresUpdateEveryTick = requiresUpdateEveryTick;
+        this.batched = batched;
 
         if (flags != null && !flags.isEmpty()) {
             this.setFlags(flags);
@@ -35,29 +65,78 @@ public class DartGoal extends Goal {
 
     @Override
     public boolean canUse() {
-        return DartBridge.onCustomGoalCanUse(goalId, mob.getId());
+        if (!batched) {
+            return DartBridge.onCustomGoalCanUse(goalId, mob.getId());
+        }
+        if (!canUseQueued) {
+            canUseQueued = true;
+            GoalScheduler.enqueue(this, GoalScheduler.KIND_CAN_USE);
+        }
+        return canUseResult;
     }
 
     @Override
     public boolean canContinueToUse() {
-        return DartBridge.onCustomGoalCanContinueToUse(goalId, mob.getId());
+        if (!batched) {
+            return DartBridge.onCustomGoalCanContinueToUse(goalId, mob.getId());
+        }
+        if (!canContinueQueued) {
+            canContinueQueued = true;
+            GoalScheduler.enqueue(this, GoalScheduler.KIND_CAN_CONTINUE);
+        }
+        return canContinueResult;
     }
 
     @Override
     public void start() {
+        running = true;
+        // The cached canUse answer has been consumed; continue until Dart says otherwise
+        canUseResult = false;
+        canContinueResult = true;
         DartBridge.onCustomGoalStart(goalId, mob.getId());
     }
 
     @Override
     public void tick() {
-        DartBridge.onCustomGoalTick(goalId, mob.getId());
+        if (!batched) {
+            DartBridge.onCustomGoalTick(goalId, mob.getId());
+        } else if (DartBridge.isInitialized()) {
+            GoalScheduler.enqueue(this, GoalScheduler.KIND_TICK);
+        }
     }
 
     @Override
     public void stop() {
+        running = false;
         DartBridge.onCustomGoalStop(goalId, mob.getId());
     }
 
+    int getGoalIndex() {
+        return goalIndex;
+    }
+
+    int getMobId() {
+        return mob.getId();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Receive a canUse / canContinueToUse answer from the batched Dart call.
+     */
+    void acceptResult(int kind, boolean result) {
+        if (kind == GoalScheduler.KIND_CAN_USE) {
+            canUseQueued = false;
+            canUseResult = result;
+        } else {
+            canContinueQueued = false;
+            // Ignore a stale answer that arrives after the goal has stopped
+            if (running) canContinueResult = result;
+        }
+    }
+
     @Override
     public boolean requiresUpdateEveryTick() {
         return requiresUpdateEveryTick;
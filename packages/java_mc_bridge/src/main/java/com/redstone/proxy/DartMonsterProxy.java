@@ -12,6 +12,8 @@ import net.minecraft.world.level.Level;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
  * A Monster proxy that delegates lifecycle and combat events to Dart.
  *
@@ -49,14 +51,14 @@ public class DartMonsterProxy extends Monster {
             handlerId = this.dartHandlerId;
         }
 
-        // Get goal configs from registry
-        String goalsJson = EntityProxyRegistry.getGoalConfig(handlerId);
-        String targetGoalsJson = EntityProxyRegistry.getTargetGoalConfig(handlerId);
+        // Get compiled goal templates from registry
+        List<GoalFactory.GoalTemplate> goals = EntityProxyRegistry.getGoalTemplates(handlerId);
+        List<GoalFactory.GoalTemplate> targetGoals = EntityProxyRegistry.getTargetGoalTemplates(handlerId);
 
         // If custom goals are configured, use them
-        if (goalsJson != null || targetGoalsJson != null) {
-            GoalFactory.registerGoals(this, goalsJson);
-            GoalFactory.registerTargetGoals(this, targetGoalsJson);
+        if (goals != null || targetGoals != null) {
+            GoalFactory.addGoals(this.goalSelector, this, goals);
+            GoalFactory.addGoals(this.targetSelector, this, targetGoals);
         }
         // If no goals configured, monster has no AI (intentional - user must configure)
     }
@@ -69,12 +71,8 @@ public class DartMonsterProxy extends Monster {
             if (burnsInDaylight) {
                 handleBurnsInDaylight();
             }
-            // NOTE: Tick callbacks disabled for performance.
-            // Each tick callback requires JNI -> Native -> Dart isolate entry/exit.
-            // TODO: Add needsTickCallback flag to EntityProxyRegistry
-            // if (DartBridge.isInitialized()) {
-            //     DartBridge.onProxyEntityTick(dartHandlerId, getId());
-            // }
+            // Ticks are queued per the type's tick policy and sent to Dart in one batch
+            EntityTickScheduler.onEntityTick(this, dartHandlerId);
         }
     }
 
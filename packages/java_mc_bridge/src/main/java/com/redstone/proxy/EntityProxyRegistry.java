@@ -1,5 +1,6 @@
 package com.redstone.proxy;
 
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
 import net.fabricmc.fabric.api.object.builder.v1.entity.FabricDefaultAttributeRegistry;
 import net.fabricmc.fabric.api.object.builder.v1.entity.FabricEntityTypeBuilder;
 import net.minecraft.core.Registry;
@@ -17,8 +18,7 @@ import net.minecraft.world.item.Item;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 /**
  * Registry for Dart-defined proxy entities.
@@ -35,15 +35,23 @@ import java.util.Map;
  */
 public class EntityProxyRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger("EntityProxyRegistry");
-    private static final Map<Long, EntityType<?>> entityTypes = new HashMap<>();
-    private static final Map<Long, EntitySettings> pendingSettings = new HashMap<>();
-    private static final Map<Long, Item> animalBreedingItems = new HashMap<>();
-    private static final Map<Long, Integer> entityBaseTypes = new HashMap<>();
-    private static final Map<Long, EntityModelConfig> entityModelConfigs = new HashMap<>();
-    private static final Map<Long, String> goalConfigs = new HashMap<>();
-    private static final Map<Long, String> targetGoalConfigs = new HashMap<>();
+    private static final HandlerTable<EntityType<?>> entityTypes = new HandlerTable<>();
+    private static final HandlerTable<EntitySettings> pendingSettings = new HandlerTable<>();
+    private static final HandlerTable<Item> animalBreedingItems = new HandlerTable<>();
+    private static final HandlerTable<Integer> entityBaseTypes = new HandlerTable<>();
+    private static final HandlerTable<EntityModelConfig> entityModelConfigs = new HandlerTable<>();
+    private static final HandlerTable<String> goalConfigs = new HandlerTable<>();
+    private static final HandlerTable<String> targetGoalConfigs = new HandlerTable<>();
+    private static final HandlerTable<List<GoalFactory.GoalTemplate>> goalTemplates = new HandlerTable<>();
+    private static final HandlerTable<List<GoalFactory.GoalTemplate>> targetGoalTemplates = new HandlerTable<>();
+    private static final HandlerTable<TickPolicy> tickPolicies = new HandlerTable<>();
+    private static final Reference2LongOpenHashMap<EntityType<?>> handlerIdsByType = new Reference2LongOpenHashMap<>();
     private static long nextHandlerId = 1;
 
+    static {
+        handlerIdsByType.defaultReturnValue(-1);
+    }
+
     /**
      * ThreadLocal for passing handlerId to entity constructors.
      *
@@ -103,8 +111,8 @@ public class EntityProxyRegistry {
         LOGGER.info("Entity registration callback set");
 
         // Call callback for any already-registered entities
-        for (var entry : entityTypes.entrySet()) {
-            callback.onEntityRegistered(entry.getValue(), entry.getKey());
+        for (long handlerId : entityTypes.ids()) {
+            callback.onEntityRegistered(entityTypes.get(handlerId), handlerId);
         }
     }
 
@@ -114,6 +122,22 @@ public class EntityProxyRegistry {
     public static final int BASE_TYPE_ANIMAL = 2;
     public static final int BASE_TYPE_PROJECTILE = 3;
 
+    // Tick policy modes matching Dart side
+    public static final int TICK_NEVER = 0;
+    public static final int TICK_INTERVAL = 1;
+    public static final int TICK_NEAR_PLAYER = 2;
+
+    /**
+     * Controls how often a Dart entity's onTick callback runs.
+     *
+     * @param mode TICK_NEVER, TICK_INTERVAL, or TICK_NEAR_PLAYER.
+     * @param interval Run every N ticks (1 = every tick).
+     * @param radius For TICK_NEAR_PLAYER, only tick when a player is within this many blocks.
+     */
+    public record TickPolicy(int mode, int interval, double radius) {
+        public static final TickPolicy NEVER = new TickPolicy(TICK_NEVER, 1, 0.0);
+    }
+
     /**
      * Holds entity settings between createEntity() and registerEntity() calls.
      */
@@ -324,6 +348,7 @@ public class EntityProxyRegistry {
             }
 
             entityTypes.put(handlerId, entityType);
+            handlerIdsByType.put(entityType, handlerId);
             entityBaseTypes.put(handlerId, settings.baseType());
             pendingSettings.remove(handlerId);
 
@@ -401,12 +426,13 @@ public class EntityProxyRegistry {
      * @return true if a model configuration exists, false otherwise.
      */
     public static boolean hasModelConfig(long handlerId) {
-        return entityModelConfigs.containsKey(handlerId);
+        return entityModelConfigs.contains(handlerId);
     }
 
     /**
      * Register goal configurations for entity AI.
-     * Called from Dart via JNI to configure entity goals.
+     * Called from Dart via JNI to configure entity goals. The JSON is compiled
+     * into goal templates here, so spawning an entity does not re-parse it.
      *
      * @param handlerId The handler ID of the entity.
      * @param goalsJson JSON array of goal configurations, or null/empty if none.
@@ -415,9 +441,11 @@ public class EntityProxyRegistry {
     public static void registerGoalConfig(long handlerId, String goalsJson, String targetGoalsJson) {
         if (goalsJson != null && !goalsJson.isEmpty()) {
             goalConfigs.put(handlerId, goalsJson);
+            goalTemplates.put(handlerId, GoalFactory.compileGoals(goalsJson));
         }
         if (targetGoalsJson != null && !targetGoalsJson.isEmpty()) {
             targetGoalConfigs.put(handlerId, targetGoalsJson);
+            targetGoalTemplates.put(handlerId, GoalFactory.compileTargetGoals(targetGoalsJson));
         }
         LOGGER.info("Registered goal config for handler {}", handlerId);
     }
@@ -442,6 +470,52 @@ public class EntityProxyRegistry {
         return targetGoalConfigs.get(handlerId);
     }
 
+    /**
+     * Get the compiled goal templates for an entity.
+     *
+     * @param handlerId The handler ID of the entity.
+     * @return The goal templates, or null if no goals are registered.
+     */
+    public static List<GoalFactory.GoalTemplate> getGoalTemplates(long handlerId) {
+        return goalTemplates.get(handlerId);
+    }
+
+    /**
+     * Get the compiled target goal templates for an entity.
+     *
+     * @param handlerId The handler ID of the entity.
+     * @return The target goal templates, or null if no target goals are registered.
+     */
+    public static List<GoalFactory.GoalTemplate> getTargetGoalTemplates(long handlerId) {
+        return targetGoalTemplates.get(handlerId);
+    }
+
+    /**
+     * Register the tick policy for an entity type.
+     * Called from Dart via JNI during entity registration.
+     *
+     * @param handlerId The handler ID of the entity.
+     * @param mode Tick mode (0=never, 1=every N ticks, 2=every N ticks when a player is near).
+     * @param interval Tick interval in server ticks (values below 1 are treated as 1).
+     * @param radius Player proximity radius in blocks (only used by mode 2).
+     */
+    public static void setTickPolicy(long handlerId, int mode, int interval, double radius) {
+        tickPolicies.put(handlerId, new TickPolicy(mode, Math.max(1, interval), radius));
+        LOGGER.info("Registered tick policy for handler {}: mode={}, interval={}, radius={}",
+            handlerId, mode, interval, radius);
+    }
+
+    /**
+     * Get the tick policy for an entity type.
+     *
+     * @param handlerId The handler ID of the entity.
+     * @return The tick policy, or {@link TickPolicy#NEVER} if none was registered.
+     */
+    public static TickPolicy getTickPolicy(long handlerId) {
+        TickPolicy policy = tickPolicies.get(handlerId);
+        return policy != null ? policy : TickPolicy.NEVER;
+    }
+
     /**
      * Get the handler ID for an EntityType (reverse lookup).
      *
@@ -449,19 +523,14 @@ public class EntityProxyRegistry {
      * @return The handler ID, or -1 if not found.
      */
     public static long getHandlerIdByType(EntityType<?> type) {
-        for (var entry : entityTypes.entrySet()) {
-            if (entry.getValue() == type) {
-                return entry.getKey();
-            }
-        }
-        return -1;
+        return handlerIdsByType.getLong(type);
     }
 
     /**
      * Get all registered handler IDs.
      */
     public static long[] getAllHandlerIds() {
-        return entityTypes.keySet().stream().mapToLong(Long::longValue).toArray();
+        return entityTypes.ids();
     }
 
     /**
@@ -0,0 +1,79 @@
+package com.redstone.proxy;
+
+import com.redstone.DartBridge;
+import net.minecraft.world.entity.Entity;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Collects Dart entity tick callbacks during a server tick and delivers them
+ * to Dart in a single call.
+ *
+ * Proxy entities call {@link #onEntityTick} from their tick() method. Whether an
+ * entity is due is decided by its type's {@link EntityProxyRegistry.TickPolicy}.
+ * Due entities are appended to a direct buffer of (handlerId, entityId) pairs,
+ * and {@link #flush} hands the whole buffer to Dart once at the end of the tick,
+ * so the isolate is entered once per tick instead of once per entity.
+ */
+public class EntityTickScheduler {
+    private static final int RECORD_BYTES = 16;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static ByteBuffer records = allocate(INITIAL_CAPACITY);
+    private static int count = 0;
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * RECORD_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Called from a proxy entity's tick() on the server side.
+     * Queues the entity for the batched Dart tick if its policy says it is due.
+     */
+    public static void onEntityTick(Entity entity, long handlerId) {
+        if (!DartBridge.isInitialized()) return;
+
+        EntityProxyRegistry.TickPolicy policy = EntityProxyRegistry.getTickPolicy(handlerId);
+        if (policy.mode() == EntityProxyRegistry.TICK_NEVER) return;
+
+        // Offset by entity ID so entities of the same type spread across ticks
+        if (policy.interval() > 1 && (entity.tickCount + entity.getId()) % policy.interval() != 0) return;
+
+        if (policy.mode() == EntityProxyRegistry.TICK_NEAR_PLAYER
+                && !entity.level().hasNearbyAlivePlayer(entity.getX(), entity.getY(), entity.getZ(), policy.radius())) {
+            return;
+        }
+
+        enqueue(handlerId, entity.getId());
+    }
+
+    private static void enqueue(long handlerId, int entityId) {
+        int offset = count * RECORD_BYTES;
+        if (offset + RECORD_BYTES > records.capacity()) {
+            ByteBuffer grown = allocate(records.capacity() / RECORD_BYTES * 2);
+            records.limit(offset).position(0);
+            grown.put(records);
+            records = grown;
+        }
+        records.putLong(offset, handlerId);
+        records.putLong(offset + 8, entityId);
+        count++;
+    }
+
+    /**
+     * Deliver all queued entity ticks to Dart. Called once per server tick.
+     */
+    public static void flush() {
+        if (count == 0) return;
+        DartBridge.dispatchProxyEntityTickBatch(records, count);
+        count = 0;
+    }
+
+    /**
+     * Number of entity ticks queued for the current server tick.
+     */
+    public static int getPendingCount() {
+        return count;
+    }
+}
@@ -17,178 +17,204 @@ import net.minecraft.world.item.crafting.Ingredient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Factory for creating vanilla Minecraft Goal objects from JSON configuration.
  *
- * This class is used by proxy entities to register AI goals based on
- * configurations provided from Dart code.
+ * Goal configs arrive from Dart as JSON once per entity type. They are compiled
+ * here into immutable lists of {@link GoalTemplate}s when the config is
+ * registered, so constructing a mob only runs the template factories - no
+ * JSON parsing or type-string dispatch per spawn.
  */
 public class GoalFactory {
     private static final Logger LOGGER = LoggerFactory.getLogger("GoalFactory");
 
     /**
-     * Register goals from JSON config to the mob's goalSelector.
+     * A compiled goal: its selector priority plus a factory that builds the
+     * goal for a specific mob. The factory may return null if the mob is not
+     * of a type the goal supports.
+     */
+    public record GoalTemplate(int priority, String type, Function<Mob, Goal> factory) {}
+
+    /**
+     * Compile a JSON array of goal configurations.
      *
-     * @param mob The mob to register goals for.
      * @param goalsJson JSON array of goal configurations.
+     * @return Immutable list of templates (empty if the JSON is null, empty or invalid).
      */
-    public static void registerGoals(Mob mob, String goalsJson) {
-        if (goalsJson == null || goalsJson.isEmpty()) return;
+    public static List<GoalTemplate> compileGoals(String goalsJson) {
+        return compile(goalsJson, false);
+    }
+
+    /**
+     * Compile a JSON array of target goal configurations.
+     *
+     * @param targetGoalsJson JSON array of target goal configurations.
+     * @return Immutable list of templates (empty if the JSON is null, empty or invalid).
+     */
+    public static List<GoalTemplate> compileTargetGoals(String targetGoalsJson) {
+        return compile(targetGoalsJson, true);
+    }
+
+    private static List<GoalTemplate> compile(String json, boolean target) {
+        if (json == null || json.isEmpty()) return List.of();
 
+        List<GoalTemplate> templates = new ArrayList<>();
         try {
-            JsonArray goals = JsonParser.parseString(goalsJson).getAsJsonArray();
+            JsonArray goals = JsonParser.parseString(json).getAsJsonArray();
             for (JsonElement element : goals) {
                 JsonObject goalConfig = element.getAsJsonObject();
-                Goal goal = createGoal(mob, goalConfig);
-                if (goal != null) {
-                    int priority = goalConfig.get("priority").getAsInt();
-                    mob.goalSelector.addGoal(priority, goal);
-                    LOGGER.debug("Registered goal type '{}' with priority {} for mob {}",
-                        goalConfig.get("type").getAsString(), priority, mob.getType().getDescriptionId());
+                String type = goalConfig.get("type").getAsString();
+                Function<Mob, Goal> factory = target ? compileTargetGoal(type, goalConfig) : compileGoal(type, goalConfig);
+                if (factory != null) {
+                    templates.add(new GoalTemplate(goalConfig.get("priority").getAsInt(), type, factory));
                 }
             }
         } catch (Exception e) {
-            LOGGER.error("Failed to parse goals JSON: {}", e.getMessage());
+            LOGGER.error("Failed to parse {} JSON: {}", target ? "target goals" : "goals", e.getMessage());
             e.printStackTrace();
         }
+        return List.copyOf(templates);
     }
 
     /**
-     * Register target goals from JSON config to the mob's targetSelector.
+     * Instantiate compiled goals for a mob and add them to a goal selector.
      *
-     * @param mob The mob to register target goals for.
-     * @param targetGoalsJson JSON array of target goal configurations.
+     * @param selector The mob's goalSelector or targetSelector.
+     * @param mob The mob to create goals for.
+     * @param templates Templates from {@link #compileGoals} or {@link #compileTargetGoals}; may be null.
      */
-    public static void registerTargetGoals(Mob mob, String targetGoalsJson) {
-        if (targetGoalsJson == null || targetGoalsJson.isEmpty()) return;
+    public static void addGoals(GoalSelector selector, Mob mob, List<GoalTemplate> templates) {
+        if (templates == null) return;
 
-        try {
-            JsonArray goals = JsonParser.parseString(targetGoalsJson).getAsJsonArray();
-            for (JsonElement element : goals) {
-                JsonObject goalConfig = element.getAsJsonObject();
-                Goal goal = createTargetGoal(mob, goalConfig);
+        for (GoalTemplate template : templates) {
+            try {
+                Goal goal = template.factory().apply(mob);
                 if (goal != null) {
-                    int priority = goalConfig.get("priority").getAsInt();
-                    mob.targetSelector.addGoal(priority, goal);
-                    LOGGER.debug("Registered target goal type '{}' with priority {} for mob {}",
-                        goalConfig.get("type").getAsString(), priority, mob.getType().getDescriptionId());
+                    selector.addGoal(template.priority(), goal);
                 }
+            } catch (Exception e) {
+                LOGGER.error("Failed to create goal '{}': {}", template.type(), e.getMessage());
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed to parse target goals JSON: {}", e.getMessage());
-            e.printStackTrace();
         }
     }
 
     /**
-     * Create a Goal from JSON configuration.
+     * Register goals from JSON config to the mob's goalSelector.
+     * Parses the JSON on every call; proxies use the templates cached by
+     * EntityProxyRegistry instead.
+     *
+     * @param mob The mob to register goals for.
+     * @param goalsJson JSON array of goal configurations.
+     */
+    public static void registerGoals(Mob mob, String goalsJson) {
+        addGoals(mob.goalSelector, mob, compileGoals(goalsJson));
+    }
+
+    /**
+     * Register target goals from JSON config to the mob's targetSelector.
+     * Parses the JSON on every call; proxies use the templates cached by
+     * EntityProxyRegistry instead.
+     *
+     * @param mob The mob to register target goals for.
+     * @param targetGoalsJson JSON array of target goal configurations.
      */
-    private static Goal createGoal(Mob mob, JsonObject config) {
-        String type = config.get("type").getAsString();
+    public static void registerTargetGoals(Mob mob, String targetGoalsJson) {
+        addGoals(mob.targetSelector, mob, compileTargetGoals(targetGoalsJson));
+    }
 
+    /**
+     * Compile a goal configuration into a factory. Config values are read
+     * here, once; the returned factory only checks the mob type and builds
+     * the goal.
+     */
+    private static Function<Mob, Goal> compileGoal(String type, JsonObject config) {
         try {
             return switch (type) {
-                case "float" -> new FloatGoal(mob);
+                case "float" -> FloatGoal::new;
 
                 case "melee_attack" -> {
-                    if (!(mob instanceof PathfinderMob pathfinderMob)) {
-                        LOGGER.warn("melee_attack goal requires PathfinderMob, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.0);
                     boolean follow = getBoolean(config, "followEvenIfNotSeen", true);
-                    yield new MeleeAttackGoal(pathfinderMob, speed, follow);
+                    yield mob -> mob instanceof PathfinderMob pathfinderMob
+                        ? new MeleeAttackGoal(pathfinderMob, speed, follow)
+                        : requires(type, "PathfinderMob", mob);
                 }
 
                 case "leap_at_target" -> {
                     float yd = (float) getDouble(config, "yd", 0.4);
-                    yield new LeapAtTargetGoal(mob, yd);
+                    yield mob -> new LeapAtTargetGoal(mob, yd);
                 }
 
                 case "random_stroll" -> {
-                    if (!(mob instanceof PathfinderMob pathfinderMob)) {
-                        LOGGER.warn("random_stroll goal requires PathfinderMob, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.0);
-                    yield new RandomStrollGoal(pathfinderMob, speed);
+                    yield mob -> mob instanceof PathfinderMob pathfinderMob
+                        ? new RandomStrollGoal(pathfinderMob, speed)
+                        : requires(type, "PathfinderMob", mob);
                 }
 
                 case "water_avoiding_random_stroll" -> {
-                    if (!(mob instanceof PathfinderMob pathfinderMob)) {
-                        LOGGER.warn("water_avoiding_random_stroll goal requires PathfinderMob, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.0);
-                    yield new WaterAvoidingRandomStrollGoal(pathfinderMob, speed);
+                    yield mob -> mob instanceof PathfinderMob pathfinderMob
+                        ? new WaterAvoidingRandomStrollGoal(pathfinderMob, speed)
+                        : requires(type, "PathfinderMob", mob);
                 }
 
                 case "look_at_player" -> {
                     float distance = (float) getDouble(config, "lookDistance", 8.0);
-                    yield new LookAtPlayerGoal(mob, Player.class, distance);
+                    yield mob -> new LookAtPlayerGoal(mob, Player.class, distance);
                 }
 
-                case "random_look_around" -> new RandomLookAroundGoal(mob);
+                case "random_look_around" -> RandomLookAroundGoal::new;
 
                 case "panic" -> {
-                    if (!(mob instanceof PathfinderMob pathfinderMob)) {
-                        LOGGER.warn("panic goal requires PathfinderMob, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.5);
-                    yield new PanicGoal(pathfinderMob, speed);
+                    yield mob -> mob instanceof PathfinderMob pathfinderMob
+                        ? new PanicGoal(pathfinderMob, speed)
+                        : requires(type, "PathfinderMob", mob);
                 }
 
                 case "breed" -> {
-                    if (!(mob instanceof Animal animal)) {
-                        LOGGER.warn("breed goal requires Animal, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.0);
-                    yield new BreedGoal(animal, speed);
+                    yield mob -> mob instanceof Animal animal
+                        ? new BreedGoal(animal, speed)
+                        : requires(type, "Animal", mob);
                 }
 
                 case "tempt" -> {
-                    if (!(mob instanceof PathfinderMob pathfinderMob)) {
-                        LOGGER.warn("tempt goal requires PathfinderMob, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.0);
                     String itemId = getString(config, "temptItem", "minecraft:wheat");
                     boolean canScare = getBoolean(config, "canScare", false);
-                    yield createTemptGoal(pathfinderMob, speed, itemId, canScare);
+                    // Resolved on first spawn, not at compile time: the config
+                    // may be registered before a Dart-defined tempt item.
+                    Ingredient[] ingredient = new Ingredient[1];
+                    yield mob -> {
+                        if (!(mob instanceof PathfinderMob pathfinderMob)) {
+                            return requires(type, "PathfinderMob", mob);
+                        }
+                        if (ingredient[0] == null) {
+                            ingredient[0] = resolveTemptIngredient(itemId);
+                            if (ingredient[0] == null) return null;
+                        }
+                        return new TemptGoal(pathfinderMob, speed, ingredient[0], canScare);
+                    };
                 }
 
                 case "follow_parent" -> {
-                    if (!(mob instanceof Animal animal)) {
-                        LOGGER.warn("follow_parent goal requires Animal, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     double speed = getDouble(config, "speedModifier", 1.1);
-                    yield new FollowParentGoal(animal, speed);
+                    yield mob -> mob instanceof Animal animal
+                        ? new FollowParentGoal(animal, speed)
+                        : requires(type, "Animal", mob);
                 }
 
-                case "custom" -> {
-                    String goalId = config.get("goalId").getAsString();
-                    boolean requiresUpdateEveryTick = getBoolean(config, "requiresUpdateEveryTick", true);
-
-                    // Parse flags
-                    EnumSet<Goal.Flag> flags = EnumSet.noneOf(Goal.Flag.class);
-                    if (config.has("flags") && !config.get("flags").isJsonNull()) {
-                        JsonArray flagsArray = config.getAsJsonArray("flags");
-                        Set<String> flagStrings = new HashSet<>();
-                        for (JsonElement flag : flagsArray) {
-                            flagStrings.add(flag.getAsString());
-                        }
-                        flags = DartGoal.parseFlags(flagStrings);
-                    }
-
-                    yield new DartGoal(mob, goalId, flags, requiresUpdateEveryTick);
-                }
+                case "custom" -> compileCustomGoal(config);
 
                 default -> {
                     LOGGER.warn("Unknown goal type: {}", type);
@@ -196,70 +222,88 @@ public class GoalFactory {
                 }
             };
         } catch (Exception e) {
-            LOGGER.error("Failed to create goal '{}': {}", type, e.getMessage());
+            LOGGER.error("Failed to compile goal '{}': {}", type, e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
     /**
-     * Create a target Goal from JSON configuration.
+     * Compile a target goal configuration into a factory.
      */
-    private static Goal createTargetGoal(Mob mob, JsonObject config) {
-        String type = config.get("type").getAsString();
-
+    private static Function<Mob, Goal> compileTargetGoal(String type, JsonObject config) {
         try {
             return switch (type) {
                 case "nearest_attackable_target" -> {
                     String targetType = getString(config, "targetType", "player");
                     boolean mustSee = getBoolean(config, "mustSee", true);
                     Class<?> targetClass = resolveTargetClass(targetType);
-                    yield new NearestAttackableTargetGoal(mob, targetClass, mustSee);
+                    yield mob -> new NearestAttackableTargetGoal(mob, targetClass, mustSee);
                 }
 
                 case "hurt_by_target" -> {
-                    if (!(mob instanceof PathfinderMob pathfinderMob)) {
-                        LOGGER.warn("hurt_by_target goal requires PathfinderMob, got {}", mob.getClass().getSimpleName());
-                        yield null;
-                    }
                     boolean alertOthers = getBoolean(config, "alertOthers", true);
-                    HurtByTargetGoal goal = new HurtByTargetGoal(pathfinderMob);
-                    if (alertOthers) {
-                        goal.setAlertOthers();
-                    }
-                    yield goal;
-                }
-
-                case "custom" -> {
-                    String goalId = config.get("goalId").getAsString();
-                    boolean requiresUpdateEveryTick = getBoolean(config, "requiresUpdateEveryTick", true);
-
-                    // Parse flags
-                    EnumSet<Goal.Flag> flags = EnumSet.noneOf(Goal.Flag.class);
-                    if (config.has("flags") && !config.get("flags").isJsonNull()) {
-                        JsonArray flagsArray = config.getAsJsonArray("flags");
-                        Set<String> flagStrings = new HashSet<>();
-                        for (JsonElement flag : flagsArray) {
-                            flagStrings.add(flag.getAsString());
+                    yield mob -> {
+                        if (!(mob instanceof PathfinderMob pathfinderMob)) {
+                            return requires(type, "PathfinderMob", mob);
                         }
-                        flags = DartGoal.parseFlags(flagStrings);
-                    }
-
-                    yield new DartGoal(mob, goalId, flags, requiresUpdateEveryTick);
+                        HurtByTargetGoal goal = new HurtByTargetGoal(pathfinderMob);
+                        if (alertOthers) {
+                            goal.setAlertOthers();
+                        }
+                        return goal;
+                    };
                 }
 
+                case "custom" -> compileCustomGoal(config);
+
                 default -> {
                     LOGGER.warn("Unknown target goal type: {}", type);
                     yield null;
                 }
             };
         } catch (Exception e) {
-            LOGGER.error("Failed to create target goal '{}': {}", type, e.getMessage());
+            LOGGER.error("Failed to compile target goal '{}': {}", type, e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Compile a Dart-defined custom goal. Shared by goals and target goals.
+     */
+    private static Function<Mob, Goal> compileCustomGoal(JsonObject config) {
+        String goalId = config.get("goalId").getAsString();
+        boolean requiresUpdateEveryTick = getBoolean(config, "requiresUpdateEveryTick", true);
+        boolean batched = getBoolean(config, "batched", false);
+
+        // Parse flags
+        EnumSet<Goal.Flag> flags = EnumSet.noneOf(Goal.Flag.class);
+        if (config.has("flags") && !config.get("flags").isJsonNull()) {
+            JsonArray flagsArray = config.getAsJsonArray("flags");
+            Set<String> flagStrings = new HashSet<>();
+            for (JsonElement flag : flagsArray) {
+                flagStrings.add(flag.getAsString());
+            }
+            flags = DartGoal.parseFlags(flagStrings);
+        }
+
+        // Intern now so the first spawn does not pay for it
+        GoalScheduler.intern(goalId);
+
+        EnumSet<Goal.Flag> goalFlags = flags;
+        return mob -> new DartGoal(mob, goalId, EnumSet.copyOf(goalFlags), requiresUpdateEveryTick, batched);
+    }
+
+    /**
+     * Log that a goal does not support the mob's type. Returns null so it can
+     * stand in for the goal.
+     */
+    private static Goal requires(String type, String required, Mob mob) {
+        LOGGER.warn("{} goal requires {}, got {}", type, required, mob.getClass().getSimpleName());
+        return null;
+    }
+
     /**
      * Resolve entity class from target type string.
      */
@@ -275,9 +319,9 @@ public class GoalFactory {
     }
 
     /**
-     * Create a TemptGoal with the specified item.
+     * Resolve the ingredient for a TemptGoal, or null if the item is unknown.
      */
-    private static Goal createTemptGoal(PathfinderMob mob, double speed, String itemId, boolean canScare) {
+    private static Ingredient resolveTemptIngredient(String itemId) {
         try {
             var identifier = Identifier.tryParse(itemId);
             if (identifier == null) {
@@ -289,8 +333,7 @@ public class GoalFactory {
                 LOGGER.error("Item not found in registry: {}", itemId);
                 return null;
             }
-            var ingredient = Ingredient.of(itemOpt.get());
-            return new TemptGoal(mob, speed, ingredient, canScare);
+            return Ingredient.of(itemOpt.get());
         } catch (Exception e) {
             LOGGER.error("Failed to create TemptGoal with item '{}': {}", itemId, e.getMessage());
             return null;
@@ -0,0 +1,120 @@
+package com.redstone.proxy;
+
+import com.redstone.DartBridge;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coalesces DartGoal queries from every mob into one Dart call per server tick.
+ *
+ * Goal IDs are interned to ints once, so no strings cross JNI per query.
+ * During the goal selector phase each batched DartGoal queues its canUse /
+ * canContinueToUse checks and its tick here instead of calling Dart directly.
+ * {@link #flush} sends the whole buffer to Dart at the end of the tick; Dart
+ * writes each query's result back into its record and the results are handed
+ * to the goals, which use them on the next selector pass.
+ *
+ * Record layout (16 bytes, native-order ints):
+ *   kind, goalIndex, entityId, result
+ */
+public class GoalScheduler {
+    // Record kinds - must match CustomGoalRegistry on the Dart side
+    public static final int KIND_SKIP = -1;
+    public static final int KIND_CAN_USE = 0;
+    public static final int KIND_CAN_CONTINUE = 1;
+    public static final int KIND_TICK = 2;
+
+    private static final int RECORD_BYTES = 16;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final Object2IntOpenHashMap<String> goalIndices = new Object2IntOpenHashMap<>();
+    private static final List<String> goalIds = new ArrayList<>();
+
+    private static ByteBuffer records = allocate(INITIAL_CAPACITY);
+    private static DartGoal[] goals = new DartGoal[INITIAL_CAPACITY];
+    private static int count = 0;
+
+    static {
+        goalIndices.defaultReturnValue(-1);
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * RECORD_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Get the int index for a goal ID, assigning one on first use.
+     * Called from Dart when a custom goal is registered, and by DartGoal.
+     */
+    public static synchronized int intern(String goalId) {
+        int index = goalIndices.getInt(goalId);
+        if (index < 0) {
+            index = goalIds.size();
+            goalIds.add(goalId);
+            goalIndices.put(goalId, index);
+        }
+        return index;
+    }
+
+    /**
+     * Get the goal ID for an interned index, or null if unknown.
+     */
+    public static synchronized String getGoalId(int index) {
+        return index >= 0 && index < goalIds.size() ? goalIds.get(index) : null;
+    }
+
+    static void enqueue(DartGoal goal, int kind) {
+        if (count == goals.length) {
+            ByteBuffer grown = allocate(goals.length * 2);
+            records.limit(count * RECORD_BYTES).position(0);
+            grown.put(records);
+            records = grown;
+            goals = Arrays.copyOf(goals, goals.length * 2);
+        }
+        int offset = count * RECORD_BYTES;
+        records.putInt(offset, kind);
+        records.putInt(offset + 4, goal.getGoalIndex());
+        records.putInt(offset + 8, goal.getMobId());
+        records.putInt(offset + 12, 0);
+        goals[count++] = goal;
+    }
+
+    /**
+     * Evaluate all queued goal queries and ticks in Dart. Called once per server tick.
+     */
+    public static void flush() {
+        if (count == 0) return;
+
+        // A goal can stop after queueing its tick (e.g. its mob died)
+        for (int i = 0; i < count; i++) {
+            int offset = i * RECORD_BYTES;
+            if (records.getInt(offset) == KIND_TICK && !goals[i].isRunning()) {
+                records.putInt(offset, KIND_SKIP);
+            }
+        }
+
+        DartBridge.dispatchCustomGoalBatch(records, count);
+
+        for (int i = 0; i < count; i++) {
+            int offset = i * RECORD_BYTES;
+            int kind = records.getInt(offset);
+            if (kind == KIND_CAN_USE || kind == KIND_CAN_CONTINUE) {
+                goals[i].acceptResult(kind, records.getInt(offset + 12) != 0);
+            }
+            goals[i] = null;
+        }
+        count = 0;
+    }
+
+    /**
+     * Number of goal records queued for the current server tick.
+     */
+    public static int getPendingCount() {
+        return count;
+    }
+}
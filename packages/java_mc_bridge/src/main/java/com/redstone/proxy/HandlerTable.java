@@ -0,0 +1,68 @@
+package com.redstone.proxy;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of per-handler values indexed directly by handler ID.
+ *
+ * Handler IDs are allocated sequentially from 1 by the proxy registries, so an
+ * array indexed by ID is dense and a lookup is a bounds check plus an array
+ * read - no Long boxing and no hashing on the proxy callback path.
+ *
+ * Writes happen during registration; reads may come from any thread.
+ */
+final class HandlerTable<T> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private volatile Object[] values = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    T get(long handlerId) {
+        Object[] v = values;
+        if (handlerId < 0 || handlerId >= v.length) return null;
+        return (T) v[(int) handlerId];
+    }
+
+    boolean contains(long handlerId) {
+        return get(handlerId) != null;
+    }
+
+    synchronized void put(long handlerId, T value) {
+        if (handlerId < 0 || handlerId > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Handler ID out of range: " + handlerId);
+        }
+        int index = (int) handlerId;
+        Object[] v = values;
+        if (index >= v.length) {
+            v = Arrays.copyOf(v, Math.max(index + 1, v.length * 2));
+        }
+        if (v[index] == null && value != null) size++;
+        if (v[index] != null && value == null) size--;
+        v[index] = value;
+        values = v;
+    }
+
+    synchronized T remove(long handlerId) {
+        T previous = get(handlerId);
+        if (previous != null) put(handlerId, null);
+        return previous;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * IDs of all handlers with a value, in ascending order.
+     */
+    long[] ids() {
+        Object[] v = values;
+        long[] ids = new long[size];
+        int n = 0;
+        for (int i = 0; i < v.length && n < ids.length; i++) {
+            if (v[i] != null) ids[n++] = i;
+        }
+        return n == ids.length ? ids : Arrays.copyOf(ids, n);
+    }
+}
@@ -28,22 +28,58 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Registry for Dart-defined loot table modifications.
  *
  * Allows modifying existing Minecraft loot tables by adding new pools
  * and entries through the Fabric Loot API.
+ *
+ * Modifications are indexed by loot table key and compiled into LootPools
+ * the first time the table loads. The compiled pools are reused on every
+ * later load (data pack reloads, new worlds) until Dart adds another
+ * modification for that table, so the MODIFY callback is one map lookup.
  */
 public class LootTableRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger("LootTableRegistry");
     private static final Gson GSON = new Gson();
-    private static final Map<String, List<JsonArray>> modifications = new HashMap<>();
+    // Loot tables load on worker threads, so the index is concurrent
+    private static final Map<ResourceKey<LootTable>, TableModification> modifications = new ConcurrentHashMap<>();
     private static boolean initialized = false;
 
+    /**
+     * The pool definitions added to one loot table, and the pools compiled
+     * from them. Pools are rebuilt lazily after a definition is added.
+     */
+    private static final class TableModification {
+        private final List<JsonArray> definitions = new ArrayList<>();
+        private List<LootPool> pools = null;
+
+        synchronized void add(JsonArray definition) {
+            definitions.add(definition);
+            pools = null;
+        }
+
+        synchronized List<LootPool> pools() {
+            if (pools == null) {
+                List<LootPool> built = new ArrayList<>();
+                for (JsonArray definition : definitions) {
+                    for (JsonElement poolElem : definition) {
+                        LootPool.Builder pool = buildPool(poolElem.getAsJsonObject());
+                        if (pool != null) {
+                            built.add(pool.build());
+                        }
+                    }
+                }
+                pools = List.copyOf(built);
+            }
+            return pools;
+        }
+    }
+
     /**
      * Initialize the loot table modification system.
      */
@@ -51,23 +87,15 @@ public class LootTableRegistry {
         if (initialized) return;
 
         LootTableEvents.MODIFY.register((key, tableBuilder, source, registries) -> {
-            // Get the loot table identifier from the ResourceKey
-            String tableId = key.identifier().toString();
-
-            List<JsonArray> mods = modifications.get(tableId);
-            if (mods == null || mods.isEmpty()) return;
-
-            for (JsonArray pools : mods) {
-                for (JsonElement poolElem : pools) {
-                    JsonObject poolJson = poolElem.getAsJsonObject();
-                    LootPool.Builder pool = buildPool(poolJson);
-                    if (pool != null) {
-                        tableBuilder.pool(pool.build());
-                    }
-                }
+            TableModification mod = modifications.get(key);
+            if (mod == null) return;
+
+            List<LootPool> pools = mod.pools();
+            for (LootPool pool : pools) {
+                tableBuilder.pool(pool);
             }
 
-            LOGGER.debug("Applied {} modification(s) to loot table: {}", mods.size(), tableId);
+            LOGGER.debug("Applied {} pool(s) to loot table: {}", pools.size(), key.identifier());
         });
 
         initialized = true;
@@ -84,7 +112,8 @@ public class LootTableRegistry {
     public static boolean addModification(String tableId, String poolsJson) {
         try {
             JsonArray pools = GSON.fromJson(poolsJson, JsonArray.class);
-            modifications.computeIfAbsent(tableId, k -> new ArrayList<>()).add(pools);
+            ResourceKey<LootTable> key = ResourceKey.create(Registries.LOOT_TABLE, Identifier.parse(tableId));
+            modifications.computeIfAbsent(key, k -> new TableModification()).add(pools);
             LOGGER.info("Added loot modification for table: {}", tableId);
             return true;
         } catch (Exception e) {
@@ -248,7 +277,9 @@ public class LootTableRegistry {
      * Get all modified table IDs.
      */
     public static String[] getModifiedTables() {
-        return modifications.keySet().toArray(new String[0]);
+        return modifications.keySet().stream()
+            .map(key -> key.identifier().toString())
+            .toArray(String[]::new);
     }
 
     /**
@@ -19,9 +19,6 @@ import net.minecraft.world.level.block.state.BlockBehaviour;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Registry for Dart-defined proxy blocks and items.
  *
@@ -37,12 +34,23 @@ import java.util.Map;
  */
 public class ProxyRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger("ProxyRegistry");
-    private static final Map<Long, DartBlockProxy> blocks = new HashMap<>();
-    private static final Map<Long, BlockSettings> pendingSettings = new HashMap<>();
-    private static final Map<Long, Item> items = new HashMap<>();
-    private static final Map<Long, ItemSettings> pendingItemSettings = new HashMap<>();
+    private static final HandlerTable<DartBlockProxy> blocks = new HandlerTable<>();
+    private static final HandlerTable<BlockSettings> pendingSettings = new HandlerTable<>();
+    private static final HandlerTable<Item> items = new HandlerTable<>();
+    private static final HandlerTable<ItemSettings> pendingItemSettings = new HandlerTable<>();
     private static long nextHandlerId = 1;
 
+    // Block hook flags - which optional CustomBlock callbacks the Dart class
+    // implements. Must match BlockHook on the Dart side.
+    public static final int HOOK_STEPPED_ON = 1;
+    public static final int HOOK_FALLEN_UPON = 1 << 1;
+    public static final int HOOK_RANDOM_TICK = 1 << 2;
+    public static final int HOOK_PLACED = 1 << 3;
+    public static final int HOOK_REMOVED = 1 << 4;
+    public static final int HOOK_NEIGHBOR_CHANGED = 1 << 5;
+    public static final int HOOK_ENTITY_INSIDE = 1 << 6;
+    public static final int HOOKS_ALL = (1 << 7) - 1;
+
     /**
      * Holds block settings between createBlock() and registerBlock() calls.
      */
@@ -57,7 +65,8 @@ public class ProxyRegistry {
         boolean ticksRandomly,
         boolean collidable,
         boolean replaceable,
-        boolean burnable
+        boolean burnable,
+        int hooks
     ) {}
 
     /**
@@ -89,6 +98,8 @@ public class ProxyRegistry {
      * @param collidable Whether entities collide with this block.
      * @param replaceable Whether block can be replaced when placing.
      * @param burnable Whether block can catch fire.
+     * @param hooks Bitmask of HOOK_* flags for the callbacks Dart implements.
+     *              Callbacks whose bit is unset are never sent to Dart.
      * @return The handler ID to use when registering the block.
      */
     public static long createBlock(
@@ -102,19 +113,41 @@ public class ProxyRegistry {
             boolean ticksRandomly,
             boolean collidable,
             boolean replaceable,
-            boolean burnable) {
+            boolean burnable,
+            int hooks) {
         long handlerId = nextHandlerId++;
 
         // Store settings for use during registerBlock()
         pendingSettings.put(handlerId, new BlockSettings(
             hardness, resistance, requiresTool,
             luminance, slipperiness, velocityMultiplier, jumpVelocityMultiplier,
-            ticksRandomly, collidable, replaceable, burnable));
+            ticksRandomly, collidable, replaceable, burnable, hooks));
 
         LOGGER.info("Prepared DartBlockProxy slot with handler ID: {}", handlerId);
         return handlerId;
     }
 
+    /**
+     * Create a block proxy that forwards every optional callback to Dart
+     * ({@link #HOOKS_ALL}), for callers that don't report which hooks they implement.
+     */
+    public static long createBlock(
+            float hardness,
+            float resistance,
+            boolean requiresTool,
+            int luminance,
+            double slipperiness,
+            double velocityMultiplier,
+            double jumpVelocityMultiplier,
+            boolean ticksRandomly,
+            boolean collidable,
+            boolean replaceable,
+            boolean burnable) {
+        return createBlock(hardness, resistance, requiresTool, luminance, slipperiness,
+            velocityMultiplier, jumpVelocityMultiplier, ticksRandomly, collidable,
+            replaceable, burnable, HOOKS_ALL);
+    }
+
     /**
      * Register the block with Minecraft's registry.
      * Must be called during mod initialization before registry freeze.
@@ -194,7 +227,7 @@ public class ProxyRegistry {
                 properties = properties.ignitedByLava();
             }
 
-            DartBlockProxy block = new DartBlockProxy(properties, handlerId, settings);
+            DartBlockProxy block = new DartBlockProxy(properties, handlerId, settings, settings.hooks());
             blocks.put(handlerId, block);
             pendingSettings.remove(handlerId); // Clean up pending settings
 
@@ -231,7 +264,7 @@ public class ProxyRegistry {
      * Get all registered handler IDs.
      */
     public static long[] getAllHandlerIds() {
-        return blocks.keySet().stream().mapToLong(Long::longValue).toArray();
+        return blocks.ids();
     }
 
     /**
@@ -381,7 +414,7 @@ public class ProxyRegistry {
      * Get all registered item handler IDs.
      */
     public static long[] getAllItemHandlerIds() {
-        return items.keySet().stream().mapToLong(Long::longValue).toArray();
+        return items.ids();
     }
 
     /**
@@ -2,8 +2,10 @@ package com.redstone.proxy;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.redstone.mixin.RecipeManagerAccessor;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
@@ -11,10 +13,11 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.*;
+import net.minecraft.world.item.crafting.display.RecipeDisplay;
+import net.minecraft.world.item.crafting.display.SlotDisplay;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.*;
 
 /**
@@ -22,6 +25,11 @@ import java.util.*;
  *
  * Supports all major recipe types: shaped, shapeless, smelting, blasting,
  * smoking, campfire, stonecutting, and smithing.
+ *
+ * Built recipes are cached with the content hash of their definition, so a
+ * data pack reload only rebuilds recipes whose definition changed since the
+ * last build. All loaded recipes (vanilla, data pack and Dart) are indexed
+ * by output item each time the recipe map is applied.
  */
 public class RecipeRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger("RecipeRegistry");
@@ -29,15 +37,44 @@ public class RecipeRegistry {
     private static final Map<String, RecipeDef> recipes = new HashMap<>();
     private static final Set<String> removedRecipes = new HashSet<>();
     private static final Set<String> removedByOutput = new HashSet<>();
+    private static final Map<String, CompiledRecipe> compiled = new HashMap<>();
+    private static Set<Identifier> removedIds = Set.of();
+    private static Set<Item> removedOutputItems = Set.of();
     private static boolean initialized = false;
 
+    // Bumped on every registration change, so the lifecycle fallback can tell
+    // whether the map the mixin applied is still current
+    private static int generation = 0;
+    private static int appliedGeneration = -1;
+    private static RecipeMap appliedMap = null;
+
     /**
      * Internal record to store recipe definitions.
      */
     private record RecipeDef(
         String id,
         String type,
-        JsonObject data
+        JsonObject data,
+        int contentHash
+    ) {
+        RecipeDef(String id, String type, JsonObject data) {
+            this(id, type, data, 31 * type.hashCode() + data.hashCode());
+        }
+
+        boolean sameContent(RecipeDef other) {
+            return this == other || (contentHash == other.contentHash
+                && type.equals(other.type) && data.equals(other.data));
+        }
+    }
+
+    /**
+     * A built recipe and the definition it was built from.
+     */
+    private record CompiledRecipe(
+        RecipeDef def,
+        Identifier id,
+        Recipe<?> recipe,
+        Item output
     ) {}
 
     /**
@@ -61,6 +98,7 @@ public class RecipeRegistry {
         try {
             JsonObject data = GSON.fromJson(dataJson, JsonObject.class);
             recipes.put(id, new RecipeDef(id, type, data));
+            generation++;
             LOGGER.info("Registered {} recipe: {}", type, id);
             return true;
         } catch (Exception e) {
@@ -77,6 +115,8 @@ public class RecipeRegistry {
      */
     public static boolean removeRecipe(String recipeId) {
         removedRecipes.add(recipeId);
+        refreshRemovals();
+        generation++;
         LOGGER.info("Marked recipe for removal: {}", recipeId);
         return true;
     }
@@ -89,6 +129,8 @@ public class RecipeRegistry {
      */
     public static int removeRecipesByOutput(String itemId) {
         removedByOutput.add(itemId);
+        refreshRemovals();
+        generation++;
         LOGGER.info("Marked recipes for removal by output: {}", itemId);
         return 1; // Actual count determined at runtime
     }
@@ -96,24 +138,76 @@ public class RecipeRegistry {
     /**
      * Build all registered recipes. Called during server resource loading.
      * Returns a map of recipe ID -> Recipe for injection.
+     *
+     * Recipes whose definition is unchanged since the last build are reused.
+     * Recipes marked for removal (by ID or output) are left out.
      */
     public static Map<Identifier, Recipe<?>> buildRecipes() {
         Map<Identifier, Recipe<?>> builtRecipes = new HashMap<>();
+        int rebuilt = 0;
+
+        // Items named by output removals may have been registered since they were marked
+        refreshRemovals();
+
+        // Drop cache entries for recipes that are no longer registered
+        compiled.keySet().retainAll(recipes.keySet());
 
         for (RecipeDef def : recipes.values()) {
-            try {
-                Recipe<?> recipe = buildRecipe(def);
-                if (recipe != null) {
-                    builtRecipes.put(Identifier.parse(def.id()), recipe);
+            CompiledRecipe entry = compiled.get(def.id());
+            if (entry == null || !entry.def().sameContent(def)) {
+                entry = compile(def);
+                if (entry == null) {
+                    compiled.remove(def.id());
+                    continue;
                 }
-            } catch (Exception e) {
-                LOGGER.error("Failed to build recipe {}: {}", def.id(), e.getMessage());
+                compiled.put(def.id(), entry);
+                rebuilt++;
             }
+
+            if (removedIds.contains(entry.id()) || removedOutputItems.contains(entry.output())) continue;
+            builtRecipes.put(entry.id(), entry.recipe());
         }
 
+        LOGGER.debug("Built {} Dart recipe(s): {} rebuilt, {} cached",
+            builtRecipes.size(), rebuilt, compiled.size() - rebuilt);
         return builtRecipes;
     }
 
+    private static CompiledRecipe compile(RecipeDef def) {
+        try {
+            Recipe<?> recipe = buildRecipe(def);
+            if (recipe == null) return null;
+            Item output = def.data().has("result")
+                ? BuiltInRegistries.ITEM.getValue(Identifier.parse(def.data().get("result").getAsString()))
+                : Items.AIR;
+            return new CompiledRecipe(def, Identifier.parse(def.id()), recipe, output);
+        } catch (Exception e) {
+            LOGGER.error("Failed to build recipe {}: {}", def.id(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Resolve the removal markers into an ID set and an item set, so
+     * checking a recipe needs no string building.
+     */
+    private static void refreshRemovals() {
+        Set<Identifier> ids = new HashSet<>();
+        for (String id : removedRecipes) {
+            Identifier parsed = Identifier.tryParse(id);
+            if (parsed != null) ids.add(parsed);
+        }
+        Set<Item> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String itemId : removedByOutput) {
+            Identifier parsed = Identifier.tryParse(itemId);
+            if (parsed != null) {
+                BuiltInRegistries.ITEM.getOptional(parsed).ifPresent(items::add);
+            }
+        }
+        removedIds = ids;
+        removedOutputItems = items;
+    }
+
     /**
      * Build a single recipe from its definition.
      */
@@ -367,14 +461,15 @@ public class RecipeRegistry {
      * Check if a recipe should be removed.
      */
     public static boolean shouldRemoveRecipe(Identifier recipeId, ItemStack result) {
-        // Check by ID
-        if (removedRecipes.contains(recipeId.toString())) {
-            return true;
-        }
+        return removedIds.contains(recipeId)
+            || (!removedOutputItems.isEmpty() && removedOutputItems.contains(result.getItem()));
+    }
 
-        // Check by output
-        String outputId = BuiltInRegistries.ITEM.getKey(result.getItem()).toString();
-        return removedByOutput.contains(outputId);
+    /**
+     * Whether any removals (by ID or output) are pending.
+     */
+    public static boolean hasRemovals() {
+        return !removedIds.isEmpty() || !removedOutputItems.isEmpty();
     }
 
     /**
@@ -398,39 +493,27 @@ public class RecipeRegistry {
         recipes.clear();
         removedRecipes.clear();
         removedByOutput.clear();
+        compiled.clear();
+        refreshRemovals();
+        generation++;
         LOGGER.info("Cleared all registered recipes");
     }
 
-    // ========== Runtime Recipe Injection via Fabric Events ==========
-
-    private static Field recipeMapField = null;
-    private static boolean recipeMapFieldSearched = false;
-
-    /**
-     * Reset the field search state. Call this when RecipeManager might have changed
-     * (e.g., after a data pack reload).
-     */
-    public static void resetFieldSearch() {
-        recipeMapField = null;
-        recipeMapFieldSearched = false;
-        LOGGER.debug("Recipe map field search reset");
-    }
+    // ========== Runtime Recipe Injection ==========
 
     /**
      * Inject all registered Dart recipes into the running server's RecipeManager.
-     * This is called from Fabric lifecycle events (SERVER_STARTED and END_DATA_PACK_RELOAD).
+     * This is called from Fabric lifecycle events (SERVER_STARTED and END_DATA_PACK_RELOAD)
+     * as a fallback: if the RecipeManager mixin already applied the current
+     * registrations to the current map, nothing is rebuilt.
      *
-     * In Minecraft 1.21.x, RecipeMap is immutable, so we need to:
-     * 1. Get all existing recipes
-     * 2. Add our Dart recipes
-     * 3. Create a new RecipeMap
-     * 4. Replace the recipes field in RecipeManager
+     * The recipe map is read and replaced through {@link RecipeManagerAccessor},
+     * so no reflective field lookup is needed, and a reload doesn't need to
+     * find the field again.
      *
      * @param server The Minecraft server instance
      */
     public static void injectRecipes(MinecraftServer server) {
-        LOGGER.info("=== RecipeRegistry.injectRecipes called ===");
-
         if (server == null) {
             LOGGER.error("Server is null, cannot inject recipes");
             return;
@@ -442,120 +525,109 @@ public class RecipeRegistry {
             return;
         }
 
-        LOGGER.info("RecipeManager obtained: {}", recipeManager.getClass().getName());
-
-        Map<Identifier, Recipe<?>> dartRecipes = buildRecipes();
-        LOGGER.info("Built {} Dart recipes for injection", dartRecipes.size());
-
-        if (dartRecipes.isEmpty() && removedRecipes.isEmpty() && removedByOutput.isEmpty()) {
-            LOGGER.info("No Dart recipes to inject and none to remove");
-            return;
-        }
-
         try {
-            // Get the RecipeMap field from RecipeManager
-            Field recipesField = findRecipeMapField(recipeManager);
-            if (recipesField == null) {
-                LOGGER.error("Could not find recipes field in RecipeManager");
+            RecipeManagerAccessor accessor = (RecipeManagerAccessor) recipeManager;
+            RecipeMap current = accessor.redstone$getRecipes();
+            if (current == appliedMap && generation == appliedGeneration) {
+                LOGGER.debug("Recipes already applied by the RecipeManager mixin, skipping injection");
                 return;
             }
+            accessor.redstone$setRecipes(applyToRecipeMap(current));
+        } catch (Exception e) {
+            LOGGER.error("Failed to inject recipes: {}", e.getMessage(), e);
+        }
+    }
 
-            recipesField.setAccessible(true);
-            Object currentRecipeMap = recipesField.get(recipeManager);
-
-            // Get all existing recipes from the current RecipeMap
-            List<RecipeHolder<?>> allRecipes = new ArrayList<>();
-
-            // Use RecipeMap.values() to get existing recipes
-            if (currentRecipeMap != null) {
-                try {
-                    java.lang.reflect.Method valuesMethod = currentRecipeMap.getClass().getMethod("values");
-                    @SuppressWarnings("unchecked")
-                    Collection<RecipeHolder<?>> existingRecipes = (Collection<RecipeHolder<?>>) valuesMethod.invoke(currentRecipeMap);
-
-                    // Filter out recipes marked for removal
-                    for (RecipeHolder<?> holder : existingRecipes) {
-                        Identifier recipeId = holder.id().identifier();  // ResourceKey.identifier() returns Identifier
-                        ItemStack result = getRecipeResult(holder.value());
-
-                        if (!shouldRemoveRecipe(recipeId, result)) {
-                            allRecipes.add(holder);
-                        } else {
-                            LOGGER.debug("Filtering out removed recipe: {}", recipeId);
-                        }
-                    }
-                    LOGGER.info("Kept {} existing recipes (after filtering removals)", allRecipes.size());
-                } catch (Exception e) {
-                    LOGGER.error("Failed to get existing recipes: {}", e.getMessage(), e);
-                    return;
-                }
-            }
+    /**
+     * Build a recipe map from {@code current} with removed recipes filtered out
+     * and Dart recipes added, and rebuild the output index over the result.
+     *
+     * Dart recipes whose ID is already present are not added again, so this is
+     * safe to run from both the RecipeManager mixin and the lifecycle events.
+     */
+    public static RecipeMap applyToRecipeMap(RecipeMap current) {
+        int applying = generation;
+        Map<Identifier, Recipe<?>> dartRecipes = buildRecipes();
 
-            // Add Dart recipes
-            int added = 0;
-            for (Map.Entry<Identifier, Recipe<?>> entry : dartRecipes.entrySet()) {
-                Identifier id = entry.getKey();
-                Recipe<?> recipe = entry.getValue();
-
-                try {
-                    @SuppressWarnings("unchecked")
-                    RecipeHolder<?> holder = new RecipeHolder<>(
-                        ResourceKey.create(net.minecraft.core.registries.Registries.RECIPE, id),
-                        recipe
-                    );
-                    allRecipes.add(holder);
-                    added++;
-                    LOGGER.debug("Added Dart recipe: {}", id);
-                } catch (Exception e) {
-                    LOGGER.error("Failed to create RecipeHolder for {}: {}", id, e.getMessage(), e);
+        List<RecipeHolder<?>> allRecipes = new ArrayList<>();
+        Set<Identifier> present = new HashSet<>();
+        Map<Item, List<Identifier>> index = new IdentityHashMap<>();
+        int removed = 0;
+        if (current != null) {
+            for (RecipeHolder<?> holder : current.values()) {
+                Identifier recipeId = holder.id().identifier();
+                ItemStack result = getRecipeResult(holder.value());
+                if (shouldRemoveRecipe(recipeId, result)) {
+                    removed++;
+                    continue;
                 }
+                allRecipes.add(holder);
+                present.add(recipeId);
+                addToIndex(index, result.getItem(), recipeId);
             }
+        }
 
-            // Create a new RecipeMap using RecipeMap.create()
-            java.lang.reflect.Method createMethod = RecipeMap.class.getMethod("create", Iterable.class);
-            Object newRecipeMap = createMethod.invoke(null, allRecipes);
+        int added = 0;
+        for (Map.Entry<Identifier, Recipe<?>> entry : dartRecipes.entrySet()) {
+            if (!present.add(entry.getKey())) continue;
+            allRecipes.add(new RecipeHolder<>(ResourceKey.create(Registries.RECIPE, entry.getKey()), entry.getValue()));
+            addToIndex(index, getRecipeResult(entry.getValue()).getItem(), entry.getKey());
+            added++;
+        }
 
-            // Set the new RecipeMap on the RecipeManager
-            recipesField.set(recipeManager, newRecipeMap);
+        loadedByOutput = index;
+        if (added > 0 || removed > 0) {
+            LOGGER.info("Recipe injection complete: {} added, {} removed, {} total recipes",
+                added, removed, allRecipes.size());
+        }
+        appliedMap = RecipeMap.create(allRecipes);
+        appliedGeneration = applying;
+        return appliedMap;
+    }
 
-            LOGGER.info("=== Recipe injection complete: {} added, {} total recipes ===", added, allRecipes.size());
+    // ========== Output Index (all loaded recipes) ==========
 
-        } catch (Exception e) {
-            LOGGER.error("Failed to inject recipes: {}", e.getMessage(), e);
-        }
+    // Replaced wholesale on each injection, so readers never see a partial index
+    private static volatile Map<Item, List<Identifier>> loadedByOutput = Map.of();
+
+    private static void addToIndex(Map<Item, List<Identifier>> index, Item output, Identifier recipeId) {
+        if (output == Items.AIR) return;
+        index.computeIfAbsent(output, item -> new ArrayList<>()).add(recipeId);
     }
 
     /**
-     * Find the RecipeMap field in RecipeManager.
+     * Get the IDs of all loaded recipes (vanilla, data pack and Dart) producing
+     * an item, as a comma-separated string. Empty if none or unknown.
      */
-    private static Field findRecipeMapField(RecipeManager recipeManager) {
-        if (recipeMapField != null) {
-            return recipeMapField;
-        }
-
-        Class<?> clazz = recipeManager.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field field : clazz.getDeclaredFields()) {
-                if (field.getType().getSimpleName().equals("RecipeMap")) {
-                    recipeMapField = field;
-                    LOGGER.info("Found RecipeMap field: {} in {}", field.getName(), clazz.getSimpleName());
-                    return field;
-                }
-            }
-            clazz = clazz.getSuperclass();
+    public static String getLoadedRecipesByOutput(String itemId) {
+        Identifier id = Identifier.tryParse(itemId);
+        if (id == null) return "";
+        Item item = BuiltInRegistries.ITEM.getValue(id);
+        List<Identifier> ids = loadedByOutput.get(item);
+        if (ids == null) return "";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(ids.get(i));
         }
-
-        LOGGER.error("Could not find RecipeMap field in RecipeManager");
-        return null;
+        return sb.toString();
     }
 
     /**
-     * Get the result ItemStack from a recipe.
+     * Get the result ItemStack of a recipe from its first display, or empty if
+     * the result depends on the crafting inputs.
      */
     private static ItemStack getRecipeResult(Recipe<?> recipe) {
         try {
-            // Different recipe types have different ways to get results
-            // For now, return empty - removal by output can be enhanced later
+            List<RecipeDisplay> displays = recipe.display();
+            if (displays.isEmpty()) return ItemStack.EMPTY;
+            SlotDisplay result = displays.get(0).result();
+            if (result instanceof SlotDisplay.ItemStackSlotDisplay stackDisplay) {
+                return stackDisplay.stack();
+            }
+            if (result instanceof SlotDisplay.ItemSlotDisplay itemDisplay) {
+                return new ItemStack(itemDisplay.item());
+            }
             return ItemStack.EMPTY;
         } catch (Exception e) {
             return ItemStack.EMPTY;
@@ -249,6 +249,11 @@ public:
         proxy_entity_tick_handler_ = cb;
     }
 
+    void setProxyEntityTickBatchHandler(ProxyEntityTickBatchCallback cb) {
+        std::lock_guard<std::recursive_mutex> lock(mutex_);
+        proxy_entity_tick_batch_handler_ = cb;
+    }
+
     void setProxyEntityDeathHandler(ProxyEntityDeathCallback cb) {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
         proxy_entity_death_handler_ = cb;
@@ -322,6 +327,11 @@ public:
         custom_goal_stop_handler_ = cb;
     }
 
+    void setCustomGoalBatchHandler(CustomGoalBatchCallback cb) {
+        std::lock_guard<std::recursive_mutex> lock(mutex_);
+        custom_goal_batch_handler_ = cb;
+    }
+
     // Dispatch (called from Java via JNI)
     int32_t dispatchBlockBreak(int32_t x, int32_t y, int32_t z, int64_t player_id) {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
@@ -731,7 +741,7 @@ public:
 
     // Container menu event dispatch methods
     int32_t dispatchContainerSlotClick(int64_t menu_id, int32_t slot_index,
-                                        int32_t button, int32_t click_type, const char* carried_item) {
+                                        int32_t button, int32_t click_type, int64_t carried_item) {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
         if (container_slot_click_handler_) {
             return container_slot_click_handler_(menu_id, slot_index, button, click_type, carried_item);
@@ -747,10 +757,10 @@ public:
         return nullptr; // Default: use default behavior
     }
 
-    bool dispatchContainerMayPlace(int64_t menu_id, int32_t slot_index, const char* item_data) {
+    bool dispatchContainerMayPlace(int64_t menu_id, int32_t slot_index, int64_t item) {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
         if (container_may_place_handler_) {
-            return container_may_place_handler_(menu_id, slot_index, item_data);
+            return container_may_place_handler_(menu_id, slot_index, item);
         }
         return true; // Default: allow placement
     }
@@ -778,6 +788,13 @@ public:
         }
     }
 
+    void dispatchProxyEntityTickBatch(const int64_t* records, int32_t count, int64_t* elapsed_ns) {
+        std::lock_guard<std::recursive_mutex> lock(mutex_);
+        if (proxy_entity_tick_batch_handler_) {
+            proxy_entity_tick_batch_handler_(records, count, elapsed_ns);
+        }
+    }
+
     void dispatchProxyEntityDeath(int64_t handler_id, int32_t entity_id, const char* damage_source) {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
         if (proxy_entity_death_handler_) {
@@ -844,10 +861,10 @@ public:
     }
 
     // Command dispatch
-    int32_t dispatchCommandExecute(int64_t command_id, int32_t player_id, const char* args_json) {
+    int32_t dispatchCommandExecute(int64_t command_id, int32_t player_id, int32_t frame_bytes) {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
         if (command_execute_handler_) {
-            return command_execute_handler_(command_id, player_id, args_json);
+            return command_execute_handler_(command_id, player_id, frame_bytes);
         }
         return 0; // Default: failure
     }
@@ -895,6 +912,14 @@ public:
         }
     }
 
+    // Called once per server tick with the queued goal queries and ticks
+    void dispatchCustomGoalBatch(int32_t* records, int32_t count, int64_t* elapsed_ns) {
+        std::lock_guard<std::recursive_mutex> lock(mutex_);
+        if (custom_goal_batch_handler_) {
+            custom_goal_batch_handler_(records, count, elapsed_ns);
+        }
+    }
+
     // Clear all handlers
     void clear() {
         std::lock_guard<std::recursive_mutex> lock(mutex_);
@@ -956,6 +981,7 @@ public:
         // Entity proxy handlers
         proxy_entity_spawn_handler_ = nullptr;
         proxy_entity_tick_handler_ = nullptr;
+        proxy_entity_tick_batch_handler_ = nullptr;
         proxy_entity_death_handler_ = nullptr;
         proxy_entity_damage_handler_ = nullptr;
         proxy_entity_attack_handler_ = nullptr;
@@ -973,6 +999,7 @@ public:
         custom_goal_start_handler_ = nullptr;
         custom_goal_tick_handler_ = nullptr;
         custom_goal_stop_handler_ = nullptr;
+        custom_goal_batch_handler_ = nullptr;
     }
 
 private:
@@ -1047,6 +1074,7 @@ private:
     // Entity proxy handlers
     ProxyEntitySpawnCallback proxy_entity_spawn_handler_ = nullptr;
     ProxyEntityTickCallback proxy_entity_tick_handler_ = nullptr;
+    ProxyEntityTickBatchCallback proxy_entity_tick_batch_handler_ = nullptr;
     ProxyEntityDeathCallback proxy_entity_death_handler_ = nullptr;
     ProxyEntityDamageCallback proxy_entity_damage_handler_ = nullptr;
     ProxyEntityAttackCallback proxy_entity_attack_handler_ = nullptr;
@@ -1067,6 +1095,7 @@ private:
     CustomGoalStartCallback custom_goal_start_handler_ = nullptr;
     CustomGoalTickCallback custom_goal_tick_handler_ = nullptr;
     CustomGoalStopCallback custom_goal_stop_handler_ = nullptr;
+    CustomGoalBatchCallback custom_goal_batch_handler_ = nullptr;
 };
 
 } // namespace dart_mc_bridge
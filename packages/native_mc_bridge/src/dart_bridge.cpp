@@ -1,5 +1,6 @@
 #include "dart_bridge.h"
 #include "callback_registry.h"
+#include "dispatch_profiler.h"
 #include "object_registry.h"
 #include "generic_jni.h"
 #include "dart_dll.h"  // From dart_shared_library
@@ -12,6 +13,7 @@
 #include <mutex>
 #include <thread>
 #include <chrono>
+#include <vector>
 
 // Dart VM state
 static Dart_Isolate g_isolate = nullptr;
@@ -209,6 +211,7 @@ void dart_bridge_set_jvm(JavaVM* jvm) {
 void dart_bridge_tick() {
     if (!g_initialized || g_isolate == nullptr) return;
 
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     DartDll_DrainMicrotaskQueue();
     safe_exit_isolate(did_enter);
@@ -268,6 +271,7 @@ void register_proxy_block_entity_inside_handler(ProxyBlockEntityInsideCallback c
 int32_t dispatch_block_break(int32_t x, int32_t y, int32_t z, int64_t player_id) {
     if (!g_initialized || g_isolate == nullptr) return 1;
 
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchBlockBreak(x, y, z, player_id);
@@ -279,6 +283,7 @@ int32_t dispatch_block_break(int32_t x, int32_t y, int32_t z, int64_t player_id)
 int32_t dispatch_block_interact(int32_t x, int32_t y, int32_t z, int64_t player_id, int32_t hand) {
     if (!g_initialized || g_isolate == nullptr) return 1;
 
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchBlockInteract(x, y, z, player_id, hand);
@@ -306,6 +311,7 @@ void dispatch_tick(int64_t tick) {
         g_last_report_time = now;
     }
 
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchTick(tick);
@@ -320,6 +326,7 @@ bool dispatch_proxy_block_break(int64_t handler_id, int64_t world_id,
                                  int32_t x, int32_t y, int32_t z, int64_t player_id) {
     if (!g_initialized || g_isolate == nullptr) return true; // Allow break if not initialized
 
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockBreak(
@@ -334,6 +341,7 @@ int32_t dispatch_proxy_block_use(int64_t handler_id, int64_t world_id,
                                   int64_t player_id, int32_t hand) {
     if (!g_initialized || g_isolate == nullptr) return 3; // ActionResult.pass
 
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockUse(
@@ -346,6 +354,7 @@ int32_t dispatch_proxy_block_use(int64_t handler_id, int64_t world_id,
 void dispatch_proxy_block_stepped_on(int64_t handler_id, int64_t world_id,
                                       int32_t x, int32_t y, int32_t z, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockSteppedOn(
@@ -357,6 +366,7 @@ void dispatch_proxy_block_stepped_on(int64_t handler_id, int64_t world_id,
 void dispatch_proxy_block_fallen_upon(int64_t handler_id, int64_t world_id,
                                        int32_t x, int32_t y, int32_t z, int32_t entity_id, float fall_distance) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockFallenUpon(
@@ -368,6 +378,7 @@ void dispatch_proxy_block_fallen_upon(int64_t handler_id, int64_t world_id,
 void dispatch_proxy_block_random_tick(int64_t handler_id, int64_t world_id,
                                        int32_t x, int32_t y, int32_t z) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockRandomTick(
@@ -379,6 +390,7 @@ void dispatch_proxy_block_random_tick(int64_t handler_id, int64_t world_id,
 void dispatch_proxy_block_placed(int64_t handler_id, int64_t world_id,
                                   int32_t x, int32_t y, int32_t z, int64_t player_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockPlaced(
@@ -390,6 +402,7 @@ void dispatch_proxy_block_placed(int64_t handler_id, int64_t world_id,
 void dispatch_proxy_block_removed(int64_t handler_id, int64_t world_id,
                                    int32_t x, int32_t y, int32_t z) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockRemoved(
@@ -402,6 +415,7 @@ void dispatch_proxy_block_neighbor_changed(int64_t handler_id, int64_t world_id,
                                             int32_t x, int32_t y, int32_t z,
                                             int32_t neighbor_x, int32_t neighbor_y, int32_t neighbor_z) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockNeighborChanged(
@@ -413,6 +427,7 @@ void dispatch_proxy_block_neighbor_changed(int64_t handler_id, int64_t world_id,
 void dispatch_proxy_block_entity_inside(int64_t handler_id, int64_t world_id,
                                          int32_t x, int32_t y, int32_t z, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyBlockEntityInside(
@@ -527,6 +542,7 @@ void register_server_stopping_handler(ServerStoppingCallback cb) {
 
 void dispatch_player_join(int32_t player_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerJoin(player_id);
@@ -536,6 +552,7 @@ void dispatch_player_join(int32_t player_id) {
 
 void dispatch_player_leave(int32_t player_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerLeave(player_id);
@@ -545,6 +562,7 @@ void dispatch_player_leave(int32_t player_id) {
 
 void dispatch_player_respawn(int32_t player_id, bool end_conquered) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerRespawn(player_id, end_conquered);
@@ -554,6 +572,7 @@ void dispatch_player_respawn(int32_t player_id, bool end_conquered) {
 
 char* dispatch_player_death(int32_t player_id, const char* damage_source) {
     if (!g_initialized || g_isolate == nullptr) return nullptr;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     char* result = dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerDeath(player_id, damage_source);
@@ -564,6 +583,7 @@ char* dispatch_player_death(int32_t player_id, const char* damage_source) {
 
 bool dispatch_entity_damage(int32_t entity_id, const char* damage_source, double amount) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchEntityDamage(entity_id, damage_source, amount);
@@ -574,6 +594,7 @@ bool dispatch_entity_damage(int32_t entity_id, const char* damage_source, double
 
 void dispatch_entity_death(int32_t entity_id, const char* damage_source) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchEntityDeath(entity_id, damage_source);
@@ -583,6 +604,7 @@ void dispatch_entity_death(int32_t entity_id, const char* damage_source) {
 
 bool dispatch_player_attack_entity(int32_t player_id, int32_t target_id) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerAttackEntity(player_id, target_id);
@@ -593,6 +615,7 @@ bool dispatch_player_attack_entity(int32_t player_id, int32_t target_id) {
 
 char* dispatch_player_chat(int32_t player_id, const char* message) {
     if (!g_initialized || g_isolate == nullptr) return nullptr;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     char* result = dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerChat(player_id, message);
@@ -603,6 +626,7 @@ char* dispatch_player_chat(int32_t player_id, const char* message) {
 
 bool dispatch_player_command(int32_t player_id, const char* command) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerCommand(player_id, command);
@@ -613,6 +637,7 @@ bool dispatch_player_command(int32_t player_id, const char* command) {
 
 bool dispatch_item_use(int32_t player_id, const char* item_id, int32_t count, int32_t hand) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchItemUse(player_id, item_id, count, hand);
@@ -624,6 +649,7 @@ bool dispatch_item_use(int32_t player_id, const char* item_id, int32_t count, in
 int32_t dispatch_item_use_on_block(int32_t player_id, const char* item_id, int32_t count, int32_t hand,
                                     int32_t x, int32_t y, int32_t z, int32_t face) {
     if (!g_initialized || g_isolate == nullptr) return 1;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchItemUseOnBlock(
@@ -636,6 +662,7 @@ int32_t dispatch_item_use_on_block(int32_t player_id, const char* item_id, int32
 int32_t dispatch_item_use_on_entity(int32_t player_id, const char* item_id, int32_t count, int32_t hand,
                                      int32_t target_id) {
     if (!g_initialized || g_isolate == nullptr) return 1;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchItemUseOnEntity(
@@ -647,6 +674,7 @@ int32_t dispatch_item_use_on_entity(int32_t player_id, const char* item_id, int3
 
 bool dispatch_block_place(int32_t player_id, int32_t x, int32_t y, int32_t z, const char* block_id) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchBlockPlace(player_id, x, y, z, block_id);
@@ -657,6 +685,7 @@ bool dispatch_block_place(int32_t player_id, int32_t x, int32_t y, int32_t z, co
 
 bool dispatch_player_pickup_item(int32_t player_id, int32_t item_entity_id) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerPickupItem(player_id, item_entity_id);
@@ -667,6 +696,7 @@ bool dispatch_player_pickup_item(int32_t player_id, int32_t item_entity_id) {
 
 bool dispatch_player_drop_item(int32_t player_id, const char* item_id, int32_t count) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchPlayerDropItem(player_id, item_id, count);
@@ -677,6 +707,7 @@ bool dispatch_player_drop_item(int32_t player_id, const char* item_id, int32_t c
 
 void dispatch_server_starting() {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchServerStarting();
@@ -686,6 +717,7 @@ void dispatch_server_starting() {
 
 void dispatch_server_started() {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchServerStarted();
@@ -696,6 +728,7 @@ void dispatch_server_started() {
 
 void dispatch_server_stopping() {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchServerStopping();
@@ -757,6 +790,7 @@ void register_screen_mouse_scrolled_callback(ScreenMouseScrolledCallback callbac
 
 void dispatch_screen_init(int64_t screen_id, int32_t width, int32_t height) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchScreenInit(screen_id, width, height);
@@ -766,6 +800,7 @@ void dispatch_screen_init(int64_t screen_id, int32_t width, int32_t height) {
 
 void dispatch_screen_tick(int64_t screen_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchScreenTick(screen_id);
@@ -775,6 +810,7 @@ void dispatch_screen_tick(int64_t screen_id) {
 
 void dispatch_screen_render(int64_t screen_id, int32_t mouse_x, int32_t mouse_y, float partial_tick) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchScreenRender(screen_id, mouse_x, mouse_y, partial_tick);
@@ -784,6 +820,7 @@ void dispatch_screen_render(int64_t screen_id, int32_t mouse_x, int32_t mouse_y,
 
 void dispatch_screen_close(int64_t screen_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchScreenClose(screen_id);
@@ -793,6 +830,7 @@ void dispatch_screen_close(int64_t screen_id) {
 
 bool dispatch_screen_key_pressed(int64_t screen_id, int32_t key_code, int32_t scan_code, int32_t modifiers) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenKeyPressed(screen_id, key_code, scan_code, modifiers);
@@ -803,6 +841,7 @@ bool dispatch_screen_key_pressed(int64_t screen_id, int32_t key_code, int32_t sc
 
 bool dispatch_screen_key_released(int64_t screen_id, int32_t key_code, int32_t scan_code, int32_t modifiers) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenKeyReleased(screen_id, key_code, scan_code, modifiers);
@@ -813,6 +852,7 @@ bool dispatch_screen_key_released(int64_t screen_id, int32_t key_code, int32_t s
 
 bool dispatch_screen_char_typed(int64_t screen_id, int32_t code_point, int32_t modifiers) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenCharTyped(screen_id, code_point, modifiers);
@@ -823,6 +863,7 @@ bool dispatch_screen_char_typed(int64_t screen_id, int32_t code_point, int32_t m
 
 bool dispatch_screen_mouse_clicked(int64_t screen_id, double mouse_x, double mouse_y, int32_t button) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenMouseClicked(screen_id, mouse_x, mouse_y, button);
@@ -833,6 +874,7 @@ bool dispatch_screen_mouse_clicked(int64_t screen_id, double mouse_x, double mou
 
 bool dispatch_screen_mouse_released(int64_t screen_id, double mouse_x, double mouse_y, int32_t button) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenMouseReleased(screen_id, mouse_x, mouse_y, button);
@@ -843,6 +885,7 @@ bool dispatch_screen_mouse_released(int64_t screen_id, double mouse_x, double mo
 
 bool dispatch_screen_mouse_dragged(int64_t screen_id, double mouse_x, double mouse_y, int32_t button, double drag_x, double drag_y) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenMouseDragged(screen_id, mouse_x, mouse_y, button, drag_x, drag_y);
@@ -853,6 +896,7 @@ bool dispatch_screen_mouse_dragged(int64_t screen_id, double mouse_x, double mou
 
 bool dispatch_screen_mouse_scrolled(int64_t screen_id, double mouse_x, double mouse_y, double delta_x, double delta_y) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchScreenMouseScrolled(screen_id, mouse_x, mouse_y, delta_x, delta_y);
@@ -879,6 +923,7 @@ void register_widget_text_changed_callback(WidgetTextChangedCallback callback) {
 
 void dispatch_widget_pressed(int64_t screen_id, int64_t widget_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchWidgetPressed(screen_id, widget_id);
@@ -888,6 +933,7 @@ void dispatch_widget_pressed(int64_t screen_id, int64_t widget_id) {
 
 void dispatch_widget_text_changed(int64_t screen_id, int64_t widget_id, const char* text) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchWidgetTextChanged(screen_id, widget_id, text);
@@ -918,6 +964,7 @@ void register_container_screen_close_callback(ContainerScreenCloseCallback callb
 void dispatch_container_screen_init(int64_t screen_id, int32_t width, int32_t height,
                                     int32_t left_pos, int32_t top_pos, int32_t image_width, int32_t image_height) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchContainerScreenInit(
@@ -929,6 +976,7 @@ void dispatch_container_screen_init(int64_t screen_id, int32_t width, int32_t he
 void dispatch_container_screen_render_bg(int64_t screen_id, int32_t mouse_x, int32_t mouse_y,
                                          float partial_tick, int32_t left_pos, int32_t top_pos) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchContainerScreenRenderBg(
@@ -939,6 +987,7 @@ void dispatch_container_screen_render_bg(int64_t screen_id, int32_t mouse_x, int
 
 void dispatch_container_screen_close(int64_t screen_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchContainerScreenClose(screen_id);
@@ -971,8 +1020,9 @@ void register_container_may_pickup_callback(ContainerMayPickupCallback callback)
 // ==========================================================================
 
 int32_t dispatch_container_slot_click(int64_t menu_id, int32_t slot_index,
-                                       int32_t button, int32_t click_type, const char* carried_item) {
+                                       int32_t button, int32_t click_type, int64_t carried_item) {
     if (!g_initialized || g_isolate == nullptr) return 0;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchContainerSlotClick(
@@ -984,6 +1034,7 @@ int32_t dispatch_container_slot_click(int64_t menu_id, int32_t slot_index,
 
 const char* dispatch_container_quick_move(int64_t menu_id, int32_t slot_index) {
     if (!g_initialized || g_isolate == nullptr) return nullptr;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     const char* result = dart_mc_bridge::CallbackRegistry::instance().dispatchContainerQuickMove(
@@ -993,12 +1044,13 @@ const char* dispatch_container_quick_move(int64_t menu_id, int32_t slot_index) {
     return result;
 }
 
-bool dispatch_container_may_place(int64_t menu_id, int32_t slot_index, const char* item_data) {
+bool dispatch_container_may_place(int64_t menu_id, int32_t slot_index, int64_t item) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchContainerMayPlace(
-        menu_id, slot_index, item_data);
+        menu_id, slot_index, item);
     Dart_ExitScope();
     safe_exit_isolate(did_enter);
     return result;
@@ -1006,6 +1058,7 @@ bool dispatch_container_may_place(int64_t menu_id, int32_t slot_index, const cha
 
 bool dispatch_container_may_pickup(int64_t menu_id, int32_t slot_index) {
     if (!g_initialized || g_isolate == nullptr) return true;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchContainerMayPickup(
@@ -1226,6 +1279,10 @@ void register_proxy_entity_tick_handler(ProxyEntityTickCallback cb) {
     dart_mc_bridge::CallbackRegistry::instance().setProxyEntityTickHandler(cb);
 }
 
+void register_proxy_entity_tick_batch_handler(ProxyEntityTickBatchCallback cb) {
+    dart_mc_bridge::CallbackRegistry::instance().setProxyEntityTickBatchHandler(cb);
+}
+
 void register_proxy_entity_death_handler(ProxyEntityDeathCallback cb) {
     dart_mc_bridge::CallbackRegistry::instance().setProxyEntityDeathHandler(cb);
 }
@@ -1268,6 +1325,7 @@ void register_proxy_item_use_on_entity_handler(ProxyItemUseOnEntityCallback cb)
 
 void dispatch_proxy_entity_spawn(int64_t handler_id, int32_t entity_id, int64_t world_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntitySpawn(handler_id, entity_id, world_id);
@@ -1277,6 +1335,7 @@ void dispatch_proxy_entity_spawn(int64_t handler_id, int32_t entity_id, int64_t
 
 void dispatch_proxy_entity_tick(int64_t handler_id, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntityTick(handler_id, entity_id);
@@ -1284,8 +1343,27 @@ void dispatch_proxy_entity_tick(int64_t handler_id, int32_t entity_id) {
     safe_exit_isolate(did_enter);
 }
 
+void dispatch_proxy_entity_tick_batch(const int64_t* records, int32_t count) {
+    if (!g_initialized || g_isolate == nullptr || records == nullptr || count <= 0) return;
+    g_entity_tick_count += count;
+    PROFILE_DISPATCH(-1);
+    std::vector<int64_t> elapsed_ns(count, -1);
+    bool did_enter = safe_enter_isolate();
+    Dart_EnterScope();
+    dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntityTickBatch(records, count, elapsed_ns.data());
+    Dart_ExitScope();
+    safe_exit_isolate(did_enter);
+
+    // Per-entity-type times, reported under this batch
+    auto& profiler = dart_mc_bridge::DispatchProfiler::instance();
+    for (int32_t i = 0; i < count; i++) {
+        if (elapsed_ns[i] >= 0) profiler.recordHandler(profile_type_, records[i * 2], static_cast<uint64_t>(elapsed_ns[i]));
+    }
+}
+
 void dispatch_proxy_entity_death(int64_t handler_id, int32_t entity_id, const char* damage_source) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntityDeath(handler_id, entity_id, damage_source);
@@ -1295,6 +1373,7 @@ void dispatch_proxy_entity_death(int64_t handler_id, int32_t entity_id, const ch
 
 bool dispatch_proxy_entity_damage(int64_t handler_id, int32_t entity_id, const char* damage_source, double amount) {
     if (!g_initialized || g_isolate == nullptr) return true; // Allow damage if not initialized
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntityDamage(
@@ -1306,6 +1385,7 @@ bool dispatch_proxy_entity_damage(int64_t handler_id, int32_t entity_id, const c
 
 void dispatch_proxy_entity_attack(int64_t handler_id, int32_t entity_id, int32_t target_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntityAttack(handler_id, entity_id, target_id);
@@ -1315,6 +1395,7 @@ void dispatch_proxy_entity_attack(int64_t handler_id, int32_t entity_id, int32_t
 
 void dispatch_proxy_entity_target(int64_t handler_id, int32_t entity_id, int32_t target_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchProxyEntityTarget(handler_id, entity_id, target_id);
@@ -1328,6 +1409,7 @@ void dispatch_proxy_entity_target(int64_t handler_id, int32_t entity_id, int32_t
 
 bool dispatch_proxy_item_attack_entity(int64_t handler_id, int32_t world_id, int32_t attacker_id, int32_t target_id) {
     if (!g_initialized || g_isolate == nullptr) return true; // Allow attack if not initialized
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyItemAttackEntity(
@@ -1339,6 +1421,7 @@ bool dispatch_proxy_item_attack_entity(int64_t handler_id, int32_t world_id, int
 
 int32_t dispatch_proxy_item_use(int64_t handler_id, int64_t world_id, int32_t player_id, int32_t hand) {
     if (!g_initialized || g_isolate == nullptr) return 4; // PASS if not initialized
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyItemUse(
@@ -1350,6 +1433,7 @@ int32_t dispatch_proxy_item_use(int64_t handler_id, int64_t world_id, int32_t pl
 
 int32_t dispatch_proxy_item_use_on_block(int64_t handler_id, int64_t world_id, int32_t x, int32_t y, int32_t z, int32_t player_id, int32_t hand) {
     if (!g_initialized || g_isolate == nullptr) return 4; // PASS if not initialized
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyItemUseOnBlock(
@@ -1361,6 +1445,7 @@ int32_t dispatch_proxy_item_use_on_block(int64_t handler_id, int64_t world_id, i
 
 int32_t dispatch_proxy_item_use_on_entity(int64_t handler_id, int64_t world_id, int32_t entity_id, int32_t player_id, int32_t hand) {
     if (!g_initialized || g_isolate == nullptr) return 4; // PASS if not initialized
+    PROFILE_DISPATCH(handler_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchProxyItemUseOnEntity(
@@ -1378,12 +1463,13 @@ void register_command_execute_handler(CommandExecuteCallback cb) {
     dart_mc_bridge::CallbackRegistry::instance().setCommandExecuteHandler(cb);
 }
 
-int32_t dispatch_command_execute(int64_t command_id, int32_t player_id, const char* args_json) {
+int32_t dispatch_command_execute(int64_t command_id, int32_t player_id, int32_t frame_bytes) {
     if (!g_initialized || g_isolate == nullptr) return 0; // Failure if not initialized
+    PROFILE_DISPATCH(command_id);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     int32_t result = dart_mc_bridge::CallbackRegistry::instance().dispatchCommandExecute(
-        command_id, player_id, args_json);
+        command_id, player_id, frame_bytes);
     Dart_ExitScope();
     safe_exit_isolate(did_enter);
     return result;
@@ -1413,12 +1499,17 @@ void register_custom_goal_stop_handler(CustomGoalStopCallback cb) {
     dart_mc_bridge::CallbackRegistry::instance().setCustomGoalStopHandler(cb);
 }
 
+void register_custom_goal_batch_handler(CustomGoalBatchCallback cb) {
+    dart_mc_bridge::CallbackRegistry::instance().setCustomGoalBatchHandler(cb);
+}
+
 // ==========================================================================
 // Custom Goal Dispatch (called from Java via JNI)
 // ==========================================================================
 
 bool dispatch_custom_goal_can_use(const char* goal_id, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchCustomGoalCanUse(goal_id, entity_id);
@@ -1429,6 +1520,7 @@ bool dispatch_custom_goal_can_use(const char* goal_id, int32_t entity_id) {
 
 bool dispatch_custom_goal_can_continue_to_use(const char* goal_id, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return false;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     bool result = dart_mc_bridge::CallbackRegistry::instance().dispatchCustomGoalCanContinueToUse(goal_id, entity_id);
@@ -1439,6 +1531,7 @@ bool dispatch_custom_goal_can_continue_to_use(const char* goal_id, int32_t entit
 
 void dispatch_custom_goal_start(const char* goal_id, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchCustomGoalStart(goal_id, entity_id);
@@ -1448,6 +1541,7 @@ void dispatch_custom_goal_start(const char* goal_id, int32_t entity_id) {
 
 void dispatch_custom_goal_tick(const char* goal_id, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchCustomGoalTick(goal_id, entity_id);
@@ -1457,6 +1551,7 @@ void dispatch_custom_goal_tick(const char* goal_id, int32_t entity_id) {
 
 void dispatch_custom_goal_stop(const char* goal_id, int32_t entity_id) {
     if (!g_initialized || g_isolate == nullptr) return;
+    PROFILE_DISPATCH(-1);
     bool did_enter = safe_enter_isolate();
     Dart_EnterScope();
     dart_mc_bridge::CallbackRegistry::instance().dispatchCustomGoalStop(goal_id, entity_id);
@@ -1464,4 +1559,21 @@ void dispatch_custom_goal_stop(const char* goal_id, int32_t entity_id) {
     safe_exit_isolate(did_enter);
 }
 
+void dispatch_custom_goal_batch(int32_t* records, int32_t count) {
+    if (!g_initialized || g_isolate == nullptr || records == nullptr || count <= 0) return;
+    PROFILE_DISPATCH(-1);
+    std::vector<int64_t> elapsed_ns(count, -1);
+    bool did_enter = safe_enter_isolate();
+    Dart_EnterScope();
+    dart_mc_bridge::CallbackRegistry::instance().dispatchCustomGoalBatch(records, count, elapsed_ns.data());
+    Dart_ExitScope();
+    safe_exit_isolate(did_enter);
+
+    // Per-goal times (handler = goal index), reported under this batch
+    auto& profiler = dart_mc_bridge::DispatchProfiler::instance();
+    for (int32_t i = 0; i < count; i++) {
+        if (elapsed_ns[i] >= 0) profiler.recordHandler(profile_type_, records[i * 4 + 1], static_cast<uint64_t>(elapsed_ns[i]));
+    }
+}
+
 } // extern "C"
@@ -261,13 +261,14 @@ extern "C" {
     // ==========================================================================
 
     // Container menu callbacks (called from Dart via FFI)
+    // Item stacks are packed into int64 by com.redstone.ItemCodec
     // SlotClick: returns -1 to skip default handling, 0+ for custom result
     typedef int32_t (*ContainerSlotClickCallback)(int64_t menu_id, int32_t slot_index,
-                                                   int32_t button, int32_t click_type, const char* carried_item);
+                                                   int32_t button, int32_t click_type, int64_t carried_item);
     // QuickMove: returns serialized ItemStack or nullptr/empty for default
     typedef const char* (*ContainerQuickMoveCallback)(int64_t menu_id, int32_t slot_index);
     // MayPlace: returns true to allow placement, false to deny
-    typedef bool (*ContainerMayPlaceCallback)(int64_t menu_id, int32_t slot_index, const char* item_data);
+    typedef bool (*ContainerMayPlaceCallback)(int64_t menu_id, int32_t slot_index, int64_t item);
     // MayPickup: returns true to allow pickup, false to deny
     typedef bool (*ContainerMayPickupCallback)(int64_t menu_id, int32_t slot_index);
 
@@ -279,9 +280,9 @@ extern "C" {
 
     // Container menu dispatch functions (called from Java via JNI)
     int32_t dispatch_container_slot_click(int64_t menu_id, int32_t slot_index,
-                                           int32_t button, int32_t click_type, const char* carried_item);
+                                           int32_t button, int32_t click_type, int64_t carried_item);
     const char* dispatch_container_quick_move(int64_t menu_id, int32_t slot_index);
-    bool dispatch_container_may_place(int64_t menu_id, int32_t slot_index, const char* item_data);
+    bool dispatch_container_may_place(int64_t menu_id, int32_t slot_index, int64_t item);
     bool dispatch_container_may_pickup(int64_t menu_id, int32_t slot_index);
 
     // ==========================================================================
@@ -313,6 +314,9 @@ extern "C" {
     // Entity proxy callbacks (called from Dart via FFI, invoked from Java proxy classes)
     typedef void (*ProxyEntitySpawnCallback)(int64_t handler_id, int32_t entity_id, int64_t world_id);
     typedef void (*ProxyEntityTickCallback)(int64_t handler_id, int32_t entity_id);
+    // Batched tick: records holds count (handler_id, entity_id) pairs as int64 values;
+    // the handler writes the nanoseconds each record took into elapsed_ns
+    typedef void (*ProxyEntityTickBatchCallback)(const int64_t* records, int32_t count, int64_t* elapsed_ns);
     typedef void (*ProxyEntityDeathCallback)(int64_t handler_id, int32_t entity_id, const char* damage_source);
     typedef bool (*ProxyEntityDamageCallback)(int64_t handler_id, int32_t entity_id, const char* damage_source, double amount);
     typedef void (*ProxyEntityAttackCallback)(int64_t handler_id, int32_t entity_id, int32_t target_id);
@@ -329,6 +333,7 @@ extern "C" {
     // Entity proxy callback registration (called from Dart via FFI)
     void register_proxy_entity_spawn_handler(ProxyEntitySpawnCallback cb);
     void register_proxy_entity_tick_handler(ProxyEntityTickCallback cb);
+    void register_proxy_entity_tick_batch_handler(ProxyEntityTickBatchCallback cb);
     void register_proxy_entity_death_handler(ProxyEntityDeathCallback cb);
     void register_proxy_entity_damage_handler(ProxyEntityDamageCallback cb);
     void register_proxy_entity_attack_handler(ProxyEntityAttackCallback cb);
@@ -343,6 +348,7 @@ extern "C" {
     // Entity proxy dispatch functions (called from Java via JNI)
     void dispatch_proxy_entity_spawn(int64_t handler_id, int32_t entity_id, int64_t world_id);
     void dispatch_proxy_entity_tick(int64_t handler_id, int32_t entity_id);
+    void dispatch_proxy_entity_tick_batch(const int64_t* records, int32_t count);
     void dispatch_proxy_entity_death(int64_t handler_id, int32_t entity_id, const char* damage_source);
     bool dispatch_proxy_entity_damage(int64_t handler_id, int32_t entity_id, const char* damage_source, double amount);
     void dispatch_proxy_entity_attack(int64_t handler_id, int32_t entity_id, int32_t target_id);
@@ -362,13 +368,13 @@ extern "C" {
 
     // Command execute callback (called from Dart via FFI)
     // Returns the command result (0 = failure, positive = success)
-    typedef int32_t (*CommandExecuteCallback)(int64_t command_id, int32_t player_id, const char* args_json);
+    typedef int32_t (*CommandExecuteCallback)(int64_t command_id, int32_t player_id, int32_t frame_bytes);
 
     // Command callback registration (called from Dart via FFI)
     void register_command_execute_handler(CommandExecuteCallback cb);
 
     // Command dispatch function (called from Java via JNI)
-    int32_t dispatch_command_execute(int64_t command_id, int32_t player_id, const char* args_json);
+    int32_t dispatch_command_execute(int64_t command_id, int32_t player_id, int32_t frame_bytes);
 
     // ==========================================================================
     // Custom Goal Callbacks (for custom Dart entity goals)
@@ -385,6 +391,10 @@ extern "C" {
     typedef void (*CustomGoalTickCallback)(const char* goal_id, int32_t entity_id);
     // CustomGoalStopCallback is called when the goal stops
     typedef void (*CustomGoalStopCallback)(const char* goal_id, int32_t entity_id);
+    // CustomGoalBatchCallback evaluates count records of (kind, goal_index, entity_id, result)
+    // int32 values, writing canUse/canContinueToUse answers into each record's result
+    // and the nanoseconds each record took into elapsed_ns
+    typedef void (*CustomGoalBatchCallback)(int32_t* records, int32_t count, int64_t* elapsed_ns);
 
     // Custom goal callback registration (called from Dart via FFI)
     void register_custom_goal_can_use_handler(CustomGoalCanUseCallback cb);
@@ -392,6 +402,7 @@ extern "C" {
     void register_custom_goal_start_handler(CustomGoalStartCallback cb);
     void register_custom_goal_tick_handler(CustomGoalTickCallback cb);
     void register_custom_goal_stop_handler(CustomGoalStopCallback cb);
+    void register_custom_goal_batch_handler(CustomGoalBatchCallback cb);
 
     // Custom goal dispatch functions (called from Java via JNI)
     // Returns true if the goal can start
@@ -404,4 +415,6 @@ extern "C" {
     void dispatch_custom_goal_tick(const char* goal_id, int32_t entity_id);
     // Called when the goal stops
     void dispatch_custom_goal_stop(const char* goal_id, int32_t entity_id);
+    // Called once per server tick with the queued goal queries and ticks
+    void dispatch_custom_goal_batch(int32_t* records, int32_t count);
 }
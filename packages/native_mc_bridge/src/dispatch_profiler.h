@@ -0,0 +1,397 @@
+#pragma once
+
+#include <algorithm>
+#include <atomic>
+#include <chrono>
+#include <cstdint>
+#include <cstdio>
+#include <map>
+#include <mutex>
+#include <string>
+#include <unordered_map>
+#include <utility>
+#include <vector>
+
+namespace dart_mc_bridge {
+
+/**
+ * Always-on latency profiler for Java -> Dart dispatches.
+ *
+ * Each dispatch function records its wall time under its own name, and under
+ * (name, handler ID) for proxy dispatches, so a slow custom block or entity
+ * can be told apart from the others of its kind.
+ *
+ * Latencies go into log-linear histograms: every power of two is split into
+ * kSubBuckets linear steps, giving percentiles within ~25% at any scale with
+ * a fixed 1 KiB per histogram.
+ *
+ * Recording takes no lock: each thread writes its own counters (relaxed
+ * single-writer atomics), which report() merges. reset() bumps an epoch
+ * instead of touching other threads' counters; a thread clears its counters
+ * the next time it records in a new epoch.
+ *
+ * It also tracks the outermost dispatch currently running on each thread.
+ * For the budget thread (the server thread, see markBudgetThread()) it adds
+ * up the time spent in outermost dispatches since the last takeDartNanos(),
+ * which the Java watchdog uses for the per-tick Dart time budget and hang
+ * warnings; dispatches on other threads (e.g. the client) count toward
+ * neither. Nested dispatches (Dart -> Java -> Dart) are part of their outer
+ * call's time.
+ */
+class DispatchProfiler {
+public:
+    static constexpr int kSubBucketBits = 2;
+    static constexpr int kSubBuckets = 1 << kSubBucketBits;
+    static constexpr int kBuckets = 64 * kSubBuckets;
+
+    // Maximum number of dispatch types (one per PROFILE_DISPATCH function)
+    static constexpr int kMaxTypes = 256;
+
+    // Merged histogram built by report()
+    struct Stats {
+        uint64_t count = 0;
+        uint64_t total_ns = 0;
+        uint64_t max_ns = 0;
+        uint64_t buckets[kBuckets] = {};
+
+        // Upper bound of the bucket holding the given percentile (0-100)
+        uint64_t percentile(double p) const {
+            if (count == 0) return 0;
+            uint64_t target = static_cast<uint64_t>(count * p / 100.0);
+            if (target >= count) target = count - 1;
+            uint64_t seen = 0;
+            for (int i = 0; i < kBuckets; i++) {
+                seen += buckets[i];
+                if (seen > target) return std::min(bucketUpperBound(i), max_ns);
+            }
+            return max_ns;
+        }
+    };
+
+    // One thread's histogram. Only the owning thread writes it.
+    struct Counters {
+        std::atomic<uint64_t> count{0};
+        std::atomic<uint64_t> total_ns{0};
+        std::atomic<uint64_t> max_ns{0};
+        std::atomic<uint32_t> buckets[kBuckets]{};
+
+        void add(uint64_t ns) {
+            bump<uint64_t>(count, 1);
+            bump(total_ns, ns);
+            if (ns > max_ns.load(std::memory_order_relaxed)) max_ns.store(ns, std::memory_order_relaxed);
+            bump<uint32_t>(buckets[bucketOf(ns)], 1);
+        }
+
+        void clear() {
+            count.store(0, std::memory_order_relaxed);
+            total_ns.store(0, std::memory_order_relaxed);
+            max_ns.store(0, std::memory_order_relaxed);
+            for (auto& bucket : buckets) bucket.store(0, std::memory_order_relaxed);
+        }
+
+        void mergeInto(Stats& out) const {
+            out.count += count.load(std::memory_order_relaxed);
+            out.total_ns += total_ns.load(std::memory_order_relaxed);
+            out.max_ns = std::max<uint64_t>(out.max_ns, max_ns.load(std::memory_order_relaxed));
+            for (int i = 0; i < kBuckets; i++) out.buckets[i] += buckets[i].load(std::memory_order_relaxed);
+        }
+
+    private:
+        // Single writer, so a plain load + store is enough
+        template <typename T>
+        static void bump(std::atomic<T>& value, T by) {
+            value.store(value.load(std::memory_order_relaxed) + by, std::memory_order_relaxed);
+        }
+    };
+
+    static DispatchProfiler& instance() {
+        static DispatchProfiler profiler;
+        return profiler;
+    }
+
+    // Register a dispatch type by name. Called once per dispatch function.
+    // Returns -1 (not recorded) past kMaxTypes.
+    int registerType(const char* name) {
+        std::lock_guard<std::mutex> lock(mutex_);
+        if (names_.size() >= static_cast<size_t>(kMaxTypes)) return -1;
+        names_.emplace_back(name);
+        return static_cast<int>(names_.size() - 1);
+    }
+
+    // Record one dispatch. handler_id < 0 records the type only.
+    void record(int type, int64_t handler_id, uint64_t ns) {
+        if (type < 0 || type >= kMaxTypes) return;
+        ThreadCounters& local = threadCounters();
+        local.typeCounters(type).add(ns);
+        if (handler_id >= 0) local.handlerCounters(type, handler_id).add(ns);
+    }
+
+    // Record the time one handler took inside a batched dispatch, whose
+    // own total is recorded by its ProfileScope.
+    void recordHandler(int type, int64_t handler_id, uint64_t ns) {
+        if (type < 0 || type >= kMaxTypes || handler_id < 0) return;
+        threadCounters().handlerCounters(type, handler_id).add(ns);
+    }
+
+    // Called by ProfileScope for outermost dispatches only
+    void beginActive(int type, int64_t handler_id, int64_t start_ns) {
+        ThreadCounters& local = threadCounters();
+        local.active_type.store(type, std::memory_order_relaxed);
+        local.active_handler.store(handler_id, std::memory_order_relaxed);
+        local.active_start_ns.store(start_ns, std::memory_order_release);
+    }
+
+    void endActive(uint64_t ns) {
+        ThreadCounters& local = threadCounters();
+        local.active_start_ns.store(0, std::memory_order_release);
+        if (&local == budget_thread_.load(std::memory_order_relaxed)) {
+            dart_ns_.fetch_add(ns, std::memory_order_relaxed);
+        }
+    }
+
+    // Make the calling thread the one whose dispatches count toward the
+    // Dart time budget and are reported by activeNanos()/activeName()
+    void markBudgetThread() {
+        budget_thread_.store(&threadCounters(), std::memory_order_release);
+        dart_ns_.store(0, std::memory_order_relaxed);
+    }
+
+    // Time spent in outermost dispatches since the last call with reset = true
+    uint64_t takeDartNanos(bool reset) {
+        return reset ? dart_ns_.exchange(0, std::memory_order_relaxed)
+                     : dart_ns_.load(std::memory_order_relaxed);
+    }
+
+    // How long the budget thread's running outermost dispatch has taken so
+    // far, 0 if none
+    int64_t activeNanos() const {
+        ThreadCounters* thread = budget_thread_.load(std::memory_order_acquire);
+        if (thread == nullptr) return 0;
+        int64_t start = thread->active_start_ns.load(std::memory_order_acquire);
+        if (start == 0) return 0;
+        return std::max<int64_t>(1, nowNanos() - start);
+    }
+
+    // Name (and handler ID) of the budget thread's running outermost
+    // dispatch, empty if none
+    std::string activeName() {
+        ThreadCounters* thread = budget_thread_.load(std::memory_order_acquire);
+        if (thread == nullptr || thread->active_start_ns.load(std::memory_order_acquire) == 0) return "";
+        int type = thread->active_type.load(std::memory_order_relaxed);
+        int64_t handler_id = thread->active_handler.load(std::memory_order_relaxed);
+        std::lock_guard<std::mutex> lock(mutex_);
+        if (type < 0 || type >= static_cast<int>(names_.size())) return "";
+        std::string name = names_[type];
+        if (handler_id >= 0) name += " (handler " + std::to_string(handler_id) + ")";
+        return name;
+    }
+
+    static int64_t nowNanos() {
+        return std::chrono::duration_cast<std::chrono::nanoseconds>(
+            std::chrono::steady_clock::now().time_since_epoch()).count();
+    }
+
+    void reset() {
+        std::lock_guard<std::mutex> lock(mutex_);
+        epoch_.fetch_add(1, std::memory_order_relaxed);
+        since_ = std::chrono::steady_clock::now();
+    }
+
+    /**
+     * Text report of all dispatch types with at least one call, slowest
+     * total first, each followed by its handlers. Times in microseconds.
+     */
+    std::string report() {
+        std::lock_guard<std::mutex> lock(mutex_);
+        auto seconds = std::chrono::duration_cast<std::chrono::seconds>(
+            std::chrono::steady_clock::now() - since_).count();
+
+        // Merge the counters of every thread that recorded in this epoch
+        std::vector<Stats> types(names_.size());
+        std::map<std::pair<int, int64_t>, Stats> handlers;
+        uint64_t epoch = epoch_.load(std::memory_order_relaxed);
+        for (ThreadCounters* thread = threads_; thread != nullptr; thread = thread->next) {
+            if (thread->epoch.load(std::memory_order_acquire) != epoch) continue;
+            for (size_t i = 0; i < types.size(); i++) {
+                Counters* counters = thread->types[i].load(std::memory_order_acquire);
+                if (counters != nullptr) counters->mergeInto(types[i]);
+            }
+            for (HandlerCounters* node = thread->handlers.load(std::memory_order_acquire);
+                 node != nullptr; node = node->next) {
+                node->counters.mergeInto(handlers[{node->type, node->handler_id}]);
+            }
+        }
+
+        std::vector<int> order;
+        for (int i = 0; i < static_cast<int>(types.size()); i++) {
+            if (types[i].count > 0) order.push_back(i);
+        }
+        std::sort(order.begin(), order.end(), [&types](int a, int b) {
+            return types[a].total_ns > types[b].total_ns;
+        });
+
+        std::string out = "Dart dispatch profile over " + std::to_string(seconds) + "s"
+            + " (times in us: total mean p50 p90 p99 max)\n";
+        for (int type : order) {
+            appendLine(out, names_[type], types[type], "");
+            for (const auto& entry : handlers) {
+                if (entry.first.first != type || entry.second.count == 0) continue;
+                appendLine(out, "handler " + std::to_string(entry.first.second), entry.second, "  ");
+            }
+        }
+        return out;
+    }
+
+private:
+    DispatchProfiler() : since_(std::chrono::steady_clock::now()) {}
+
+    struct HandlerCounters {
+        int type;
+        int64_t handler_id;
+        Counters counters;
+        HandlerCounters* next;
+    };
+
+    // Counters of one recording thread. Kept for the life of the process so
+    // report() can still merge them after the thread exits.
+    struct ThreadCounters {
+        std::atomic<uint64_t> epoch{0};
+        std::atomic<Counters*> types[kMaxTypes]{};
+        // Published to report() as a list; looked up by the owner in index
+        std::atomic<HandlerCounters*> handlers{nullptr};
+        std::unordered_map<int64_t, HandlerCounters*> index[kMaxTypes];
+        ThreadCounters* next = nullptr;
+
+        // Outermost dispatch running on this thread (start 0 if none)
+        std::atomic<int64_t> active_start_ns{0};
+        std::atomic<int> active_type{-1};
+        std::atomic<int64_t> active_handler{-1};
+
+        Counters& typeCounters(int type) {
+            Counters* counters = types[type].load(std::memory_order_relaxed);
+            if (counters == nullptr) {
+                counters = new Counters();
+                types[type].store(counters, std::memory_order_release);
+            }
+            return *counters;
+        }
+
+        Counters& handlerCounters(int type, int64_t handler_id) {
+            HandlerCounters*& node = index[type][handler_id];
+            if (node == nullptr) {
+                node = new HandlerCounters{type, handler_id, {}, handlers.load(std::memory_order_relaxed)};
+                handlers.store(node, std::memory_order_release);
+            }
+            return node->counters;
+        }
+
+        // Drop this thread's counts if reset() ran since it last recorded
+        void syncEpoch(uint64_t current) {
+            if (epoch.load(std::memory_order_relaxed) == current) return;
+            for (auto& counters : types) {
+                Counters* c = counters.load(std::memory_order_relaxed);
+                if (c != nullptr) c->clear();
+            }
+            for (HandlerCounters* node = handlers.load(std::memory_order_relaxed); node != nullptr; node = node->next) {
+                node->counters.clear();
+            }
+            epoch.store(current, std::memory_order_release);
+        }
+    };
+
+    ThreadCounters& threadCounters() {
+        thread_local ThreadCounters* local = nullptr;
+        if (local == nullptr) {
+            local = new ThreadCounters();
+            std::lock_guard<std::mutex> lock(mutex_);
+            local->epoch.store(epoch_.load(std::memory_order_relaxed), std::memory_order_relaxed);
+            local->next = threads_;
+            threads_ = local;
+        }
+        local->syncEpoch(epoch_.load(std::memory_order_relaxed));
+        return *local;
+    }
+
+    static int bucketOf(uint64_t ns) {
+        if (ns < kSubBuckets) return static_cast<int>(ns);
+        int log2 = 63 - __builtin_clzll(ns);
+        int sub = static_cast<int>((ns >> (log2 - kSubBucketBits)) & (kSubBuckets - 1));
+        int bucket = (log2 - kSubBucketBits + 1) * kSubBuckets + sub;
+        return std::min(bucket, kBuckets - 1);
+    }
+
+    static uint64_t bucketUpperBound(int bucket) {
+        if (bucket < kSubBuckets) return static_cast<uint64_t>(bucket);
+        int log2 = bucket / kSubBuckets + kSubBucketBits - 1;
+        uint64_t sub = static_cast<uint64_t>(bucket % kSubBuckets);
+        uint64_t step = 1ULL << (log2 - kSubBucketBits);
+        return (1ULL << log2) + (sub + 1) * step - 1;
+    }
+
+    static void appendLine(std::string& out, const std::string& name, const Stats& s, const char* indent) {
+        char line[256];
+        std::snprintf(line, sizeof(line),
+            "%s%-44s calls=%-9llu total=%-10.0f mean=%-8.1f p50=%-8.1f p90=%-8.1f p99=%-8.1f max=%.1f\n",
+            indent, name.c_str(),
+            static_cast<unsigned long long>(s.count),
+            s.total_ns / 1000.0,
+            s.count > 0 ? s.total_ns / 1000.0 / s.count : 0.0,
+            s.percentile(50) / 1000.0,
+            s.percentile(90) / 1000.0,
+            s.percentile(99) / 1000.0,
+            s.max_ns / 1000.0);
+        out += line;
+    }
+
+    std::mutex mutex_;
+    std::vector<std::string> names_;
+    ThreadCounters* threads_ = nullptr;
+    std::atomic<uint64_t> epoch_{0};
+    std::chrono::steady_clock::time_point since_;
+
+    std::atomic<uint64_t> dart_ns_{0};
+    std::atomic<ThreadCounters*> budget_thread_{nullptr};
+};
+
+/**
+ * Records the lifetime of the enclosing dispatch function.
+ */
+class ProfileScope {
+public:
+    ProfileScope(int type, int64_t handler_id)
+        : type_(type), handler_id_(handler_id), start_ns_(DispatchProfiler::nowNanos()),
+          outermost_(depth()++ == 0) {
+        if (outermost_) DispatchProfiler::instance().beginActive(type_, handler_id_, start_ns_);
+    }
+
+    ~ProfileScope() {
+        depth()--;
+        uint64_t ns = static_cast<uint64_t>(DispatchProfiler::nowNanos() - start_ns_);
+        DispatchProfiler& profiler = DispatchProfiler::instance();
+        if (outermost_) profiler.endActive(ns);
+        profiler.record(type_, handler_id_, ns);
+    }
+
+    ProfileScope(const ProfileScope&) = delete;
+    ProfileScope& operator=(const ProfileScope&) = delete;
+
+private:
+    static int& depth() {
+        thread_local int depth = 0;
+        return depth;
+    }
+
+    int type_;
+    int64_t handler_id_;
+    int64_t start_ns_;
+    bool outermost_;
+};
+
+} // namespace dart_mc_bridge
+
+// Profile the enclosing dispatch function under its own name.
+// Pass the proxy handler ID, or -1 for dispatches without one.
+#define PROFILE_DISPATCH(handler_id) \
+    static const int profile_type_ = \
+        dart_mc_bridge::DispatchProfiler::instance().registerType(__func__); \
+    dart_mc_bridge::ProfileScope profile_scope_(profile_type_, static_cast<int64_t>(handler_id))
@@ -4,6 +4,7 @@
 #include <unordered_map>
 #include <string>
 #include <mutex>
+#include <atomic>
 #include <vector>
 #include <cstring>
 #include <iostream>
@@ -18,6 +19,18 @@ static std::unordered_map<std::string, jmethodID> method_cache;
 static std::unordered_map<std::string, jfieldID> field_cache;
 static std::mutex cache_mutex;
 
+// Bound static methods: slots are append-only and published through
+// bound_method_count, so calls by slot read the table without locking.
+struct BoundMethod {
+    jclass cls;
+    jmethodID mid;
+    std::string sig;
+};
+static constexpr int32_t kMaxBoundMethods = 4096;
+static BoundMethod bound_methods[kMaxBoundMethods];
+static std::atomic<int32_t> bound_method_count{0};
+static std::unordered_map<std::string, int32_t> bound_method_slots;
+
 // ============================================================================
 // Helper Functions
 // ============================================================================
@@ -276,6 +289,17 @@ static std::vector<jvalue> convert_args(JNIEnv* env, const char* sig,
     return jargs;
 }
 
+/**
+ * Look up a bound method by slot. Lock-free; returns nullptr for unbound slots.
+ */
+static const BoundMethod* get_bound_method(int32_t slot) {
+    if (slot < 0 || slot >= bound_method_count.load(std::memory_order_acquire)) {
+        std::cerr << "generic_jni: Invalid method slot: " << slot << std::endl;
+        return nullptr;
+    }
+    return &bound_methods[slot];
+}
+
 /**
  * Check for and handle JNI exceptions.
  * Returns true if an exception occurred.
@@ -314,6 +338,8 @@ void generic_jni_shutdown() {
         class_cache.clear();
         method_cache.clear();
         field_cache.clear();
+        bound_method_slots.clear();
+        bound_method_count.store(0, std::memory_order_release);
     }
 
     g_jvm = nullptr;
@@ -684,6 +710,163 @@ bool jni_call_static_bool_method(const char* class_name, const char* method_name
     return result != JNI_FALSE;
 }
 
+// ============================================================================
+// Bound Static Method Calls
+// ============================================================================
+
+int32_t jni_bind_static_method(const char* class_name, const char* method_name,
+                               const char* sig) {
+    JNIEnv* env = get_env();
+    if (!env) return -1;
+
+    std::string key = std::string(class_name) + "." + method_name + sig;
+    {
+        std::lock_guard<std::mutex> lock(cache_mutex);
+        auto it = bound_method_slots.find(key);
+        if (it != bound_method_slots.end()) {
+            return it->second;
+        }
+    }
+
+    jclass cls = get_class(env, class_name);
+    if (!cls) return -1;
+
+    jmethodID mid = get_method(env, cls, class_name, method_name, sig, true);
+    if (!mid) return -1;
+
+    std::lock_guard<std::mutex> lock(cache_mutex);
+    auto it = bound_method_slots.find(key);
+    if (it != bound_method_slots.end()) {
+        return it->second;
+    }
+
+    int32_t slot = bound_method_count.load(std::memory_order_relaxed);
+    if (slot >= kMaxBoundMethods) {
+        std::cerr << "generic_jni: Bound method table full, cannot bind "
+                  << class_name << "." << method_name << sig << std::endl;
+        return -1;
+    }
+
+    bound_methods[slot].cls = cls;
+    bound_methods[slot].mid = mid;
+    bound_methods[slot].sig = sig;
+    bound_method_slots[key] = slot;
+    bound_method_count.store(slot + 1, std::memory_order_release);
+
+    return slot;
+}
+
+void jni_call_bound_void_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    env->CallStaticVoidMethodA(m->cls, m->mid, jargs.empty() ? nullptr : jargs.data());
+    check_exception(env);
+}
+
+int32_t jni_call_bound_int_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return 0;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return 0;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    jint result = env->CallStaticIntMethodA(m->cls, m->mid, jargs.empty() ? nullptr : jargs.data());
+
+    if (check_exception(env)) return 0;
+    return result;
+}
+
+int64_t jni_call_bound_long_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return 0;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return 0;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    jlong result = env->CallStaticLongMethodA(m->cls, m->mid, jargs.empty() ? nullptr : jargs.data());
+
+    if (check_exception(env)) return 0;
+    return result;
+}
+
+int64_t jni_call_bound_object_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return 0;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return 0;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    jobject result = env->CallStaticObjectMethodA(m->cls, m->mid, jargs.empty() ? nullptr : jargs.data());
+
+    if (check_exception(env) || result == nullptr) {
+        return 0;
+    }
+
+    int64_t handle = dart_mc_bridge::ObjectRegistry::instance().store(env, result);
+    env->DeleteLocalRef(result);
+
+    return handle;
+}
+
+const char* jni_call_bound_string_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return nullptr;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return nullptr;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    jstring jstr = static_cast<jstring>(env->CallStaticObjectMethodA(m->cls, m->mid,
+                                        jargs.empty() ? nullptr : jargs.data()));
+
+    if (check_exception(env) || jstr == nullptr) {
+        return nullptr;
+    }
+
+    const char* utf = env->GetStringUTFChars(jstr, nullptr);
+    char* result = strdup(utf);
+    env->ReleaseStringUTFChars(jstr, utf);
+    env->DeleteLocalRef(jstr);
+
+    return result;
+}
+
+double jni_call_bound_double_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return 0.0;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return 0.0;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    jdouble result = env->CallStaticDoubleMethodA(m->cls, m->mid, jargs.empty() ? nullptr : jargs.data());
+
+    if (check_exception(env)) return 0.0;
+    return result;
+}
+
+bool jni_call_bound_bool_method(int32_t slot, int64_t* args, int32_t arg_count) {
+    JNIEnv* env = get_env();
+    if (!env) return false;
+
+    const BoundMethod* m = get_bound_method(slot);
+    if (!m) return false;
+
+    auto jargs = convert_args(env, m->sig.c_str(), args, arg_count);
+    jboolean result = env->CallStaticBooleanMethodA(m->cls, m->mid, jargs.empty() ? nullptr : jargs.data());
+
+    if (check_exception(env)) return false;
+    return result != JNI_FALSE;
+}
+
 // ============================================================================
 // Field Access (Instance)
 // ============================================================================
@@ -958,6 +1141,34 @@ int32_t jni_get_static_int_field(const char* class_name, const char* field_name,
     return result;
 }
 
+// ============================================================================
+// Direct Buffer Access
+// ============================================================================
+
+void* jni_get_direct_buffer_address(int64_t buffer_handle) {
+    if (buffer_handle == 0) return nullptr;
+
+    JNIEnv* env = get_env();
+    if (!env) return nullptr;
+
+    jobject buffer = dart_mc_bridge::ObjectRegistry::instance().get(buffer_handle);
+    if (buffer == nullptr) return nullptr;
+
+    return env->GetDirectBufferAddress(buffer);
+}
+
+int64_t jni_get_direct_buffer_capacity(int64_t buffer_handle) {
+    if (buffer_handle == 0) return -1;
+
+    JNIEnv* env = get_env();
+    if (!env) return -1;
+
+    jobject buffer = dart_mc_bridge::ObjectRegistry::instance().get(buffer_handle);
+    if (buffer == nullptr) return -1;
+
+    return static_cast<int64_t>(env->GetDirectBufferCapacity(buffer));
+}
+
 // ============================================================================
 // Object Lifecycle
 // ============================================================================
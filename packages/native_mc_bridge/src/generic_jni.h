@@ -90,6 +90,37 @@ double jni_call_static_double_method(const char* class_name, const char* method_
 bool jni_call_static_bool_method(const char* class_name, const char* method_name,
                                  const char* sig, int64_t* args, int32_t arg_count);
 
+// ============================================================================
+// Bound Static Method Calls
+// ============================================================================
+
+/**
+ * Resolve a static method once and bind it to an integer slot.
+ * Binding the same method again returns the same slot. Calls through a slot
+ * skip the class/method cache lookup and take no locks.
+ * @return Slot index, or -1 if the method could not be resolved
+ */
+int32_t jni_bind_static_method(const char* class_name, const char* method_name,
+                               const char* sig);
+
+void jni_call_bound_void_method(int32_t slot, int64_t* args, int32_t arg_count);
+
+int32_t jni_call_bound_int_method(int32_t slot, int64_t* args, int32_t arg_count);
+
+int64_t jni_call_bound_long_method(int32_t slot, int64_t* args, int32_t arg_count);
+
+int64_t jni_call_bound_object_method(int32_t slot, int64_t* args, int32_t arg_count);
+
+/**
+ * Call a bound method that returns a String.
+ * @return UTF-8 string that must be freed by caller using jni_free_string(), or nullptr
+ */
+const char* jni_call_bound_string_method(int32_t slot, int64_t* args, int32_t arg_count);
+
+double jni_call_bound_double_method(int32_t slot, int64_t* args, int32_t arg_count);
+
+bool jni_call_bound_bool_method(int32_t slot, int64_t* args, int32_t arg_count);
+
 // ============================================================================
 // Field Access
 // ============================================================================
@@ -137,6 +168,25 @@ int64_t jni_get_static_object_field(const char* class_name, const char* field_na
 int32_t jni_get_static_int_field(const char* class_name, const char* field_name,
                                  const char* sig);
 
+// ============================================================================
+// Direct Buffer Access
+// ============================================================================
+
+/**
+ * Get the native address of a direct java.nio.Buffer.
+ * The memory stays valid for as long as the Java buffer is reachable, so
+ * callers should keep the handle alive while they read or write through it.
+ * @param buffer_handle Handle to a direct buffer (e.g., from ByteBuffer.allocateDirect)
+ * @return Pointer to the buffer contents, or nullptr if not a direct buffer
+ */
+void* jni_get_direct_buffer_address(int64_t buffer_handle);
+
+/**
+ * Get the capacity of a direct java.nio.Buffer in elements.
+ * @return Capacity, or -1 if not a direct buffer
+ */
+int64_t jni_get_direct_buffer_capacity(int64_t buffer_handle);
+
 // ============================================================================
 // Object Lifecycle
 // ============================================================================
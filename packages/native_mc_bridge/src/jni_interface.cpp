@@ -1,4 +1,5 @@
 #include "dart_bridge.h"
+#include "dispatch_profiler.h"
 
 #include <jni.h>
 #include <iostream>
@@ -383,6 +384,77 @@ JNIEXPORT jstring JNICALL Java_com_redstone_DartBridge_getDartServiceUrl(
     return nullptr;
 }
 
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    getDispatchProfile
+ * Signature: ()Ljava/lang/String;
+ *
+ * Returns the dispatch latency report (see dispatch_profiler.h).
+ */
+JNIEXPORT jstring JNICALL Java_com_redstone_DartBridge_getDispatchProfile(
+    JNIEnv* env, jclass /* cls */) {
+    std::string report = dart_mc_bridge::DispatchProfiler::instance().report();
+    return env->NewStringUTF(report.c_str());
+}
+
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    resetDispatchProfile
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_com_redstone_DartBridge_resetDispatchProfile(
+    JNIEnv* /* env */, jclass /* cls */) {
+    dart_mc_bridge::DispatchProfiler::instance().reset();
+}
+
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    getDartNanos
+ * Signature: (Z)J
+ *
+ * Time spent in Dart dispatches since the last call with reset = true.
+ */
+JNIEXPORT jlong JNICALL Java_com_redstone_DartBridge_getDartNanos(
+    JNIEnv* /* env */, jclass /* cls */, jboolean reset) {
+    return static_cast<jlong>(dart_mc_bridge::DispatchProfiler::instance().takeDartNanos(reset == JNI_TRUE));
+}
+
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    markDartBudgetThread
+ * Signature: ()V
+ *
+ * Called on the server thread; only its dispatches count toward the budget.
+ */
+JNIEXPORT void JNICALL Java_com_redstone_DartBridge_markDartBudgetThread(
+    JNIEnv* /* env */, jclass /* cls */) {
+    dart_mc_bridge::DispatchProfiler::instance().markBudgetThread();
+}
+
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    getActiveDispatchNanos
+ * Signature: ()J
+ *
+ * Called from the watchdog thread; 0 if no dispatch is running on the
+ * server thread.
+ */
+JNIEXPORT jlong JNICALL Java_com_redstone_DartBridge_getActiveDispatchNanos(
+    JNIEnv* /* env */, jclass /* cls */) {
+    return static_cast<jlong>(dart_mc_bridge::DispatchProfiler::instance().activeNanos());
+}
+
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    getActiveDispatchName
+ * Signature: ()Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_redstone_DartBridge_getActiveDispatchName(
+    JNIEnv* env, jclass /* cls */) {
+    std::string name = dart_mc_bridge::DispatchProfiler::instance().activeName();
+    return env->NewStringUTF(name.c_str());
+}
+
 // ==========================================================================
 // New Event JNI Entry Points
 // ==========================================================================
@@ -870,19 +942,18 @@ JNIEXPORT void JNICALL Java_com_redstone_DartBridge_onContainerScreenClose(
 /*
  * Class:     com_redstone_DartBridge
  * Method:    onContainerSlotClick
- * Signature: (JIIILjava/lang/String;)I
+ * Signature: (JIIIJ)I
  *
  * Called when a slot is clicked in a container menu.
  * Returns -1 to skip default handling, 0+ for custom result.
  */
 JNIEXPORT jint JNICALL Java_com_redstone_DartBridge_onContainerSlotClick(
     JNIEnv* env, jclass /* cls */, jlong menuId, jint slotIndex,
-    jint button, jint clickType, jstring carriedItem) {
-    const char* item = env->GetStringUTFChars(carriedItem, nullptr);
+    jint button, jint clickType, jlong carriedItem) {
     int32_t result = dispatch_container_slot_click(
         static_cast<int64_t>(menuId), static_cast<int32_t>(slotIndex),
-        static_cast<int32_t>(button), static_cast<int32_t>(clickType), item);
-    env->ReleaseStringUTFChars(carriedItem, item);
+        static_cast<int32_t>(button), static_cast<int32_t>(clickType),
+        static_cast<int64_t>(carriedItem));
     return static_cast<jint>(result);
 }
 
@@ -909,17 +980,15 @@ JNIEXPORT jstring JNICALL Java_com_redstone_DartBridge_onContainerQuickMove(
 /*
  * Class:     com_redstone_DartBridge
  * Method:    onContainerMayPlace
- * Signature: (JILjava/lang/String;)Z
+ * Signature: (JIJ)Z
  *
  * Called to check if an item may be placed in a slot.
  * Returns true to allow, false to deny.
  */
 JNIEXPORT jboolean JNICALL Java_com_redstone_DartBridge_onContainerMayPlace(
-    JNIEnv* env, jclass /* cls */, jlong menuId, jint slotIndex, jstring itemData) {
-    const char* item = env->GetStringUTFChars(itemData, nullptr);
+    JNIEnv* /* env */, jclass /* cls */, jlong menuId, jint slotIndex, jlong item) {
     bool result = dispatch_container_may_place(
-        static_cast<int64_t>(menuId), static_cast<int32_t>(slotIndex), item);
-    env->ReleaseStringUTFChars(itemData, item);
+        static_cast<int64_t>(menuId), static_cast<int32_t>(slotIndex), static_cast<int64_t>(item));
     return result ? JNI_TRUE : JNI_FALSE;
 }
 
@@ -973,6 +1042,24 @@ JNIEXPORT void JNICALL Java_com_redstone_DartBridge_onProxyEntityTick(
                                 static_cast<int32_t>(entityId));
 }
 
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    onProxyEntityTickBatch
+ * Signature: (Ljava/nio/ByteBuffer;I)V
+ *
+ * Called once per server tick with every Dart-defined entity whose tick
+ * policy made it due. The direct buffer holds count (handlerId, entityId)
+ * pairs as native-order int64 values.
+ * Routes to Dart's EntityRegistry.dispatchTick() for each pair.
+ */
+JNIEXPORT void JNICALL Java_com_redstone_DartBridge_onProxyEntityTickBatch(
+    JNIEnv* env, jclass /* cls */,
+    jobject records, jint count) {
+    auto* data = static_cast<const int64_t*>(env->GetDirectBufferAddress(records));
+    if (data == nullptr) return;
+    dispatch_proxy_entity_tick_batch(data, static_cast<int32_t>(count));
+}
+
 /*
  * Class:     com_redstone_DartBridge
  * Method:    onProxyEntityDeath
@@ -1135,16 +1222,12 @@ JNIEXPORT jint JNICALL Java_com_redstone_DartBridge_onProxyItemUseOnEntity(
 
 JNIEXPORT jint JNICALL Java_com_redstone_DartBridge_onCommandExecute(
     JNIEnv* env, jclass /* cls */,
-    jlong commandId, jint playerId, jstring argsJson) {
-    const char* args = argsJson ? env->GetStringUTFChars(argsJson, nullptr) : "";
-    jint result = static_cast<jint>(dispatch_command_execute(
+    jlong commandId, jint playerId, jint frameBytes) {
+    // Arguments are in the shared frame buffer (see CommandRegistry)
+    return static_cast<jint>(dispatch_command_execute(
         static_cast<int64_t>(commandId),
         static_cast<int32_t>(playerId),
-        args));
-    if (argsJson) {
-        env->ReleaseStringUTFChars(argsJson, args);
-    }
-    return result;
+        static_cast<int32_t>(frameBytes)));
 }
 
 // ==========================================================================
@@ -1225,4 +1308,21 @@ JNIEXPORT void JNICALL Java_com_redstone_DartBridge_nativeOnCustomGoalStop(
     env->ReleaseStringUTFChars(goalId, goal_id);
 }
 
+/*
+ * Class:     com_redstone_DartBridge
+ * Method:    nativeOnCustomGoalBatch
+ * Signature: (Ljava/nio/ByteBuffer;I)V
+ *
+ * Called once per server tick by GoalScheduler with every queued custom goal
+ * query and tick. The direct buffer holds count (kind, goalIndex, entityId,
+ * result) records as native-order int32 values; Dart fills in the results.
+ */
+JNIEXPORT void JNICALL Java_com_redstone_DartBridge_nativeOnCustomGoalBatch(
+    JNIEnv* env, jclass /* cls */,
+    jobject records, jint count) {
+    auto* data = static_cast<int32_t*>(env->GetDirectBufferAddress(records));
+    if (data == nullptr) return;
+    dispatch_custom_goal_batch(data, static_cast<int32_t>(count));
+}
+
 } // extern "C"